@@ -0,0 +1,309 @@
+package com.sparta.api.broker;
+
+import java.lang.invoke.VarHandle;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * 테이블 토픽 전용 인메모리 브로커 (Spring SimpleBroker 대신)
+ * - 토픽(테이블)마다 미리 할당한 링 버퍼 하나, 쓰는 쪽은 하나 (TableBroadcaster 가 테이블별로 직렬화해서 publish)
+ * - 구독자는 각자 읽을 위치(커서)만 들고 있고, 메시지를 구독자별 큐에 복사하지 않음
+ *   -> 구독자가 늘어도 토픽 메모리는 링 크기 그대로, publish 는 링에 한 번 쓰고 구독자를 깨우기만 함
+ * - 전송은 디스패처 스레드 풀에서 구독자마다 한 스레드씩 (느린 구독자가 다른 구독자를 막지 않음)
+ * - 느린 구독자: 출력이 밀려 있으면(ready=false) 기다리고, 그 사이 새 KEYFRAME 이 나오면 그 앞 DELTA 는 건너뜀
+ *   출력 쪽이 여유가 생겼다고 알려주지 않아도 RETRY_DELAY_MS 뒤에 다시 확인 (publish 가 멈춘 테이블에서도 마저 보냄)
+ *   링을 한 바퀴 넘게 뒤처져도 마지막 KEYFRAME 으로 건너뜀 -> 무한히 쌓이지 않음
+ * - 새 구독자는 마지막 KEYFRAME 부터 읽음 (별도 요청 없이 현재 상태 + 이후 변경)
+ * - 다시 연결한 구독자가 마지막으로 받은 버전을 주면 링에서 그 다음 프레임부터 (놓친 DELTA 만)
+ *   링에 그 버전이 없으면(너무 오래 끊겼으면) 마지막 KEYFRAME 부터 -> 재연결 비용이 놓친 만큼만 듦
+ * - 토픽은 있는 테이블에만 만듦 (topicExists), 테이블이 없어졌고 구독자도 없으면 링을 버림
+ */
+public class RingTopicBroker implements AutoCloseable {
+
+    private static final long RETRY_DELAY_MS = 10;
+
+    private final int capacity;
+    private final ExecutorService dispatcher;
+    private final ScheduledExecutorService retry;
+    private final Predicate<String> topicExists;
+    private final Map<String, Topic> topics = new ConcurrentHashMap<>();
+    private final LongAdder skipped = new LongAdder();
+
+    public RingTopicBroker(int capacity, int dispatcherThreads) {
+        this(capacity, dispatcherThreads, topicName -> true);
+    }
+
+    // topicExists: 구독해도 되는 토픽인지 (없는 테이블 이름으로 링이 계속 생기지 않게)
+    public RingTopicBroker(int capacity, int dispatcherThreads, Predicate<String> topicExists) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("링 크기는 2 이상의 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.capacity = capacity;
+        this.topicExists = topicExists;
+        int threads = dispatcherThreads > 0 ? dispatcherThreads : Runtime.getRuntime().availableProcessors();
+        this.dispatcher = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "ring-broker-dispatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.retry = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ring-broker-retry");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    // 건너뛴 횟수 (느린 구독자가 KEYFRAME 으로 넘어간 횟수)
+    public long getSkipped() {
+        return skipped.sum();
+    }
+
+    /**
+     * 토픽에 프레임 추가 (토픽마다 한 스레드씩만 호출할 것)
+     * - json/binary 는 이미 인코딩된 공유 바이트 (구독자 수와 상관없이 한 번만 인코딩)
+     */
+    public void publish(String topicName, long version, boolean keyframe, byte[] json, byte[] binary) {
+        Topic topic = topics.computeIfAbsent(topicName, name -> new Topic(name, capacity));
+        topic.write(version, keyframe, json, binary);
+        for (Subscription subscription : topic.subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    public Subscription subscribe(String topicName, TopicSink sink) {
+        return subscribe(topicName, sink, -1);
+    }
+
+    // sinceVersion: 이 구독자가 이미 적용한 마지막 버전 (없으면 음수)
+    public Subscription subscribe(String topicName, TopicSink sink, long sinceVersion) {
+        if (!topicExists.test(topicName)) {
+            throw new IllegalArgumentException("존재하지 않는 토픽입니다: " + topicName);
+        }
+        // remove 와 겹쳐도 버려지는 링에 구독이 붙지 않게 토픽 찾기와 구독 추가를 한 번에
+        Subscription[] created = new Subscription[1];
+        topics.compute(topicName, (name, topic) -> {
+            Topic target = topic != null ? topic : new Topic(name, capacity);
+            created[0] = new Subscription(target, sink, target.resumeAfter(sinceVersion));
+            target.subscriptions.add(created[0]);
+            return target;
+        });
+        created[0].signal();
+        return created[0];
+    }
+
+    /**
+     * 테이블이 없어졌을 때 그 토픽의 링을 버림
+     * - 구독자가 남아 있으면 두고, 마지막 구독자가 나갈 때 버림 (topicExists 가 false 가 된 뒤)
+     */
+    public void remove(String topicName) {
+        topics.computeIfPresent(topicName, (name, topic) -> topic.subscriptions.isEmpty() ? null : topic);
+    }
+
+    // 지금 링을 들고 있는 토픽 수
+    public int getTopicCount() {
+        return topics.size();
+    }
+
+    @Override
+    public void close() {
+        retry.shutdownNow();
+        dispatcher.shutdown();
+    }
+
+    // 링 칸 (미리 할당해서 재사용, sequence 로 어느 프레임이 들어 있는지 확인)
+    private static final class Slot {
+        private volatile long sequence; // 쓰는 중이면 -1
+        private long version;
+        private boolean keyframe;
+        private byte[] json;
+        private byte[] binary;
+    }
+
+    private static final class Topic {
+        private final String name;
+        private final Slot[] slots;
+        private final int mask;
+        private volatile long published; // 마지막으로 쓴 순번 (1부터, 0 = 없음)
+        private volatile long lastKeyframe; // 마지막 KEYFRAME 순번 (0 = 없음)
+        private final List<Subscription> subscriptions = new CopyOnWriteArrayList<>();
+
+        private Topic(String name, int capacity) {
+            this.name = name;
+            this.slots = new Slot[capacity];
+            for (int i = 0; i < capacity; i++) {
+                slots[i] = new Slot();
+            }
+            this.mask = capacity - 1;
+        }
+
+        // 쓰는 쪽: 칸을 -1 로 표시 -> 내용 -> 순번 (읽는 쪽은 앞뒤 순번이 같을 때만 내용을 믿음)
+        private void write(long version, boolean keyframe, byte[] json, byte[] binary) {
+            long sequence = published + 1;
+            Slot slot = slots[(int) (sequence & mask)];
+            slot.sequence = -1;
+            VarHandle.storeStoreFence();
+            slot.version = version;
+            slot.keyframe = keyframe;
+            slot.json = json;
+            slot.binary = binary;
+            slot.sequence = sequence;
+            if (keyframe) {
+                lastKeyframe = sequence;
+            }
+            published = sequence;
+        }
+
+        // version 바로 다음 순번 (최근 것부터 거꾸로 찾으므로 놓친 만큼만 봄)
+        // 링에 없거나 덮어써지는 중이면 마지막 KEYFRAME, 그것도 없으면 다음에 쓸 순번
+        private long resumeAfter(long version) {
+            long last = published;
+            if (version >= 0) {
+                for (long sequence = last; sequence > 0 && last - sequence < slots.length; sequence--) {
+                    Slot slot = slots[(int) (sequence & mask)];
+                    long written = slot.sequence;
+                    long slotVersion = slot.version;
+                    VarHandle.loadLoadFence();
+                    if (written != sequence || slot.sequence != sequence || slotVersion < version) break;
+                    if (slotVersion == version) return sequence + 1;
+                }
+            }
+            long keyframe = lastKeyframe;
+            return keyframe > 0 ? keyframe : last + 1;
+        }
+    }
+
+    /**
+     * 구독자 하나의 읽기 위치
+     * - signal(): 읽을 게 생겼거나 출력에 여유가 생겼을 때 (디스패처에 한 번만 예약)
+     * - 한 구독자는 한 번에 한 스레드에서만 전송 -> 링 순서 그대로 나감
+     */
+    public final class Subscription {
+        private final Topic topic;
+        private final TopicSink sink;
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean retrying = new AtomicBoolean(); // 다시 확인 예약은 한 번에 하나만
+        private volatile boolean dirty;
+        private volatile boolean cancelled;
+        private long next; // 다음에 보낼 순번 (전송 스레드만 사용)
+        private boolean awaitingKeyframe; // 링을 넘어 뒤처졌는데 남은 KEYFRAME 도 없음 -> 다음 KEYFRAME 까지 DELTA 무시
+
+        private Subscription(Topic topic, TopicSink sink, long next) {
+            this.topic = topic;
+            this.sink = sink;
+            this.next = next;
+        }
+
+        public TopicSink getSink() {
+            return sink;
+        }
+
+        public void signal() {
+            dirty = true;
+            if (!cancelled && scheduled.compareAndSet(false, true)) {
+                dispatcher.execute(this::run);
+            }
+        }
+
+        public void cancel() {
+            cancelled = true;
+            topic.subscriptions.remove(this);
+            if (topic.subscriptions.isEmpty() && !topicExists.test(topic.name)) {
+                topics.computeIfPresent(topic.name,
+                        (name, current) -> current == topic && current.subscriptions.isEmpty() ? null : current);
+            }
+        }
+
+        private void run() {
+            boolean blocked = false;
+            do {
+                dirty = false;
+                try {
+                    blocked = drain();
+                } catch (RuntimeException e) {
+                    System.err.println("[Ring Broker] 전송 실패, 구독 해제: " + e);
+                    cancel();
+                }
+                scheduled.set(false);
+            } while (dirty && !cancelled && scheduled.compareAndSet(false, true));
+            if (blocked && !cancelled) scheduleRetry();
+        }
+
+        // 출력이 밀려서 멈췄을 때: 새 publish 가 없어도 잠시 뒤 다시 signal
+        private void scheduleRetry() {
+            if (!retrying.compareAndSet(false, true)) return;
+            try {
+                retry.schedule(() -> {
+                    retrying.set(false);
+                    signal();
+                }, RETRY_DELAY_MS, TimeUnit.MILLISECONDS);
+            } catch (RejectedExecutionException e) {
+                retrying.set(false); // 브로커가 닫힘
+            }
+        }
+
+        // 반환: 보낼 프레임이 남았는데 출력이 밀려서 멈췄으면 true
+        private boolean drain() {
+            while (!cancelled) {
+                long published = topic.published;
+                if (next > published) return false;
+
+                long keyframe = topic.lastKeyframe;
+                if (published - next >= capacity) {
+                    // 링을 한 바퀴 넘게 뒤처짐: 링에 남은 마지막 KEYFRAME 부터, 그것도 없으면 다음 KEYFRAME 까지 기다림
+                    skipped.increment();
+                    if (keyframe > published - capacity) {
+                        next = keyframe;
+                        awaitingKeyframe = false;
+                    } else {
+                        next = published + 1;
+                        awaitingKeyframe = true;
+                        return false;
+                    }
+                }
+                if (!sink.ready()) {
+                    // 출력이 밀려 있는 동안 더 새 전체 상태가 나왔으면 그 앞 DELTA 는 보낼 필요 없음
+                    // 출력 여유가 생기면(또는 다음 publish / 다시 확인 때) 다시 signal
+                    if (keyframe > next) {
+                        next = keyframe;
+                        awaitingKeyframe = false;
+                        skipped.increment();
+                    }
+                    return true;
+                }
+
+                Slot slot = topic.slots[(int) (next & topic.mask)];
+                long sequence = slot.sequence;
+                long version = slot.version;
+                boolean isKeyframe = slot.keyframe;
+                byte[] json = slot.json;
+                byte[] binary = slot.binary;
+                VarHandle.loadLoadFence();
+                if (sequence != next || slot.sequence != next) {
+                    continue; // 읽는 사이 덮어써짐 -> 위에서 KEYFRAME 으로 건너뜀
+                }
+                next++;
+                if (awaitingKeyframe && !isKeyframe) continue;
+                awaitingKeyframe = false;
+                if (!sink.send(version, isKeyframe, json, binary)) {
+                    cancel();
+                    return false;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.sparta.api.broker;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ExecutorChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * STOMP 테이블 토픽(/topic/table/{tableId})을 RingTopicBroker 로 연결 (holdem.broker.type=ring)
+ * - clientInboundChannel: SUBSCRIBE/UNSUBSCRIBE/DISCONNECT 를 보고 링 구독을 만들고 지움 (SimpleBroker 는 /queue 만 담당)
+ * - clientOutboundChannel: 링에서 꺼낸 JSON 을 MESSAGE 로 넣고, 처리가 끝나면(afterMessageHandled) 다음 것을 보냄
+ *   -> 구독자마다 아웃바운드 큐에 한 개만 들어가서 순서가 유지되고, 느린 세션의 밀린 상태는 링에만 남음
+ * - 재연결: SUBSCRIBE 에 since-version 헤더(마지막으로 적용한 버전)를 붙이면 놓친 DELTA 만 받음 (링에 없으면 KEYFRAME 부터)
+ * - 없는 테이블 토픽을 SUBSCRIBE 하면 브로커가 거절 -> 예외로 STOMP ERROR (링을 만들지 않음)
+ */
+@Component
+public class StompTopicBridge implements ExecutorChannelInterceptor {
+
+    public static final String TABLE_TOPIC = "/topic/table/";
+    public static final String SINCE_VERSION_HEADER = "since-version";
+    private static final String SINK_HEADER = "holdem.sink";
+
+    private final RingTopicBroker broker;
+    private final MessageChannel clientOutboundChannel;
+    private final Map<String, Map<String, RingTopicBroker.Subscription>> sessions = new ConcurrentHashMap<>(); // sessionId -> subscriptionId -> 구독
+
+    // 아웃바운드 채널은 이 인터셉터를 등록하는 설정에서 만들어지므로 처음 보낼 때 찾음
+    public StompTopicBridge(RingTopicBroker broker,
+                            @Lazy @Qualifier("clientOutboundChannel") MessageChannel clientOutboundChannel) {
+        this.broker = broker;
+        this.clientOutboundChannel = clientOutboundChannel;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageType type = SimpMessageHeaderAccessor.getMessageType(message.getHeaders());
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        if (type == null || sessionId == null) return message;
+        switch (type) {
+            case SUBSCRIBE -> subscribe(message, sessionId);
+            case UNSUBSCRIBE -> {
+                Map<String, RingTopicBroker.Subscription> subscriptions = sessions.get(sessionId);
+                String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+                RingTopicBroker.Subscription subscription = subscriptions == null || subscriptionId == null
+                        ? null : subscriptions.remove(subscriptionId);
+                if (subscription != null) subscription.cancel();
+            }
+            case DISCONNECT -> {
+                // 연결이 그냥 끊겨도 STOMP 핸들러가 DISCONNECT 를 만들어 보냄
+                Map<String, RingTopicBroker.Subscription> subscriptions = sessions.remove(sessionId);
+                if (subscriptions != null) subscriptions.values().forEach(RingTopicBroker.Subscription::cancel);
+            }
+            default -> {
+            }
+        }
+        return message;
+    }
+
+    @Override
+    public void afterMessageHandled(Message<?> message, MessageChannel channel, MessageHandler handler, Exception ex) {
+        if (message.getHeaders().get(SINK_HEADER) instanceof StompSink sink) {
+            sink.delivered();
+        }
+    }
+
+    private void subscribe(Message<?> message, String sessionId) {
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        String subscriptionId = SimpMessageHeaderAccessor.getSubscriptionId(message.getHeaders());
+        if (destination == null || subscriptionId == null || !destination.startsWith(TABLE_TOPIC)) return;
+
+        String sinceVersion = SimpMessageHeaderAccessor.wrap(message).getFirstNativeHeader(SINCE_VERSION_HEADER);
+        StompSink sink = new StompSink(sessionId, subscriptionId, destination);
+        RingTopicBroker.Subscription subscription = broker.subscribe(destination.substring(TABLE_TOPIC.length()), sink,
+                parseVersion(sinceVersion));
+        sink.subscription = subscription;
+        subscription.signal(); // 연결 전에 전송이 끝났으면 delivered 가 깨우지 못했으므로
+        RingTopicBroker.Subscription previous = sessions.computeIfAbsent(sessionId, id -> new ConcurrentHashMap<>())
+                .put(subscriptionId, subscription);
+        if (previous != null) previous.cancel();
+    }
+
+    // 헤더가 없거나 숫자가 아니면 처음 구독과 같게 (마지막 KEYFRAME 부터)
+    private static long parseVersion(String header) {
+        if (header == null) return -1;
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    // STOMP 구독 하나: 앞 메시지가 아웃바운드 스레드에서 처리될 때까지 다음 것을 보내지 않음
+    private final class StompSink implements TopicSink {
+        private final String sessionId;
+        private final String subscriptionId;
+        private final String destination;
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile RingTopicBroker.Subscription subscription;
+
+        private StompSink(String sessionId, String subscriptionId, String destination) {
+            this.sessionId = sessionId;
+            this.subscriptionId = subscriptionId;
+            this.destination = destination;
+        }
+
+        @Override
+        public boolean ready() {
+            return !sending.get();
+        }
+
+        @Override
+        public boolean send(long version, boolean keyframe, byte[] json, byte[] binary) {
+            SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            headers.setSessionId(sessionId);
+            headers.setSubscriptionId(subscriptionId);
+            headers.setDestination(destination);
+            headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+            headers.setHeader(SINK_HEADER, this);
+            headers.setLeaveMutable(true);
+            sending.set(true);
+            clientOutboundChannel.send(MessageBuilder.createMessage(json, headers.getMessageHeaders()));
+            return true;
+        }
+
+        private void delivered() {
+            sending.set(false);
+            RingTopicBroker.Subscription current = subscription;
+            if (current != null) current.signal();
+        }
+    }
+}
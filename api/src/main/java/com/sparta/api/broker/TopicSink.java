@@ -0,0 +1,15 @@
+package com.sparta.api.broker;
+
+/**
+ * 링 브로커 구독자 한 명의 출력 (STOMP 구독, 바이너리 세션 등)
+ * - 한 구독자에 대해서는 한 번에 한 스레드만 호출 (링 순서대로)
+ */
+public interface TopicSink {
+
+    // 지금 더 보내도 되는지 (출력 버퍼/보내는 중인 메시지가 한도 아래)
+    // false 면 커서를 그대로 두고 나중에 이어서 보냄 (그 사이 KEYFRAME 이 나오면 그 앞은 건너뜀)
+    boolean ready();
+
+    // 프레임 하나 전송 (인코딩은 구독자가 골라 씀), false = 끊긴 구독자 -> 구독 해제
+    boolean send(long version, boolean keyframe, byte[] json, byte[] binary);
+}
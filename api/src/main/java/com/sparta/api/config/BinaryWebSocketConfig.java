@@ -0,0 +1,24 @@
+package com.sparta.api.config;
+
+import com.sparta.api.socket.BinaryGameSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class BinaryWebSocketConfig implements WebSocketConfigurer {
+
+    private final BinaryGameSocketHandler binaryGameSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        // 네이티브 클라이언트(Unity 등)용 순수 WebSocket: ws://localhost:8080/ws-holdem-binary
+        // (SockJS 엔드포인트 /ws-holdem/** 와 겹치지 않도록 별도 경로)
+        registry.addHandler(binaryGameSocketHandler, "/ws-holdem-binary")
+                .setAllowedOriginPatterns("*");
+    }
+}
@@ -0,0 +1,23 @@
+package com.sparta.api.config;
+
+import com.sparta.api.broker.RingTopicBroker;
+import com.sparta.core.service.GameService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class BrokerConfig {
+
+    // 테이블 토픽 링 브로커: 링 크기는 2의 거듭제곱이고 키프레임 주기보다 커야 함
+    // dispatcher-threads 가 0 이면 CPU 코어 수만큼
+    // 토픽 이름 = 테이블 ID, 있는 테이블만 구독 가능 (없는 테이블이면 SUBSCRIBE 가 ERROR 로 끝남)
+    @Bean(destroyMethod = "close")
+    public RingTopicBroker ringTopicBroker(
+            @Value("${holdem.broker.ring-size:64}") int ringSize,
+            @Value("${holdem.broker.dispatcher-threads:0}") int dispatcherThreads,
+            GameService gameService
+    ) {
+        return new RingTopicBroker(ringSize, dispatcherThreads, tableId -> gameService.getTable(tableId) != null);
+    }
+}
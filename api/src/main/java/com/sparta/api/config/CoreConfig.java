@@ -1,21 +1,124 @@
 package com.sparta.api.config;
 
-import com.sparta.core.service.BettingService;
-import com.sparta.core.service.GameService;
-import com.sparta.core.service.HandEvaluator;
+import com.sparta.core.service.*;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
 @Configuration
 public class CoreConfig {
 
+    // 요청을 받기 전에 복구: 최신 체크포인트를 읽고, 저널은 그 이후 기록만 재생
+    @Bean
+    public GameService gameService(HandEvaluator handEvaluator, TableExecutor tableExecutor,
+                                   BettingRoundEngine bettingRoundEngine, ActionJournal actionJournal,
+                                   ObjectProvider<TableCheckpointer> checkpointer,
+                                   @Value("${holdem.checkpoint.interval-ms:60000}") long checkpointIntervalMs
+    ) throws IOException {
+        GameService gameService = new GameService(handEvaluator, tableExecutor, bettingRoundEngine, actionJournal);
+        TableCheckpointer tableCheckpointer = checkpointer.getIfAvailable();
+        if (tableCheckpointer == null) {
+            gameService.recover();
+        } else {
+            gameService.recover(tableCheckpointer.loadLatest());
+            tableCheckpointer.start(gameService, Duration.ofMillis(checkpointIntervalMs));
+        }
+        return gameService;
+    }
+
+    // 전체 테이블 체크포인트: 경로가 비어 있으면 사용하지 않음
+    @Bean(destroyMethod = "close")
+    @ConditionalOnExpression("!'${holdem.checkpoint.path:}'.isBlank()")
+    public TableCheckpointer tableCheckpointer(
+            @Value("${holdem.checkpoint.path}") String path,
+            @Value("${holdem.checkpoint.retained:2}") int retained
+    ) {
+        return new TableCheckpointer(Path.of(path), retained);
+    }
+
+    // 명령 저널: 경로가 비어 있으면 기록하지 않음 (재시작하면 테이블이 사라짐)
+    // flush-interval-ms 가 0 이면 명령마다 fsync, 그 외에는 주기적으로 모아서 fsync (전원 장애 시 최대 한 주기 유실)
+    @Bean(destroyMethod = "close")
+    public ActionJournal actionJournal(
+            @Value("${holdem.journal.path:}") String path,
+            @Value("${holdem.journal.shards:4}") int shards,
+            @Value("${holdem.journal.segment-records:65536}") int segmentRecords,
+            @Value("${holdem.journal.flush-interval-ms:10}") long flushIntervalMs
+    ) {
+        return path.isBlank()
+                ? ActionJournal.NONE
+                : new MappedActionJournal(Path.of(path), shards, segmentRecords, Duration.ofMillis(flushIntervalMs));
+    }
+
+    // 베팅 라운드 규칙: 블라인드가 0 이면 강제 베팅 없이 최소 베팅 1칩
+    @Bean
+    public BettingRoundEngine bettingRoundEngine(
+            @Value("${holdem.betting.small-blind:0}") long smallBlind,
+            @Value("${holdem.betting.big-blind:0}") long bigBlind
+    ) {
+        return new BettingRoundEngine(new BettingService(), smallBlind, bigBlind);
+    }
+
+    // 테이블 명령 실행 방식: actor(테이블별 메일박스, 기본값) | monitor(기존 synchronized)
+    // threads 가 0 이면 CPU 코어 수만큼
+    @Bean
+    public TableExecutor tableExecutor(
+            @Value("${holdem.table.executor:actor}") String mode,
+            @Value("${holdem.table.executor-threads:0}") int threads
+    ) {
+        return switch (mode) {
+            case "actor" -> new ActorTableExecutor(threads > 0 ? threads : Runtime.getRuntime().availableProcessors());
+            case "monitor" -> new MonitorTableExecutor();
+            default -> throw new IllegalArgumentException("지원하지 않는 테이블 실행 방식입니다: " + mode);
+        };
+    }
+
+    // 족보 판정 엔진 선택: lookup(룩업 테이블, 기본값) | legacy(기존 스트림 방식)
     @Bean
-    public GameService gameService() {
-        return new GameService(new HandEvaluator(), new BettingService());
+    public HandEvaluator handEvaluator(@Value("${holdem.evaluator.engine:lookup}") String engine) {
+        return switch (engine) {
+            case "legacy" -> new HandEvaluator();
+            case "lookup" -> new LookupHandEvaluator();
+            default -> throw new IllegalArgumentException("지원하지 않는 족보 판정 엔진입니다: " + engine);
+        };
     }
 
+    // 프리플랍 승률표: 경로가 비어 있으면 빈 표 (조회하는 쪽에서 isAvailable 확인 후 계산기로 넘어감)
     @Bean
-    public HandEvaluator handEvaluator() {
-        return new HandEvaluator();
+    public PreflopEquityTable preflopEquityTable(@Value("${holdem.preflop.table-path:}") String tablePath) {
+        return tablePath.isBlank() ? PreflopEquityTable.empty() : PreflopEquityTable.map(Path.of(tablePath));
+    }
+
+    // 승률 계산기: parallelism 이 0 이면 공용 ForkJoinPool 사용 (전용 풀은 종료 시 close 에서 정리)
+    @Bean(destroyMethod = "close")
+    public EquityCalculator equityCalculator(
+            HandEvaluator handEvaluator,
+            PreflopEquityTable preflopEquityTable,
+            @Value("${holdem.equity.parallelism:0}") int parallelism,
+            @Value("${holdem.equity.max-samples:2000000}") long maxSamples,
+            @Value("${holdem.equity.time-budget-ms:50}") long timeBudgetMs,
+            @Value("${holdem.equity.target-margin:0.002}") double targetMargin,
+            @Value("${holdem.equity.batch-size:20000}") int batchSize
+    ) {
+        ForkJoinPool pool = (parallelism > 0) ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+        SamplingBudget budget = new SamplingBudget(maxSamples, Duration.ofMillis(timeBudgetMs), targetMargin);
+        return new EquityCalculator(handEvaluator, pool, budget, batchSize, preflopEquityTable);
+    }
+
+    // 정확한 승률 계산기 (남은 보드 전체 열거): 병렬도 설정은 Monte Carlo 계산기와 공유 (풀은 따로, 종료 시 close)
+    @Bean(destroyMethod = "close")
+    public EquityEnumerator equityEnumerator(
+            HandEvaluator handEvaluator,
+            @Value("${holdem.equity.parallelism:0}") int parallelism
+    ) {
+        ForkJoinPool pool = (parallelism > 0) ? new ForkJoinPool(parallelism) : ForkJoinPool.commonPool();
+        return new EquityEnumerator(handEvaluator, pool);
     }
 }
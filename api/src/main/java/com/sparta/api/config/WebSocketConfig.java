@@ -1,6 +1,9 @@
 package com.sparta.api.config;
 
+import com.sparta.api.broker.StompTopicBridge;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -10,6 +13,19 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompTopicBridge stompTopicBridge;
+    private final boolean ringBroker;
+
+    // 테이블 토픽 브로커: ring(테이블별 링 버퍼, 기본값) | simple(Spring SimpleBroker)
+    public WebSocketConfig(StompTopicBridge stompTopicBridge, @Value("${holdem.broker.type:ring}") String brokerType) {
+        this.stompTopicBridge = stompTopicBridge;
+        this.ringBroker = switch (brokerType) {
+            case "ring" -> true;
+            case "simple" -> false;
+            default -> throw new IllegalArgumentException("지원하지 않는 브로커 방식입니다: " + brokerType);
+        };
+    }
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         // 클라이언트가 연결할 엔드포인트: ws://localhost:8080/ws-holdem
@@ -20,9 +36,30 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        // 메시지 받을 경로 (구독)
-        registry.enableSimpleBroker("/topic");
+        // 메시지 받을 경로 (구독): /topic = 테이블 방송, /queue = 세션 개인 메시지 (/user/queue/errors)
+        // ring 이면 /topic/table/** 은 StompTopicBridge 가 맡고 SimpleBroker 는 /queue 만
+        if (ringBroker) {
+            registry.enableSimpleBroker("/queue");
+        } else {
+            registry.enableSimpleBroker("/topic", "/queue");
+        }
         // 메시지 보낼 경로 (발행)
         registry.setApplicationDestinationPrefixes("/app");
+        // 테이블 상태는 DELTA 라서 세션마다 보낸 순서대로 도착해야 함
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (ringBroker) {
+            registration.interceptors(stompTopicBridge);
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (ringBroker) {
+            registration.interceptors(stompTopicBridge);
+        }
     }
 }
@@ -1,14 +1,27 @@
 package com.sparta.api.controller;
 
+import com.sparta.api.dto.BroadcastStats;
+import com.sparta.api.dto.JoinResponse;
+import com.sparta.api.dto.TableUpdate;
+import com.sparta.api.socket.SeatTokens;
+import com.sparta.api.socket.TableBroadcaster;
+import com.sparta.core.domain.ActionResult;
 import com.sparta.core.domain.ActionType;
-import com.sparta.core.domain.Table;
+import com.sparta.core.domain.CardSet;
+import com.sparta.core.domain.EquityResult;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.EquityCalculator;
+import com.sparta.core.service.EquityEnumerator;
 import com.sparta.core.service.GameService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/game")
 @RequiredArgsConstructor
@@ -16,6 +29,10 @@ import org.springframework.web.bind.annotation.*;
 public class GameController {
 
     private final GameService gameService;
+    private final EquityCalculator equityCalculator;
+    private final EquityEnumerator equityEnumerator;
+    private final TableBroadcaster tableBroadcaster;
+    private final SeatTokens seatTokens;
 
     // 1. 방 생성
     @PostMapping("/table/{tableId}")
@@ -27,55 +44,112 @@ public class GameController {
 
     // 2. 플레이어 입장 (수정됨: Service로 위임)
     @PostMapping("/table/{tableId}/join")
-    @Operation(summary = "플레이어 입장", description = "테이블에 새로운 플레이어를 추가합니다. (동시성 제어 적용)")
-    public ResponseEntity<String> joinTable(
+    @Operation(summary = "플레이어 입장", description = "테이블에 새로운 플레이어를 추가합니다. (동시성 제어 적용) 응답의 seatToken 으로만 내 좌석(손패)을 구독할 수 있습니다.")
+    public CompletableFuture<ResponseEntity<JoinResponse>> joinTable(
             @PathVariable String tableId,
             @RequestParam String playerId,
             @RequestParam String playerName,
             @RequestParam long chips
     ) {
-        // 컨트롤러는 요청만 전달하고, 실제 락(Lock)과 입장 처리는 Service가 담당합니다.
-        gameService.joinPlayer(tableId, playerId, playerName, chips);
-
-        return ResponseEntity.ok(playerName + " joined table " + tableId);
+        // 컨트롤러는 요청만 전달하고, 실제 순서 제어와 입장 처리는 Service가 담당합니다.
+        // (요청 스레드는 기다리지 않고 반환, 처리가 끝나면 응답)
+        // 좌석 토큰은 입장에 성공한 요청에만 (이미 앉은 playerId 로 다시 입장하면 예외라 토큰을 받을 수 없음)
+        return gameService.joinPlayer(tableId, playerId, playerName, chips)
+                .thenApply(done -> broadcast(tableId))
+                .thenApply(done -> ResponseEntity.ok(new JoinResponse(tableId, playerId, seatTokens.issue(tableId, playerId))));
     }
 
     // 3. 게임 시작
     @PostMapping("/table/{tableId}/start")
     @Operation(summary = "게임 시작 (카드 딜링)", description = "플레이어가 다 모이면 게임을 시작하고 카드를 돌립니다.")
-    public ResponseEntity<String> startGame(@PathVariable String tableId) {
-        gameService.startGame(tableId);
-        return ResponseEntity.ok("Game started! Cards dealt.");
+    public CompletableFuture<ResponseEntity<String>> startGame(@PathVariable String tableId) {
+        return gameService.startGame(tableId)
+                .thenApply(done -> broadcast(tableId))
+                .thenApply(done -> ResponseEntity.ok("Game started! Cards dealt."));
     }
 
     // 4. 플레이어 액션 (Bet, Fold, Check, All-in 등 통합)
     @PostMapping("/table/{tableId}/action")
     @Operation(summary = "플레이어 액션", description = "베팅, 폴드, 체크, 올인 등의 액션을 수행합니다.")
-    public ResponseEntity<String> submitAction(
+    public CompletableFuture<ResponseEntity<String>> submitAction(
             @PathVariable String tableId,
             @RequestParam String playerId,
             @RequestParam ActionType action, // Enum으로 받음 (BET, FOLD, CHECK, ALL_IN ...)
             @RequestParam(defaultValue = "0") long amount // FOLD나 CHECK일 때는 0이어도 됨
     ) {
         // GameService -> BettingService 순으로 호출되며 처리됨
-        gameService.submitAction(tableId, playerId, action, amount);
+        // 잘못된 요청은 예외가 아니라 결과 코드로 돌아오므로 상태 코드만 골라서 응답
+        return gameService.submitAction(tableId, playerId, action, amount)
+                .thenApply(result -> {
+                    if (!result.isSuccess()) {
+                        return ResponseEntity.status(statusOf(result)).body("[" + result + "] " + result.getMessage());
+                    }
+                    broadcast(tableId);
+                    return ResponseEntity.ok("Action [" + action + "] processed successfully.");
+                });
+    }
+
+    // REST 로 바꾼 상태도 소켓 경로와 똑같이 전파 (손패는 좌석 개인 메시지로만 나가므로 시작/딜링도 전파해야 받음)
+    // 명령을 실행한 스레드에서 이어서 부르므로 명령 순서대로 전파됨
+    private Void broadcast(String tableId) {
+        tableBroadcaster.broadcast(tableId);
+        return null;
+    }
 
-        return ResponseEntity.ok("Action [" + action + "] processed successfully.");
+    private static HttpStatus statusOf(ActionResult result) {
+        return switch (result) {
+            case OK -> HttpStatus.OK;
+            case TABLE_NOT_FOUND, PLAYER_NOT_FOUND -> HttpStatus.NOT_FOUND;
+            case NO_HAND_IN_PROGRESS, NOT_YOUR_TURN -> HttpStatus.CONFLICT; // 요청은 맞지만 지금 상태에서 불가
+            default -> HttpStatus.BAD_REQUEST;
+        };
     }
 
     // 5. 다음 스트리트 강제 진행 (테스트용)
     @PostMapping("/table/{tableId}/next-street")
     @Operation(summary = "다음 라운드 진행", description = "강제로 다음 라운드(플랍/턴/리버)로 넘깁니다.")
-    public ResponseEntity<String> nextStreet(@PathVariable String tableId) {
-        gameService.nextStreet(tableId);
-        return ResponseEntity.ok("Proceeded to next street.");
+    public CompletableFuture<ResponseEntity<String>> nextStreet(@PathVariable String tableId) {
+        return gameService.nextStreet(tableId)
+                .thenApply(done -> broadcast(tableId))
+                .thenApply(done -> ResponseEntity.ok("Proceeded to next street."));
     }
 
     // 6. 현재 상태 조회
     @GetMapping("/table/{tableId}/status")
-    @Operation(summary = "테이블 상태 조회", description = "현재 테이블의 모든 정보(카드, 칩, 플레이어)를 조회합니다.")
-    public ResponseEntity<Table> getStatus(@PathVariable String tableId) {
-        Table table = gameService.getTable(tableId); // 읽기 전용은 락이 필요 없을 수도 있으나, 상황에 따라 다름
-        return ResponseEntity.ok(table);
+    @Operation(summary = "테이블 상태 조회", description = "마지막으로 반영된 테이블 공개 상태(보드, 칩, 플레이어)를 KEYFRAME 형식으로 조회합니다. 손패는 포함하지 않습니다. since 버전 이후 변경이 없으면 304 를 돌려줍니다.")
+    public ResponseEntity<TableUpdate> getStatus(@PathVariable String tableId,
+                                                 @RequestParam(required = false) Long since) {
+        // 불변 스냅샷을 읽기만 하므로 락이 필요 없고, 액션 처리와 경합하지 않음
+        TableSnapshot snapshot = gameService.getSnapshot(tableId);
+        if (since != null && snapshot.getVersion() <= since) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).build();
+        }
+        // 공개 채널과 같은 모양 (손패 없음) -> 이 응답으로 받은 상태에 이후 DELTA 를 이어 붙일 수 있음
+        return ResponseEntity.ok(TableUpdate.keyframe(snapshot));
+    }
+
+    // 7. 올인 승률 조회 (올인 중계, 봇)
+    // 베팅 중에 열면 모든 참가자의 패 세기가 새므로, 베팅이 끝난(전원 올인/쇼다운) 뒤에만 응답
+    @GetMapping("/table/{tableId}/equity")
+    @Operation(summary = "올인 승률 조회", description = "베팅이 끝난 뒤(남은 플레이어가 모두 올인했거나 쇼다운)에만 폴드하지 않은 플레이어들의 승률을 Monte Carlo 샘플링으로 추정합니다. 베팅 중이면 409 를 돌려줍니다. exact=true 이면 남은 보드를 전부 열거해 정확히 계산하며, 플랍 전에는 400 입니다.")
+    public ResponseEntity<EquityResult> getEquity(@PathVariable String tableId,
+                                                  @RequestParam(defaultValue = "false") boolean exact) {
+        // 검사한 스냅샷 그대로 계산 (그 사이 다음 핸드가 시작돼도 그 손패를 계산하지 않게)
+        TableSnapshot snapshot = gameService.getSnapshot(tableId);
+        if (!snapshot.isBettingClosed()) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        }
+        // 프리플랍 전체 열거는 보드 171만 개 -> 요청마다 돌리지 않음 (샘플링 또는 프리플랍 승률표 사용)
+        if (exact && snapshot.getCommunityCardSet() == CardSet.EMPTY) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(exact ? equityEnumerator.enumerate(snapshot) : equityCalculator.calculate(snapshot));
+    }
+
+    // 8. 상태 전파 통계 (틱 묶음 처리 효과/지연 확인)
+    @GetMapping("/broadcast/stats")
+    @Operation(summary = "상태 전파 통계", description = "전파 요청 수, 실제 전파 횟수, 요청부터 전파까지 기다린 시간(평균/최대, 마이크로초)을 조회합니다.")
+    public ResponseEntity<BroadcastStats> getBroadcastStats() {
+        return ResponseEntity.ok(tableBroadcaster.stats());
     }
-}
\ No newline at end of file
+}
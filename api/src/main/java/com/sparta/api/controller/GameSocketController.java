@@ -1,13 +1,20 @@
 package com.sparta.api.controller;
 
+import com.sparta.api.dto.ActionErrorResponse;
 import com.sparta.api.dto.GameActionRequest;
+import com.sparta.api.dto.SeatPrivateUpdate;
+import com.sparta.api.dto.TableUpdate;
+import com.sparta.api.socket.TableBroadcaster;
 import com.sparta.api.util.BinarySerializer;
-import com.sparta.core.domain.Table;
 import com.sparta.core.service.GameService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.Base64;
@@ -19,6 +26,7 @@ public class GameSocketController {
 
     private final GameService gameService;
     private final SimpMessagingTemplate messagingTemplate;
+    private final TableBroadcaster tableBroadcaster;
 
     /**
      * [1] 기존 JSON 방식 핸들러
@@ -26,9 +34,10 @@ public class GameSocketController {
      * - 경로: /app/table/{tableId}/action
      */
     @MessageMapping("/table/{tableId}/action")
-    public void handleJsonAction(@DestinationVariable String tableId, GameActionRequest request) {
+    public void handleJsonAction(@DestinationVariable String tableId, GameActionRequest request,
+                                 @Header("simpSessionId") String sessionId) {
         // 공통 로직 호출
-        processAndBroadcast(tableId, request);
+        processAndBroadcast(tableId, request, sessionId);
     }
 
     /**
@@ -36,38 +45,74 @@ public class GameSocketController {
      * - 용도: 네트워크 대역폭 절감이 필요한 고성능 환경 (Unity/C# 클라이언트 등)
      * - 경로: /app/table/{tableId}/action/binary
      * - 특징: JSON 대비 패킷 크기 약 50% 절감
+     * - STOMP 위로는 Base64 텍스트로만 실을 수 있어 이득이 줄어듦 -> 네이티브 클라이언트는 /ws-holdem-binary (BinaryGameSocketHandler) 사용
      */
     @MessageMapping("/table/{tableId}/action/binary")
 //    public void handleBinaryAction(@DestinationVariable String tableId, byte[] payload) {
-    public void handleBinaryAction(@DestinationVariable String tableId, Map<String,String> payload) {
+    public void handleBinaryAction(@DestinationVariable String tableId, Map<String,String> payload,
+                                   @Header("simpSessionId") String sessionId) {
         byte[] bytes = Base64.getDecoder().decode(payload.get("data"));
         // 1. 바이트 배열을 객체로 역직렬화 (유틸리티 사용)
         GameActionRequest request = BinarySerializer.deserialize(bytes);
 
-        System.out.println("⚡ Binary Action Received! Size: " + bytes.length + " bytes");
-
         // 2. 공통 로직 호출
-        processAndBroadcast(tableId, request);
+        processAndBroadcast(tableId, request, sessionId);
+    }
+
+    /**
+     * 현재 테이블 상태 전체 (KEYFRAME) 를 구독한 세션에만 한 번 응답
+     * - 경로: /app/table/{tableId}/state (/topic/table/{tableId} 는 이후 DELTA/KEYFRAME 만 전파)
+     */
+    @SubscribeMapping("/table/{tableId}/state")
+    public TableUpdate subscribeState(@DestinationVariable String tableId) {
+        return tableBroadcaster.keyframe(tableId);
+    }
+
+    /**
+     * 내 좌석의 손패를 구독한 세션에만 한 번 응답하고, 이후 손패가 바뀌면 /user/queue/table/{tableId} 로 보냄
+     * - 경로: /app/table/{tableId}/seat/{playerId} (먼저 /user/queue/table/{tableId} 를 구독해 둘 것)
+     * - SUBSCRIBE 에 seat-token 헤더(입장 응답의 seatToken)가 있어야 함, 없거나 다르면 ERROR
+     */
+    @SubscribeMapping("/table/{tableId}/seat/{playerId}")
+    public SeatPrivateUpdate subscribeSeat(@DestinationVariable String tableId, @DestinationVariable String playerId,
+                                           @Header(name = "seat-token", required = false) String seatToken,
+                                           @Header("simpSessionId") String sessionId) {
+        return tableBroadcaster.bindSeat(tableId, playerId, seatToken, sessionId);
     }
 
     /**
      * [공통 로직] 서비스 실행 및 상태 전파 (Broadcasting)
+     * - 거절된 액션(결과 코드)은 보낸 세션에만 에러 프레임으로 알림 (/user/queue/errors), 브로드캐스트 없음
      */
-    private void processAndBroadcast(String tableId, GameActionRequest request) {
-        // 1. 핵심 비즈니스 로직 실행
+    private void processAndBroadcast(String tableId, GameActionRequest request, String sessionId) {
+        // 1. 핵심 비즈니스 로직 실행 (테이블 명령 큐에 넣고 inbound 스레드는 바로 반환)
         // (Service 메서드명이 submitAction이라고 가정. processAction이나 bet 등 상황에 맞게 사용)
         gameService.submitAction(
                 tableId,
                 request.getPlayerId(),
                 request.getAction(),
                 request.getAmount()
-        );
+        ).thenAccept(result -> {
+            if (!result.isSuccess()) {
+                sendError(sessionId, ActionErrorResponse.of(tableId, result));
+                return;
+            }
 
-        // 2. 변경된 테이블 상태 조회
-        Table currentTable = gameService.getTable(tableId);
+            // 2. 같은 방의 모두에게 변경된 테이블 상태 브로드캐스팅 (Pub/Sub)
+            // (명령을 실행한 스레드에서 바로 이어서 실행되므로, 다음 명령보다 먼저 = 명령 순서대로 전파됨)
+            // 응답은 프론트엔드 편의성을 위해 JSON으로 유지합니다. (요청만 최적화해도 효과 큼)
+            tableBroadcaster.broadcast(tableId);
+        }).exceptionally(e -> {
+            System.err.println("[Action Failed] " + tableId + " - " + e.getMessage());
+            return null;
+        });
+    }
 
-        // 3. 같은 방의 모두에게 브로드캐스팅 (Pub/Sub)
-        // 응답은 프론트엔드 편의성을 위해 JSON으로 유지합니다. (요청만 최적화해도 효과 큼)
-        messagingTemplate.convertAndSend("/topic/table/" + tableId, currentTable);
+    // 세션 하나에만 보내기 (로그인 사용자 없이 세션 ID 를 user 로 사용)
+    private void sendError(String sessionId, ActionErrorResponse error) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sessionId, "/queue/errors", error, headers.getMessageHeaders());
     }
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.sparta.api.dto;
+
+import com.sparta.core.domain.ActionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ActionErrorResponse {
+    private String tableId;
+    private ActionResult code; // "NOT_YOUR_TURN" 등
+    private String message; // "차례가 아닙니다."
+
+    public static ActionErrorResponse of(String tableId, ActionResult result) {
+        return new ActionErrorResponse(tableId, result, result.getMessage());
+    }
+}
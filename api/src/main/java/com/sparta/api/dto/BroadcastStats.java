@@ -0,0 +1,21 @@
+package com.sparta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 상태 전파 묶음 처리 통계 (BroadcastCoalescer)
+ * - requested: 전파 요청 수 (액션 등 상태가 바뀔 때마다), flushed: 실제로 보낸 횟수
+ * - delay: 처음 요청된 뒤 실제로 보낼 때까지 기다린 시간 (틱 0 이면 항상 0)
+ * - slowConsumerSkips: 링 브로커에서 느린 구독자가 밀린 DELTA 를 버리고 KEYFRAME 으로 건너뛴 횟수
+ */
+@Getter
+@AllArgsConstructor
+public class BroadcastStats {
+    private long tickMs;
+    private long requested;
+    private long flushed;
+    private long averageDelayMicros;
+    private long maxDelayMicros;
+    private long slowConsumerSkips;
+}
@@ -0,0 +1,15 @@
+package com.sparta.api.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 입장 응답: 좌석 토큰은 이 응답으로만 받음 (손패 구독, 바이너리 SUBSCRIBE 에 같이 보냄)
+ */
+@Getter
+@AllArgsConstructor
+public class JoinResponse {
+    private String tableId;
+    private String playerId;
+    private String seatToken;
+}
@@ -0,0 +1,27 @@
+package com.sparta.api.dto;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.TableSnapshot;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 좌석 개인 메시지 (/user/queue/table/{tableId}, 그 좌석에 묶인 세션에만)
+ * - 공개 전파(TableUpdate)에는 없는 내 손패, 손패가 바뀔 때(새 핸드)만 보냄
+ */
+@Getter
+@AllArgsConstructor
+public class SeatPrivateUpdate {
+    private String tableId;
+    private long version;
+    private int seat;
+    private String playerId;
+    private List<Card> holeCards; // 핸드 밖이면 빈 목록
+
+    public static SeatPrivateUpdate of(TableSnapshot snapshot, TableSnapshot.PlayerSnapshot player) {
+        return new SeatPrivateUpdate(snapshot.getId(), snapshot.getVersion(), player.getSeat(), player.getId(),
+                player.getHoleCards());
+    }
+}
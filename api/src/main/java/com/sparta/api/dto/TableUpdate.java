@@ -0,0 +1,128 @@
+package com.sparta.api.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.GameRound;
+import com.sparta.core.domain.Table;
+import com.sparta.core.domain.TableSnapshot;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 테이블 상태 전파 메시지 (/topic/table/{tableId}, 바이너리 구독자도 같은 내용)
+ * - KEYFRAME: 공개 상태 전체 (주기적으로, 그리고 처음 구독할 때)
+ * - DELTA: baseVersion 상태에서 바뀐 필드만 (null = 그대로), 내 상태 version 이 baseVersion 과 다르면 다음 KEYFRAME 을 기다림
+ * - 손패는 담지 않음 (공개 채널)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TableUpdate {
+
+    public enum Type { KEYFRAME, DELTA }
+
+    private Type type;
+    private String tableId;
+    private long version;
+    private Long baseVersion; // DELTA 만
+    private GameRound currentRound;
+    private List<Card> communityCards; // 바뀌면 전체 (최대 5장, 새 핸드면 빈 목록)
+    private Long potTotal;
+    private List<Long> potLayers;
+    private Integer dealerSeat;
+    private Integer actionSeat; // -1 = 차례 없음
+    private Long highestBet;
+    private Long minRaise;
+    private Boolean handInProgress;
+    private List<SeatChange> seats; // 바뀐 좌석만
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    public static class SeatChange {
+        private int seat;
+        private String playerId; // 새로 앉은 좌석 (KEYFRAME 은 전부)
+        private String name;
+        private Long chips;
+        private Long currentBet;
+        private Boolean folded;
+    }
+
+    public static TableUpdate keyframe(TableSnapshot snapshot) {
+        TableUpdate update = new TableUpdate();
+        update.type = Type.KEYFRAME;
+        update.tableId = snapshot.getId();
+        update.version = snapshot.getVersion();
+        update.currentRound = snapshot.getCurrentRound();
+        update.communityCards = snapshot.getCommunityCards();
+        update.potTotal = snapshot.getPot().getTotalAmount();
+        update.potLayers = snapshot.getPot().getLayers();
+        update.dealerSeat = snapshot.getDealerSeat();
+        update.actionSeat = snapshot.getActionSeat();
+        update.highestBet = snapshot.getHighestBet();
+        update.minRaise = snapshot.getMinRaise();
+        update.handInProgress = snapshot.isHandInProgress();
+        update.seats = new ArrayList<>(snapshot.getPlayers().size());
+        for (TableSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+            SeatChange change = new SeatChange();
+            change.seat = player.getSeat();
+            change.playerId = player.getId();
+            change.name = player.getName();
+            change.chips = player.getChips();
+            change.currentBet = player.getCurrentBet();
+            change.folded = player.isFolded();
+            update.seats.add(change);
+        }
+        return update;
+    }
+
+    // from -> to 사이에 바뀐 공개 상태만 (좌석은 번호로 맞춰 비교)
+    public static TableUpdate delta(TableSnapshot from, TableSnapshot to) {
+        TableUpdate update = new TableUpdate();
+        update.type = Type.DELTA;
+        update.tableId = to.getId();
+        update.version = to.getVersion();
+        update.baseVersion = from.getVersion();
+        if (from.getCurrentRound() != to.getCurrentRound()) update.currentRound = to.getCurrentRound();
+        if (from.getCommunityCardSet() != to.getCommunityCardSet()) update.communityCards = to.getCommunityCards();
+        if (from.getPot().getTotalAmount() != to.getPot().getTotalAmount()
+                || !from.getPot().getLayers().equals(to.getPot().getLayers())) {
+            update.potTotal = to.getPot().getTotalAmount();
+            update.potLayers = to.getPot().getLayers();
+        }
+        if (from.getDealerSeat() != to.getDealerSeat()) update.dealerSeat = to.getDealerSeat();
+        if (from.getActionSeat() != to.getActionSeat()) update.actionSeat = to.getActionSeat();
+        if (from.getHighestBet() != to.getHighestBet()) update.highestBet = to.getHighestBet();
+        if (from.getMinRaise() != to.getMinRaise()) update.minRaise = to.getMinRaise();
+        if (from.isHandInProgress() != to.isHandInProgress()) update.handInProgress = to.isHandInProgress();
+
+        TableSnapshot.PlayerSnapshot[] before = new TableSnapshot.PlayerSnapshot[Table.MAX_PLAYERS];
+        for (TableSnapshot.PlayerSnapshot player : from.getPlayers()) {
+            before[player.getSeat()] = player;
+        }
+        for (TableSnapshot.PlayerSnapshot player : to.getPlayers()) {
+            TableSnapshot.PlayerSnapshot old = before[player.getSeat()];
+            boolean seated = old == null || !old.getId().equals(player.getId());
+            SeatChange change = new SeatChange();
+            change.seat = player.getSeat();
+            if (seated) {
+                change.playerId = player.getId();
+                change.name = player.getName();
+            }
+            if (seated || old.getChips() != player.getChips()) change.chips = player.getChips();
+            if (seated || old.getCurrentBet() != player.getCurrentBet()) change.currentBet = player.getCurrentBet();
+            if (seated || old.isFolded() != player.isFolded()) change.folded = player.isFolded();
+            if (change.chips != null || change.currentBet != null || change.folded != null) {
+                if (update.seats == null) update.seats = new ArrayList<>(4);
+                update.seats.add(change);
+            }
+        }
+        return update;
+    }
+}
@@ -0,0 +1,147 @@
+package com.sparta.api.socket;
+
+import com.sparta.api.dto.GameActionRequest;
+import com.sparta.api.util.ActionFrame;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.api.util.BinarySerializerV2;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.service.GameService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.BinaryWebSocketHandler;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 바이너리 WebSocket 엔드포인트 (/ws-holdem-binary, STOMP/SockJS 없음)
+ * - 기존 STOMP 바이너리 경로는 Base64 텍스트를 JSON 에 담아 보내서 크기(+33%)와 파싱/디코딩 비용이 붙음
+ *   -> 여기서는 실제 바이너리 프레임을 받아 프레임 ByteBuffer 에서 바로 디코딩
+ * - 응답도 바이너리 RESULT 프레임 (2바이트), 성공하면 STOMP/바이너리 구독자에게 테이블 상태 전파
+ * - SUBSCRIBE 프레임을 보낸 세션은 KEYFRAME 을 바로 받고 이후 DELTA/KEYFRAME 바이너리 프레임을 받음
+ *   (playerId 와 좌석 토큰을 붙이면 그 좌석의 손패도 PRIVATE 프레임으로 받고, 세션이 그 좌석에 묶여 SEAT_ACTION 을 쓸 수 있음)
+ * - 프레임 형식은 BinarySerializer 참고, 형식이 잘못된 프레임을 보내면 연결을 끊음
+ */
+@Component
+@RequiredArgsConstructor
+public class BinaryGameSocketHandler extends BinaryWebSocketHandler {
+
+    private static final int SEND_TIME_LIMIT_MS = 5_000;
+    private static final int SEND_BUFFER_LIMIT = 512 * 1024;
+    private static final String ACTION_FRAME = "holdem.actionFrame"; // 세션별로 재사용하는 v2 디코딩 대상
+
+    private final GameService gameService;
+    private final TableBroadcaster tableBroadcaster;
+    // 응답은 테이블 실행 스레드에서 보내므로 세션마다 동시 전송을 직렬화하는 데코레이터를 씀
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) {
+        sessions.put(session.getId(), new ConcurrentWebSocketSessionDecorator(session, SEND_TIME_LIMIT_MS, SEND_BUFFER_LIMIT));
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        WebSocketSession decorated = sessions.remove(session.getId());
+        if (decorated != null) {
+            tableBroadcaster.unsubscribeBinary(decorated);
+        }
+    }
+
+    @Override
+    protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) throws IOException {
+        ByteBuffer frame = message.getPayload();
+        WebSocketSession out = sessions.getOrDefault(session.getId(), session);
+        try {
+            byte type = frame.get();
+            if (BinarySerializer.isSeatAction(type)) {
+                handleSeatAction(session, out, type, frame);
+            } else if (type == BinarySerializerV2.FRAME_ACTION_V2) {
+                handleActionV2(session, out, frame);
+            } else if (type == BinarySerializer.FRAME_ACTION) {
+                handleAction(out, frame);
+            } else if (type == BinarySerializer.FRAME_SUBSCRIBE) {
+                handleSubscribe(session, out, frame);
+            } else {
+                throw new IllegalArgumentException("지원하지 않는 프레임입니다.");
+            }
+        } catch (RuntimeException e) {
+            session.close(CloseStatus.BAD_DATA.withReason(String.valueOf(e.getMessage())));
+        }
+    }
+
+    private void handleSubscribe(WebSocketSession session, WebSocketSession out, ByteBuffer frame) {
+        String tableId = BinarySerializer.readTableId(frame);
+        String playerId = frame.hasRemaining() ? BinarySerializer.readTableId(frame) : null; // 내 좌석 (손패 수신)
+        if (playerId != null && playerId.isEmpty()) playerId = null;
+        String seatToken = playerId != null ? BinarySerializer.readTableId(frame) : null; // 입장 응답의 좌석 토큰
+        long sinceVersion = frame.remaining() >= Long.BYTES ? frame.getLong() : -1; // 재연결: 마지막으로 적용한 버전
+        int seat = tableBroadcaster.subscribeBinary(tableId, playerId, seatToken, sinceVersion, out);
+        if (seat >= 0) {
+            // 이후 SEAT_ACTION 은 문자열 없이 이 좌석으로 (세션당 좌석 하나, 다시 보내면 바뀜)
+            session.getAttributes().put(SeatHandle.ATTRIBUTE, new SeatHandle(gameService.getTableOrThrow(tableId), tableId, seat));
+        }
+    }
+
+    private void handleAction(WebSocketSession out, ByteBuffer frame) {
+        String tableId = BinarySerializer.readTableId(frame);
+        GameActionRequest request = BinarySerializer.deserialize(frame);
+        submit(out, tableId, request.getPlayerId(), request.getAction(), request.getAmount());
+    }
+
+    // 한 세션의 메시지는 하나씩 처리되므로 세션마다 ActionFrame 하나를 재사용 (같은 플레이어면 문자열도 재사용)
+    private void handleActionV2(WebSocketSession session, WebSocketSession out, ByteBuffer frame) {
+        ActionFrame request = (ActionFrame) session.getAttributes().computeIfAbsent(ACTION_FRAME, key -> new ActionFrame());
+        BinarySerializerV2.decode(frame, request);
+        submit(out, request.getTableId(), request.getPlayerId(), request.getAction(), request.getAmount());
+    }
+
+    private void submit(WebSocketSession out, String tableId, String playerId, ActionType action, long amount) {
+        gameService.submitAction(tableId, playerId, action, amount)
+                .thenAccept(result -> {
+                    send(out, BinarySerializer.resultFrame(result));
+                    if (result.isSuccess()) {
+                        tableBroadcaster.broadcast(tableId);
+                    }
+                }).exceptionally(e -> {
+                    System.err.println("[Binary Action Failed] " + tableId + " - " + e.getMessage());
+                    return null;
+                });
+    }
+
+    // 좌석 핸들로 바로 실행 (문자열 할당/비교 없음)
+    private void handleSeatAction(WebSocketSession session, WebSocketSession out, byte type, ByteBuffer frame) {
+        SeatHandle handle = (SeatHandle) session.getAttributes().get(SeatHandle.ATTRIBUTE);
+        if (handle == null) {
+            throw new IllegalArgumentException("좌석이 없습니다. playerId 를 붙여 SUBSCRIBE 하세요.");
+        }
+        ActionType action = BinarySerializer.seatAction(type);
+        long amount = BinarySerializer.readVarLong(frame);
+        long sequence = BinarySerializer.readVarLong(frame);
+        gameService.submitAction(handle.getTable(), handle.getSeat(), action, amount)
+                .thenAccept(result -> {
+                    send(out, BinarySerializer.resultFrame(result, sequence));
+                    if (result.isSuccess()) {
+                        tableBroadcaster.broadcast(handle.getTableId());
+                    }
+                }).exceptionally(e -> {
+                    System.err.println("[Binary Action Failed] " + handle.getTableId() + " - " + e.getMessage());
+                    return null;
+                });
+    }
+
+    private static void send(WebSocketSession session, byte[] resultFrame) {
+        try {
+            session.sendMessage(new BinaryMessage(resultFrame));
+        } catch (IOException | IllegalStateException e) {
+            // 이미 끊긴 세션 (상태는 STOMP 구독이나 재연결 후 조회로 받음)
+            System.err.println("[Binary Reply Failed] " + session.getId() + " - " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.sparta.api.socket;
+
+import com.sparta.api.broker.TopicSink;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+
+import java.io.IOException;
+
+/**
+ * 바이너리 구독 세션 하나 (링 브로커에서 바이너리 인코딩을 꺼내 보냄)
+ * - 데코레이터 버퍼에 BUFFER_LIMIT 이상 밀려 있으면 보내지 않고 링에 남겨 둠
+ *   (데코레이터 한도까지 쌓여 연결이 끊기기 전에 다음 KEYFRAME 으로 건너뛰게)
+ */
+class BinarySessionSink implements TopicSink {
+
+    private static final int BUFFER_LIMIT = 64 * 1024;
+
+    private final WebSocketSession session;
+
+    BinarySessionSink(WebSocketSession session) {
+        this.session = session;
+    }
+
+    @Override
+    public boolean ready() {
+        return !(session instanceof ConcurrentWebSocketSessionDecorator decorator) || decorator.getBufferSize() < BUFFER_LIMIT;
+    }
+
+    // 바이트 배열은 공유하고 BinaryMessage 는 세션마다 (보내면서 ByteBuffer 위치가 움직임)
+    @Override
+    public boolean send(long version, boolean keyframe, byte[] json, byte[] binary) {
+        try {
+            session.sendMessage(new BinaryMessage(binary));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("[Binary Broadcast Failed] " + session.getId() + " - " + e.getMessage());
+            return false;
+        }
+    }
+}
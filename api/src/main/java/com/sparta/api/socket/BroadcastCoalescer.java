@@ -0,0 +1,93 @@
+package com.sparta.api.socket;
+
+import com.sparta.api.dto.BroadcastStats;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 테이블 상태 전파 묶음 처리 (틱 단위)
+ * - tickMs 가 0 이면 요청마다 바로 전파 (기존 동작)
+ * - 그 외에는 요청된 테이블을 dirty 로 표시만 하고, 타이머 스레드 하나가 틱마다 dirty 테이블을 한 번씩 전파
+ *   -> 올인/폴드가 몰리거나 봇이 빠르게 둘 때 같은 틱 안의 여러 변경이 DELTA 하나로 합쳐짐 (프레임 수, 직렬화 횟수 감소)
+ * - 대신 전파가 최대 한 틱(+ 전파 시간)만큼 늦어짐 -> stats() 로 실제 대기 시간을 확인
+ */
+public class BroadcastCoalescer implements AutoCloseable {
+
+    private final long tickMs;
+    private final Consumer<String> flush;
+    private final Map<String, Long> dirty = new ConcurrentHashMap<>(); // tableId -> 처음 요청된 시각 (nanoTime)
+    private final ScheduledExecutorService ticker;
+
+    private final LongAdder requested = new LongAdder();
+    private final LongAdder flushed = new LongAdder();
+    private final LongAdder delayNanos = new LongAdder();
+    private final LongAccumulator maxDelayNanos = new LongAccumulator(Math::max, 0);
+
+    public BroadcastCoalescer(long tickMs, Consumer<String> flush) {
+        if (tickMs < 0) {
+            throw new IllegalArgumentException("전파 틱은 0 이상이어야 합니다.");
+        }
+        this.tickMs = tickMs;
+        this.flush = flush;
+        if (tickMs == 0) {
+            this.ticker = null;
+            return;
+        }
+        this.ticker = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "broadcast-ticker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::flushDirty, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    // 상태가 바뀐 테이블 전파 요청 (이미 dirty 면 처음 요청 시각을 유지)
+    public void request(String tableId) {
+        requested.increment();
+        if (ticker == null) {
+            flush.accept(tableId);
+            flushed.increment();
+            return;
+        }
+        dirty.putIfAbsent(tableId, System.nanoTime());
+    }
+
+    // 먼저 dirty 를 지우고 전파 -> 그 사이 새로 들어온 요청은 다음 틱에 (전파는 항상 최신 스냅샷을 읽으므로 빠지는 변경 없음)
+    private void flushDirty() {
+        for (String tableId : dirty.keySet()) {
+            Long since = dirty.remove(tableId);
+            if (since == null) continue;
+            try {
+                flush.accept(tableId);
+            } catch (RuntimeException e) {
+                // 한 테이블 실패가 타이머 스레드를 멈추면 안 됨
+                System.err.println("[Broadcast Failed] " + tableId + " - " + e.getMessage());
+            }
+            long delay = System.nanoTime() - since;
+            flushed.increment();
+            delayNanos.add(delay);
+            maxDelayNanos.accumulate(delay);
+        }
+    }
+
+    public BroadcastStats stats() {
+        long count = flushed.sum();
+        return new BroadcastStats(tickMs, requested.sum(), count,
+                count == 0 ? 0 : delayNanos.sum() / count / 1_000,
+                maxDelayNanos.get() / 1_000, 0);
+    }
+
+    @Override
+    public void close() {
+        if (ticker != null) {
+            ticker.shutdown();
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.api.socket;
+
+import com.sparta.core.domain.Table;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 바이너리 세션에 묶인 좌석 (SUBSCRIBE 에 playerId 를 붙이면 세션 속성에 저장)
+ * - SEAT_ACTION 마다 테이블/플레이어를 문자열로 찾지 않고 Table 참조와 좌석 번호로 바로 실행
+ */
+@Getter
+@RequiredArgsConstructor
+class SeatHandle {
+
+    static final String ATTRIBUTE = "holdem.seat";
+
+    private final Table table;
+    private final String tableId; // 전파용 (세션에 하나만 있으므로 액션마다 새로 만들지 않음)
+    private final int seat;
+}
@@ -0,0 +1,72 @@
+package com.sparta.api.socket;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * 좌석 토큰: 입장한 플레이어만 자기 좌석(손패, SEAT_ACTION)에 세션을 묶을 수 있게
+ * - 입장(REST join) 응답으로 한 번 발급, 좌석을 묶을 때(STOMP seat 구독, 바이너리 SUBSCRIBE) 같이 보내야 함
+ * - playerId 는 공개 상태에 그대로 나오므로 playerId 만으로는 묶지 않음
+ * - 토큰 = HMAC-SHA256(비밀 키, tableId + playerId) -> 저장해 둘 필요가 없고, 키를 고정하면 재시작 후에도 그대로 쓸 수 있음
+ *   holdem.seat-token.secret 이 비어 있으면 실행할 때마다 새 키 (재시작하면 다시 발급받아야 함)
+ */
+@Component
+public class SeatTokens {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+
+    public SeatTokens(@Value("${holdem.seat-token.secret:}") String secret) {
+        byte[] keyBytes;
+        if (secret == null || secret.isBlank()) {
+            keyBytes = new byte[32];
+            new SecureRandom().nextBytes(keyBytes);
+        } else {
+            keyBytes = secret.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(keyBytes, ALGORITHM);
+    }
+
+    public String issue(String tableId, String playerId) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sign(tableId, playerId));
+    }
+
+    // 맞지 않으면 예외 (STOMP 는 ERROR 프레임, 바이너리는 연결 종료)
+    public void verify(String tableId, String playerId, String token) {
+        byte[] given;
+        try {
+            given = token == null ? new byte[0] : Base64.getUrlDecoder().decode(token);
+        } catch (IllegalArgumentException e) {
+            given = new byte[0];
+        }
+        if (!MessageDigest.isEqual(sign(tableId, playerId), given)) {
+            throw new IllegalArgumentException("좌석 토큰이 맞지 않습니다: " + playerId);
+        }
+    }
+
+    // 길이를 앞에 붙여서 ("ab", "c") 와 ("a", "bc") 가 같은 입력이 되지 않게
+    private byte[] sign(String tableId, String playerId) {
+        byte[] table = tableId.getBytes(StandardCharsets.UTF_8);
+        byte[] player = playerId.getBytes(StandardCharsets.UTF_8);
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update((byte) (table.length >>> 8));
+            mac.update((byte) table.length);
+            mac.update(table);
+            mac.update(player);
+            return mac.doFinal();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("좌석 토큰 계산 실패", e);
+        }
+    }
+}
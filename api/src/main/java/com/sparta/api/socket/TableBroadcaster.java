@@ -0,0 +1,279 @@
+package com.sparta.api.socket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.api.broker.RingTopicBroker;
+import com.sparta.api.dto.BroadcastStats;
+import com.sparta.api.dto.SeatPrivateUpdate;
+import com.sparta.api.dto.TableUpdate;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.core.domain.Table;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.GameService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 테이블 상태 전파 (STOMP 구독자: /topic/table/{tableId}, 바이너리 구독자: SUBSCRIBE 프레임)
+ * - STOMP 핸들러와 바이너리 WebSocket 핸들러가 같이 사용 -> 어느 경로로 들어온 액션이든 모든 구독자가 같은 상태를 받음
+ * - 매번 전체 상태 대신 직전 전파 상태와의 차이(DELTA)만 보내고, keyframeInterval 번마다 전체(KEYFRAME)
+ *   -> 액션 한 번에 바뀌는 건 좌석 하나 + 팟 + 차례 정도라 메시지가 수십 바이트로 줄어듦
+ * - 중간에 들어온 구독자는 keyframe(tableId) 로 현재 상태를 받거나 다음 KEYFRAME 까지 DELTA 를 무시
+ * - 공개 상태는 버전마다 JSON/바이너리로 한 번씩만 인코딩해서 같은 바이트 배열을 모든 구독자에게 보냄 (구독자 수와 무관)
+ * - 손패는 좌석에 묶인 세션에만 개인 메시지로 (/user/queue/table/{tableId} 또는 바이너리 PRIVATE 프레임)
+ *   좌석에 묶으려면 입장할 때 받은 좌석 토큰이 있어야 함 (SeatTokens, playerId 는 공개 상태에 나오므로 그것만으로는 안 됨)
+ * - holdem.broadcast.tick-ms 를 주면 틱마다 테이블당 한 번만 전파 (BroadcastCoalescer)
+ * - 인코딩한 공개 상태는 테이블별 링(RingTopicBroker)에 한 번 쓰고, 구독자는 각자 커서로 읽어 감
+ *   바이너리 구독자는 항상 링으로, STOMP 구독자는 holdem.broker.type=ring 이면 링(StompTopicBridge), simple 이면 SimpleBroker 로
+ */
+@Component
+public class TableBroadcaster implements AutoCloseable {
+
+    private final GameService gameService;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final int keyframeInterval;
+    private final BroadcastCoalescer coalescer;
+    private final RingTopicBroker broker;
+    private final boolean stompViaRing;
+    private final SeatTokens seatTokens;
+    private final Map<String, Stream> streams = new ConcurrentHashMap<>();
+
+    // 테이블별 전파 상태 (같은 테이블 전파는 이 객체로 직렬화 -> 버전 순서대로 나감)
+    private static class Stream {
+        private TableSnapshot last; // 마지막으로 전파한 상태 (다음 DELTA 의 기준)
+        private int sinceKeyframe;
+        private final Map<WebSocketSession, RingTopicBroker.Subscription> binarySubscribers = new HashMap<>();
+        private final Map<String, SeatViewers> seats = new HashMap<>(); // playerId -> 손패를 받을 세션
+    }
+
+    private static class SeatViewers {
+        private final Set<String> stompSessions = new HashSet<>();
+        private final List<WebSocketSession> binarySessions = new ArrayList<>();
+
+        private boolean isEmpty() {
+            return stompSessions.isEmpty() && binarySessions.isEmpty();
+        }
+    }
+
+    public TableBroadcaster(GameService gameService, SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                            @Value("${holdem.broadcast.keyframe-interval:20}") int keyframeInterval,
+                            @Value("${holdem.broadcast.tick-ms:0}") long tickMs,
+                            RingTopicBroker broker,
+                            @Value("${holdem.broker.type:ring}") String brokerType,
+                            SeatTokens seatTokens) {
+        if (keyframeInterval < 1) {
+            throw new IllegalArgumentException("키프레임 주기는 1 이상이어야 합니다.");
+        }
+        // 링에는 항상 마지막 KEYFRAME 이 남아 있어야 새 구독자/느린 구독자가 거기서부터 읽을 수 있음
+        if (broker.getCapacity() <= keyframeInterval) {
+            throw new IllegalArgumentException("링 크기는 키프레임 주기보다 커야 합니다: " + broker.getCapacity());
+        }
+        this.gameService = gameService;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.keyframeInterval = keyframeInterval;
+        this.coalescer = new BroadcastCoalescer(tickMs, this::publish);
+        this.broker = broker;
+        this.stompViaRing = "ring".equals(brokerType);
+        this.seatTokens = seatTokens;
+    }
+
+    // 상태가 바뀐 테이블 전파 (틱 0 이면 호출한 스레드에서 바로 -> 명령을 실행한 스레드에서 부르면 명령 순서대로 전파됨)
+    public void broadcast(String tableId) {
+        coalescer.request(tableId);
+    }
+
+    public BroadcastStats stats() {
+        BroadcastStats stats = coalescer.stats();
+        return new BroadcastStats(stats.getTickMs(), stats.getRequested(), stats.getFlushed(),
+                stats.getAverageDelayMicros(), stats.getMaxDelayMicros(), broker.getSkipped());
+    }
+
+    // 커밋된 불변 스냅샷을 락 없이 읽어서 직렬화 (지금 최신 상태를 직전 전파 상태와 비교)
+    private void publish(String tableId) {
+        TableSnapshot snapshot = gameService.getSnapshot(tableId);
+        Stream stream = streams.computeIfAbsent(tableId, id -> new Stream());
+        synchronized (stream) {
+            publishLocked(tableId, stream, snapshot);
+        }
+    }
+
+    // 테이블마다 stream 락 안에서만 호출 -> 링에 쓰는 스레드가 테이블당 하나
+    private void publishLocked(String tableId, Stream stream, TableSnapshot snapshot) {
+        TableSnapshot previous = stream.last;
+        if (previous != null && snapshot.getVersion() <= previous.getVersion()) {
+            return; // 더 새 상태가 이미 나감 (그 DELTA 에 이번 변경도 포함)
+        }
+        TableUpdate update;
+        if (previous == null || ++stream.sinceKeyframe >= keyframeInterval) {
+            update = TableUpdate.keyframe(snapshot);
+            stream.sinceKeyframe = 0;
+        } else {
+            update = TableUpdate.delta(previous, snapshot);
+        }
+        stream.last = snapshot;
+
+        // 1. 공개 상태: 한 번 인코딩해서 링에 쓰면 디스패처가 구독자마다 보냄
+        byte[] json = toJson(update);
+        broker.publish(tableId, snapshot.getVersion(), update.getType() == TableUpdate.Type.KEYFRAME,
+                json, BinarySerializer.serializeUpdate(update));
+        if (!stompViaRing) {
+            sendJson("/topic/table/" + tableId, json, null);
+        }
+
+        // 2. 손패가 바뀐 좌석에만 개인 메시지 (보통 새 핸드를 시작할 때 한 번)
+        if (!stream.seats.isEmpty()) {
+            long[] previousHoleCards = new long[Table.MAX_PLAYERS];
+            if (previous != null) {
+                for (TableSnapshot.PlayerSnapshot player : previous.getPlayers()) {
+                    previousHoleCards[player.getSeat()] = player.getHoleCardSet();
+                }
+            }
+            for (TableSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+                SeatViewers viewers = stream.seats.get(player.getId());
+                if (viewers != null && (previous == null || player.getHoleCardSet() != previousHoleCards[player.getSeat()])) {
+                    sendPrivate(tableId, viewers, SeatPrivateUpdate.of(snapshot, player));
+                }
+            }
+        }
+    }
+
+    // 현재 전파 기준 상태 전체 (이후 DELTA 의 baseVersion 과 이어짐)
+    public TableUpdate keyframe(String tableId) {
+        Stream stream = streams.computeIfAbsent(tableId, id -> new Stream());
+        synchronized (stream) {
+            return TableUpdate.keyframe(stream.last != null ? stream.last : gameService.getSnapshot(tableId));
+        }
+    }
+
+    // STOMP 세션을 좌석에 묶고 현재 손패를 돌려줌 (이후 바뀌면 /user/queue/table/{tableId} 로)
+    // 손패는 DELTA 와 이어질 필요가 없어서 아직 전파 전인 최신 상태 기준 (방금 입장한 플레이어도 찾을 수 있게)
+    // 좌석 토큰이 맞지 않으면 묶지 않고 예외
+    public SeatPrivateUpdate bindSeat(String tableId, String playerId, String seatToken, String sessionId) {
+        seatTokens.verify(tableId, playerId, seatToken);
+        TableSnapshot current = gameService.getSnapshot(tableId);
+        TableSnapshot.PlayerSnapshot player = findPlayer(current, playerId);
+        Stream stream = streams.computeIfAbsent(tableId, id -> new Stream());
+        synchronized (stream) {
+            stream.seats.computeIfAbsent(playerId, id -> new SeatViewers()).stompSessions.add(sessionId);
+        }
+        return SeatPrivateUpdate.of(current, player);
+    }
+
+    // 바이너리 구독: 링의 마지막 KEYFRAME 부터 받고 (좌석을 지정했으면 PRIVATE 도 바로) 이후 전파를 받음
+    // sinceVersion 이 링에 남아 있으면 (재연결) KEYFRAME 없이 그 다음 DELTA 부터
+    // 묶인 좌석 번호를 돌려줌 (좌석을 지정하지 않았거나 보내기에 실패하면 -1), 다시 구독하면 이전 구독/좌석은 해제
+    // 좌석을 지정했는데 좌석 토큰이 맞지 않으면 아무것도 구독하지 않고 예외
+    public int subscribeBinary(String tableId, String playerId, String seatToken, long sinceVersion, WebSocketSession session) {
+        if (playerId != null) {
+            seatTokens.verify(tableId, playerId, seatToken);
+        }
+        TableSnapshot current = gameService.getSnapshot(tableId); // 없는 테이블이면 여기서 예외
+        Stream stream = streams.computeIfAbsent(tableId, id -> new Stream());
+        synchronized (stream) {
+            TableSnapshot.PlayerSnapshot player = playerId == null ? null : findPlayer(current, playerId);
+            if (stream.last == null) {
+                publishLocked(tableId, stream, current); // 아직 전파 전이면 첫 KEYFRAME 을 링에 넣어 둠
+            }
+            RingTopicBroker.Subscription previous = stream.binarySubscribers.put(session,
+                    broker.subscribe(tableId, new BinarySessionSink(session), sinceVersion));
+            if (previous != null) previous.cancel();
+            stream.seats.values().removeIf(viewers -> viewers.binarySessions.remove(session) && viewers.isEmpty());
+            if (player == null) return -1;
+            stream.seats.computeIfAbsent(playerId, id -> new SeatViewers()).binarySessions.add(session);
+            if (!send(session, BinarySerializer.serializePrivate(SeatPrivateUpdate.of(current, player)))) return -1;
+            return player.getSeat();
+        }
+    }
+
+    public void unsubscribeBinary(WebSocketSession session) {
+        for (Stream stream : streams.values()) {
+            synchronized (stream) {
+                RingTopicBroker.Subscription subscription = stream.binarySubscribers.remove(session);
+                if (subscription != null) subscription.cancel();
+                stream.seats.values().removeIf(viewers -> viewers.binarySessions.remove(session) && viewers.isEmpty());
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        for (Stream stream : streams.values()) {
+            synchronized (stream) {
+                stream.seats.values().removeIf(viewers -> viewers.stompSessions.remove(event.getSessionId()) && viewers.isEmpty());
+            }
+        }
+    }
+
+    // 좌석 하나에 대해서도 한 번만 인코딩 (같은 플레이어가 여러 세션으로 볼 수 있음)
+    private void sendPrivate(String tableId, SeatViewers viewers, SeatPrivateUpdate update) {
+        if (!viewers.stompSessions.isEmpty()) {
+            byte[] json = toJson(update);
+            for (String sessionId : viewers.stompSessions) {
+                sendJson("/user/" + sessionId + "/queue/table/" + tableId, json, sessionId);
+            }
+        }
+        if (!viewers.binarySessions.isEmpty()) {
+            byte[] frame = BinarySerializer.serializePrivate(update);
+            viewers.binarySessions.removeIf(session -> !send(session, frame));
+        }
+    }
+
+    private static TableSnapshot.PlayerSnapshot findPlayer(TableSnapshot snapshot, String playerId) {
+        for (TableSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+            if (player.getId().equals(playerId)) return player;
+        }
+        throw new IllegalArgumentException("테이블에 없는 플레이어입니다: " + playerId);
+    }
+
+    private byte[] toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsBytes(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("상태 직렬화 실패", e);
+        }
+    }
+
+    // 이미 인코딩된 JSON 을 그대로 실어 보냄 (convertAndSend 처럼 다시 변환하지 않음)
+    // 세션 하나에만 보낼 때는 sessionId 를 user 로 사용 (로그인 사용자 없음)
+    private void sendJson(String destination, byte[] json, String sessionId) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        if (sessionId != null) {
+            headers.setSessionId(sessionId);
+        }
+        headers.setLeaveMutable(true);
+        messagingTemplate.send(destination, MessageBuilder.createMessage(json, headers.getMessageHeaders()));
+    }
+
+    @Override
+    public void close() {
+        coalescer.close();
+    }
+
+    // 실패하면 false (끊긴 세션은 좌석 목록에서 뺌)
+    // 바이트 배열은 공유하고 BinaryMessage 는 세션마다 (보내면서 ByteBuffer 위치가 움직임)
+    private static boolean send(WebSocketSession session, byte[] frame) {
+        try {
+            session.sendMessage(new BinaryMessage(frame));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            System.err.println("[Binary Broadcast Failed] " + session.getId() + " - " + e.getMessage());
+            return false;
+        }
+    }
+}
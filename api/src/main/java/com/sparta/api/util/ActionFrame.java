@@ -0,0 +1,123 @@
+package com.sparta.api.util;
+
+import com.sparta.core.domain.ActionType;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 재사용하는 액션 요청 (BinarySerializerV2 인코딩/디코딩 대상)
+ * - 세션(또는 스레드)마다 하나를 두고 프레임마다 덮어씀 -> 디코딩에 할당 없음
+ * - tableId/playerId 는 UTF-8 바이트로 들고 있다가 문자열이 필요할 때만 만들고,
+ *   같은 바이트가 다시 오면(같은 세션의 같은 플레이어) 만들어 둔 문자열을 그대로 돌려줌
+ * - 스레드 안전하지 않음: 값을 꺼낸 뒤 다음 프레임을 디코딩할 것
+ */
+public class ActionFrame {
+
+    public static final int MAX_TEXT_BYTES = 0xFF; // 길이 1바이트
+
+    private ActionType action;
+    private long amount;
+    private final CachedText tableId = new CachedText();
+    private final CachedText playerId = new CachedText();
+
+    // 보낼 값 채우기 (클라이언트/테스트, ASCII 면 할당 없음)
+    public ActionFrame set(String tableId, String playerId, ActionType action, long amount) {
+        this.tableId.set(tableId);
+        this.playerId.set(playerId);
+        this.action = action;
+        this.amount = amount;
+        return this;
+    }
+
+    public ActionType getAction() {
+        return action;
+    }
+
+    public long getAmount() {
+        return amount;
+    }
+
+    public String getTableId() {
+        return tableId.value();
+    }
+
+    public String getPlayerId() {
+        return playerId.value();
+    }
+
+    void setAction(ActionType action) {
+        this.action = action;
+    }
+
+    void setAmount(long amount) {
+        this.amount = amount;
+    }
+
+    CachedText tableIdText() {
+        return tableId;
+    }
+
+    CachedText playerIdText() {
+        return playerId;
+    }
+
+    // [길이 1바이트][UTF-8] 문자열 칸 (바이트가 바뀔 때만 문자열 캐시를 버림)
+    static final class CachedText {
+        private final byte[] bytes = new byte[MAX_TEXT_BYTES];
+        private int length;
+        private String value = "";
+
+        // 버퍼의 현재 위치에서 읽음 (힙/다이렉트 모두 복사 1번, 같은 내용이면 복사도 없음)
+        void read(ByteBuffer in) {
+            int newLength = in.get() & 0xFF;
+            if (newLength > in.remaining()) {
+                throw new IllegalArgumentException("문자열 길이가 프레임보다 깁니다: " + newLength);
+            }
+            int start = in.position();
+            boolean same = newLength == length;
+            for (int i = 0; same && i < newLength; i++) {
+                same = in.get(start + i) == bytes[i];
+            }
+            if (!same) {
+                in.get(start, bytes, 0, newLength);
+                length = newLength;
+                value = null;
+            }
+            in.position(start + newLength);
+        }
+
+        void write(ByteBuffer out) {
+            out.put((byte) length).put(bytes, 0, length);
+        }
+
+        void set(String text) {
+            if (text.equals(value)) return;
+            int n = text.length();
+            boolean ascii = n <= MAX_TEXT_BYTES;
+            for (int i = 0; ascii && i < n; i++) {
+                char c = text.charAt(i);
+                if (c >= 0x80) ascii = false;
+                else bytes[i] = (byte) c;
+            }
+            if (ascii) {
+                length = n;
+            } else {
+                byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+                if (utf8.length > MAX_TEXT_BYTES) {
+                    throw new IllegalArgumentException("문자열이 너무 깁니다: " + text);
+                }
+                System.arraycopy(utf8, 0, bytes, 0, utf8.length);
+                length = utf8.length;
+            }
+            value = text;
+        }
+
+        String value() {
+            if (value == null) {
+                value = new String(bytes, 0, length, StandardCharsets.UTF_8);
+            }
+            return value;
+        }
+    }
+}
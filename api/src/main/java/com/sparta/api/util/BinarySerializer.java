@@ -1,13 +1,73 @@
 package com.sparta.api.util;
 
 import com.sparta.api.dto.GameActionRequest;
+import com.sparta.api.dto.SeatPrivateUpdate;
+import com.sparta.api.dto.TableUpdate;
+import com.sparta.core.domain.ActionResult;
 import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.GameRound;
 
 import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
 
 public class BinarySerializer {
 
+    /**
+     * 바이너리 WebSocket 프레임 (/ws-holdem-binary, 첫 바이트 = 프레임 종류)
+     * - 클라이언트 -> 서버 ACTION: [0x01][tableId 길이(1byte)][tableId] + 액션 본문(serialize 결과)
+     * - 클라이언트 -> 서버 ACTION v2: [0x03] + BinarySerializerV2 참고 (할당 없는 코덱, zig-zag varint 금액)
+     * - 클라이언트 -> 서버 SUBSCRIBE: [0x02][tableId 길이(1byte)][tableId]([playerId 길이(1byte)][playerId][seatToken 길이(1byte)][seatToken])
+     *   -> 바로 KEYFRAME 을 받고 이후 DELTA
+     *   playerId 와 입장 응답의 seatToken 을 붙이면 그 좌석의 PRIVATE 프레임도 받고, 세션이 그 좌석에 묶임 (이후 SEAT_ACTION 사용 가능)
+     *   토큰이 맞지 않으면 연결을 끊음 (playerId 길이가 0 이면 seatToken 은 보내지 않음)
+     *   재연결이면 그 뒤에 [sinceVersion 8] (좌석 없이 보내려면 playerId 길이 0) -> KEYFRAME 대신 그 버전 이후 DELTA 만
+     *   (그 버전이 이미 링에 없으면 KEYFRAME 부터)
+     * - 클라이언트 -> 서버 SEAT_ACTION: [0x10 | 액션 순번][amount varint][sequence varint] (보통 3~5바이트)
+     *   테이블/플레이어는 세션에 묶인 좌석으로 정해지므로 문자열 없음
+     * - 서버 -> 클라이언트 RESULT: [0x81][결과 코드(ActionResult 순번, 1byte)] (SEAT_ACTION 응답이면 뒤에 [sequence varint])
+     * - 서버 -> 클라이언트 KEYFRAME(0x82) / DELTA(0x83): serializeUpdate 참고
+     * - 서버 -> 클라이언트 PRIVATE(0x84): [tableId 길이][tableId][version 8][좌석 1][장수 1][카드 인덱스 1씩]
+     */
+    public static final byte FRAME_ACTION = 0x01;
+    public static final byte FRAME_SUBSCRIBE = 0x02;
+    public static final byte FRAME_SEAT_ACTION = 0x10; // 아래 4비트 = 액션 순번
+    public static final byte FRAME_RESULT = (byte) 0x81;
+    public static final byte FRAME_KEYFRAME = (byte) 0x82;
+    public static final byte FRAME_DELTA = (byte) 0x83;
+    public static final byte FRAME_PRIVATE = (byte) 0x84;
+
+    // TableUpdate 필드 비트 (있는 필드만 순서대로 기록)
+    private static final int HAS_ROUND = 1;
+    private static final int HAS_BOARD = 1 << 1;
+    private static final int HAS_POT = 1 << 2;
+    private static final int HAS_DEALER = 1 << 3;
+    private static final int HAS_ACTION = 1 << 4;
+    private static final int HAS_HIGHEST_BET = 1 << 5;
+    private static final int HAS_MIN_RAISE = 1 << 6;
+    private static final int HAS_HAND = 1 << 7;
+    private static final int HAS_SEATS = 1 << 8;
+    // 좌석 필드 비트
+    private static final int SEAT_PLAYER = 1;
+    private static final int SEAT_CHIPS = 1 << 1;
+    private static final int SEAT_BET = 1 << 2;
+    private static final int SEAT_FOLDED = 1 << 3;
+
+    private static final GameRound[] ROUNDS = GameRound.values();
+
+    private static final ActionType[] ACTIONS = ActionType.values();
+    private static final ActionResult[] RESULTS = ActionResult.values();
+    // 결과 프레임은 종류가 몇 개 안 되므로 미리 만들어 두고 공유 (읽기 전용)
+    private static final byte[][] RESULT_FRAMES = new byte[RESULTS.length][];
+
+    static {
+        for (ActionResult result : RESULTS) {
+            RESULT_FRAMES[result.ordinal()] = new byte[]{FRAME_RESULT, (byte) result.ordinal()};
+        }
+    }
+
     /**
      * [직렬화] 객체 -> byte[] (압축)
      * 구조: [Action(1byte)] + [Amount(8byte)] + [PlayerId길이(4byte)] + [PlayerId(Nbyte)]
@@ -36,18 +96,25 @@ public class BinarySerializer {
      * 받는 쪽(서버/클라이언트)에서 사용
      */
     public static GameActionRequest deserialize(byte[] bytes) {
-        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        return deserialize(ByteBuffer.wrap(bytes));
+    }
 
+    /**
+     * [역직렬화] 버퍼의 현재 위치부터 읽기 (WebSocket 프레임 payload 를 byte[] 로 복사하지 않음)
+     * - 잘못된 프레임이면 IllegalArgumentException / BufferUnderflowException
+     */
+    public static GameActionRequest deserialize(ByteBuffer buffer) {
         // 1. 순서대로 읽기
         int actionOrdinal = buffer.get(); // 1byte 읽기
-        ActionType action = ActionType.values()[actionOrdinal];
+        if (actionOrdinal < 0 || actionOrdinal >= ACTIONS.length) {
+            throw new IllegalArgumentException("알 수 없는 액션입니다: " + actionOrdinal);
+        }
+        ActionType action = ACTIONS[actionOrdinal];
 
         long amount = buffer.getLong(); // 8byte 읽기
 
         int idLength = buffer.getInt(); // 4byte 읽기
-        byte[] idBytes = new byte[idLength];
-        buffer.get(idBytes); // 길이만큼 문자열 읽기
-        String playerId = new String(idBytes, StandardCharsets.UTF_8);
+        String playerId = readString(buffer, idLength); // 길이만큼 문자열 읽기
 
         // 2. 객체 생성
         GameActionRequest request = new GameActionRequest();
@@ -57,4 +124,279 @@ public class BinarySerializer {
 
         return request;
     }
+
+    // ACTION 프레임 (클라이언트/테스트용)
+    public static byte[] serializeActionFrame(String tableId, GameActionRequest request) {
+        byte[] tableIdBytes = tableId.getBytes(StandardCharsets.UTF_8);
+        if (tableIdBytes.length > 0xFF) {
+            throw new IllegalArgumentException("테이블 ID가 너무 깁니다.");
+        }
+        byte[] body = serialize(request);
+        return ByteBuffer.allocate(2 + tableIdBytes.length + body.length)
+                .put(FRAME_ACTION)
+                .put((byte) tableIdBytes.length)
+                .put(tableIdBytes)
+                .put(body)
+                .array();
+    }
+
+    // ACTION 프레임의 tableId (프레임 종류 바이트 다음 위치에서 호출)
+    public static String readTableId(ByteBuffer buffer) {
+        return readString(buffer, buffer.get() & 0xFF);
+    }
+
+    // SEAT_ACTION 프레임 (클라이언트/테스트용), varint = 7비트씩 낮은 자리부터, 이어지면 최상위 비트 1
+    public static byte[] serializeSeatAction(ActionType action, long amount, long sequence) {
+        ByteBuffer buffer = ByteBuffer.allocate(1 + varLongSize(amount) + varLongSize(sequence));
+        buffer.put((byte) (FRAME_SEAT_ACTION | action.ordinal()));
+        putVarLong(buffer, amount);
+        putVarLong(buffer, sequence);
+        return buffer.array();
+    }
+
+    public static boolean isSeatAction(byte frameType) {
+        return (frameType & 0xF0) == FRAME_SEAT_ACTION;
+    }
+
+    // SEAT_ACTION 첫 바이트의 액션 (amount, sequence 는 readVarLong 으로 이어서)
+    public static ActionType seatAction(byte frameType) {
+        int ordinal = frameType & 0x0F;
+        if (ordinal >= ACTIONS.length) {
+            throw new IllegalArgumentException("알 수 없는 액션입니다: " + ordinal);
+        }
+        return ACTIONS[ordinal];
+    }
+
+    public static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            if (b >= 0) return value;
+        }
+        throw new IllegalArgumentException("varint 가 너무 깁니다.");
+    }
+
+    static void putVarLong(ByteBuffer buffer, long value) {
+        while ((value & ~0x7FL) != 0) {
+            buffer.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        buffer.put((byte) value);
+    }
+
+    static int varLongSize(long value) {
+        return value == 0 ? 1 : (64 - Long.numberOfLeadingZeros(value) + 6) / 7;
+    }
+
+    // SEAT_ACTION 응답: 어느 요청의 결과인지 sequence 를 붙임
+    public static byte[] resultFrame(ActionResult result, long sequence) {
+        ByteBuffer buffer = ByteBuffer.allocate(2 + varLongSize(sequence));
+        buffer.put(FRAME_RESULT).put((byte) result.ordinal());
+        putVarLong(buffer, sequence);
+        return buffer.array();
+    }
+
+    public static byte[] resultFrame(ActionResult result) {
+        return RESULT_FRAMES[result.ordinal()];
+    }
+
+    public static ActionResult readResult(ByteBuffer buffer) {
+        if (buffer.get() != FRAME_RESULT) {
+            throw new IllegalArgumentException("RESULT 프레임이 아닙니다.");
+        }
+        return RESULTS[buffer.get()];
+    }
+
+    // 힙 버퍼면 배열에서 바로 디코딩 (중간 byte[] 없음)
+    private static String readString(ByteBuffer buffer, int length) {
+        if (length < 0 || length > buffer.remaining()) {
+            throw new IllegalArgumentException("문자열 길이가 올바르지 않습니다: " + length);
+        }
+        String value;
+        if (buffer.hasArray()) {
+            value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+        } else {
+            byte[] bytes = new byte[length];
+            buffer.get(bytes);
+            value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    /**
+     * [직렬화] 테이블 상태 전파 메시지 (KEYFRAME / DELTA)
+     * 구조: [종류 1][tableId 길이 1][tableId][version 8]([baseVersion 8] DELTA 만)[필드 비트 2] + 있는 필드만:
+     * round(1) / board(장수 1 + 카드 인덱스 1씩) / pot(총액 8 + 층 수 1 + 층 8씩) / dealer(1) / action(1)
+     * / highestBet(8) / minRaise(8) / handInProgress(1) / seats(좌석 수 1 + [좌석 1][좌석 필드 비트 1][id][name][chips 8][bet 8][folded 1])
+     * - 액션 한 번의 DELTA 는 수십 바이트 (6인 테이블 레이즈 기준 80바이트, KEYFRAME 280바이트)
+     */
+    public static byte[] serializeUpdate(TableUpdate update) {
+        byte[] tableId = update.getTableId().getBytes(StandardCharsets.UTF_8);
+        List<TableUpdate.SeatChange> seats = update.getSeats();
+        byte[][] seatStrings = new byte[seats == null ? 0 : seats.size() * 2][];
+
+        // 1. 크기 계산
+        int size = 1 + 1 + tableId.length + 8 + (update.getType() == TableUpdate.Type.DELTA ? 8 : 0) + 2;
+        int fields = 0;
+        if (update.getCurrentRound() != null) { fields |= HAS_ROUND; size += 1; }
+        if (update.getCommunityCards() != null) { fields |= HAS_BOARD; size += 1 + update.getCommunityCards().size(); }
+        if (update.getPotTotal() != null) { fields |= HAS_POT; size += 8 + 1 + 8 * update.getPotLayers().size(); }
+        if (update.getDealerSeat() != null) { fields |= HAS_DEALER; size += 1; }
+        if (update.getActionSeat() != null) { fields |= HAS_ACTION; size += 1; }
+        if (update.getHighestBet() != null) { fields |= HAS_HIGHEST_BET; size += 8; }
+        if (update.getMinRaise() != null) { fields |= HAS_MIN_RAISE; size += 8; }
+        if (update.getHandInProgress() != null) { fields |= HAS_HAND; size += 1; }
+        if (seats != null) {
+            fields |= HAS_SEATS;
+            size += 1;
+            for (int i = 0; i < seats.size(); i++) {
+                TableUpdate.SeatChange seat = seats.get(i);
+                size += 2;
+                if (seat.getPlayerId() != null) {
+                    seatStrings[2 * i] = shortString(seat.getPlayerId());
+                    seatStrings[2 * i + 1] = shortString(seat.getName() == null ? "" : seat.getName());
+                    size += 2 + seatStrings[2 * i].length + seatStrings[2 * i + 1].length;
+                }
+                if (seat.getChips() != null) size += 8;
+                if (seat.getCurrentBet() != null) size += 8;
+                if (seat.getFolded() != null) size += 1;
+            }
+        }
+        if (tableId.length > 0xFF) {
+            throw new IllegalArgumentException("테이블 ID가 너무 깁니다.");
+        }
+
+        // 2. 기록
+        ByteBuffer buffer = ByteBuffer.allocate(size);
+        buffer.put(update.getType() == TableUpdate.Type.DELTA ? FRAME_DELTA : FRAME_KEYFRAME);
+        buffer.put((byte) tableId.length).put(tableId);
+        buffer.putLong(update.getVersion());
+        if (update.getType() == TableUpdate.Type.DELTA) buffer.putLong(update.getBaseVersion());
+        buffer.putShort((short) fields);
+        if ((fields & HAS_ROUND) != 0) buffer.put((byte) update.getCurrentRound().ordinal());
+        if ((fields & HAS_BOARD) != 0) {
+            buffer.put((byte) update.getCommunityCards().size());
+            for (Card card : update.getCommunityCards()) buffer.put((byte) card.getIndex());
+        }
+        if ((fields & HAS_POT) != 0) {
+            buffer.putLong(update.getPotTotal());
+            buffer.put((byte) update.getPotLayers().size());
+            for (long layer : update.getPotLayers()) buffer.putLong(layer);
+        }
+        if ((fields & HAS_DEALER) != 0) buffer.put((byte) (int) update.getDealerSeat());
+        if ((fields & HAS_ACTION) != 0) buffer.put((byte) (int) update.getActionSeat());
+        if ((fields & HAS_HIGHEST_BET) != 0) buffer.putLong(update.getHighestBet());
+        if ((fields & HAS_MIN_RAISE) != 0) buffer.putLong(update.getMinRaise());
+        if ((fields & HAS_HAND) != 0) buffer.put((byte) (update.getHandInProgress() ? 1 : 0));
+        if ((fields & HAS_SEATS) != 0) {
+            buffer.put((byte) seats.size());
+            for (int i = 0; i < seats.size(); i++) {
+                TableUpdate.SeatChange seat = seats.get(i);
+                int seatFields = (seat.getPlayerId() != null ? SEAT_PLAYER : 0)
+                        | (seat.getChips() != null ? SEAT_CHIPS : 0)
+                        | (seat.getCurrentBet() != null ? SEAT_BET : 0)
+                        | (seat.getFolded() != null ? SEAT_FOLDED : 0);
+                buffer.put((byte) seat.getSeat()).put((byte) seatFields);
+                if ((seatFields & SEAT_PLAYER) != 0) {
+                    buffer.put((byte) seatStrings[2 * i].length).put(seatStrings[2 * i]);
+                    buffer.put((byte) seatStrings[2 * i + 1].length).put(seatStrings[2 * i + 1]);
+                }
+                if ((seatFields & SEAT_CHIPS) != 0) buffer.putLong(seat.getChips());
+                if ((seatFields & SEAT_BET) != 0) buffer.putLong(seat.getCurrentBet());
+                if ((seatFields & SEAT_FOLDED) != 0) buffer.put((byte) (seat.getFolded() ? 1 : 0));
+            }
+        }
+        return buffer.array();
+    }
+
+    // [역직렬화] 클라이언트/테스트용
+    public static TableUpdate deserializeUpdate(ByteBuffer buffer) {
+        TableUpdate update = new TableUpdate();
+        byte frame = buffer.get();
+        if (frame != FRAME_KEYFRAME && frame != FRAME_DELTA) {
+            throw new IllegalArgumentException("상태 프레임이 아닙니다.");
+        }
+        update.setType(frame == FRAME_DELTA ? TableUpdate.Type.DELTA : TableUpdate.Type.KEYFRAME);
+        update.setTableId(readTableId(buffer));
+        update.setVersion(buffer.getLong());
+        if (frame == FRAME_DELTA) update.setBaseVersion(buffer.getLong());
+        int fields = buffer.getShort() & 0xFFFF;
+        if ((fields & HAS_ROUND) != 0) update.setCurrentRound(ROUNDS[buffer.get()]);
+        if ((fields & HAS_BOARD) != 0) {
+            int count = buffer.get();
+            List<Card> cards = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) cards.add(Card.of(buffer.get()));
+            update.setCommunityCards(cards);
+        }
+        if ((fields & HAS_POT) != 0) {
+            update.setPotTotal(buffer.getLong());
+            int count = buffer.get();
+            List<Long> layers = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) layers.add(buffer.getLong());
+            update.setPotLayers(layers);
+        }
+        if ((fields & HAS_DEALER) != 0) update.setDealerSeat((int) buffer.get());
+        if ((fields & HAS_ACTION) != 0) update.setActionSeat((int) buffer.get());
+        if ((fields & HAS_HIGHEST_BET) != 0) update.setHighestBet(buffer.getLong());
+        if ((fields & HAS_MIN_RAISE) != 0) update.setMinRaise(buffer.getLong());
+        if ((fields & HAS_HAND) != 0) update.setHandInProgress(buffer.get() != 0);
+        if ((fields & HAS_SEATS) != 0) {
+            int count = buffer.get();
+            List<TableUpdate.SeatChange> seats = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                TableUpdate.SeatChange seat = new TableUpdate.SeatChange();
+                seat.setSeat(buffer.get());
+                int seatFields = buffer.get();
+                if ((seatFields & SEAT_PLAYER) != 0) {
+                    seat.setPlayerId(readTableId(buffer));
+                    seat.setName(readTableId(buffer));
+                }
+                if ((seatFields & SEAT_CHIPS) != 0) seat.setChips(buffer.getLong());
+                if ((seatFields & SEAT_BET) != 0) seat.setCurrentBet(buffer.getLong());
+                if ((seatFields & SEAT_FOLDED) != 0) seat.setFolded(buffer.get() != 0);
+                seats.add(seat);
+            }
+            update.setSeats(seats);
+        }
+        return update;
+    }
+
+    // [직렬화] 좌석 개인 메시지 (내 손패)
+    public static byte[] serializePrivate(SeatPrivateUpdate update) {
+        byte[] tableId = shortString(update.getTableId());
+        List<Card> cards = update.getHoleCards();
+        ByteBuffer buffer = ByteBuffer.allocate(1 + 1 + tableId.length + 8 + 1 + 1 + cards.size());
+        buffer.put(FRAME_PRIVATE);
+        buffer.put((byte) tableId.length).put(tableId);
+        buffer.putLong(update.getVersion());
+        buffer.put((byte) update.getSeat());
+        buffer.put((byte) cards.size());
+        for (Card card : cards) buffer.put((byte) card.getIndex());
+        return buffer.array();
+    }
+
+    // [역직렬화] 클라이언트/테스트용 (playerId 는 프레임에 없음 -> 구독할 때 보낸 값)
+    public static SeatPrivateUpdate deserializePrivate(ByteBuffer buffer, String playerId) {
+        if (buffer.get() != FRAME_PRIVATE) {
+            throw new IllegalArgumentException("개인 프레임이 아닙니다.");
+        }
+        String tableId = readTableId(buffer);
+        long version = buffer.getLong();
+        int seat = buffer.get();
+        int count = buffer.get();
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) cards.add(Card.of(buffer.get()));
+        return new SeatPrivateUpdate(tableId, version, seat, playerId, cards);
+    }
+
+    // 길이 1바이트 문자열 (255바이트까지)
+    private static byte[] shortString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > 0xFF) {
+            throw new IllegalArgumentException("문자열이 너무 깁니다: " + value);
+        }
+        return bytes;
+    }
 }
@@ -0,0 +1,64 @@
+package com.sparta.api.util;
+
+import com.sparta.core.domain.ActionType;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 바이너리 액션 코덱 v2 (v1 = BinarySerializer.serialize/deserialize, 기존 클라이언트용으로 그대로 둠)
+ * 프레임: [0x03][tableId 길이 1][tableId][액션 1][amount zig-zag varint][playerId 길이 1][playerId]
+ * - v1 은 메시지마다 힙 ByteBuffer/byte[] 를 만들고, 디코딩마다 GameActionRequest/byte[]/String 을 만듦
+ * - v2 는 호출자가 준 버퍼(또는 스레드별 다이렉트 버퍼)에 쓰고, 재사용하는 ActionFrame 에 읽어서 메시지당 할당 없음
+ * - 금액은 zig-zag varint: 작은 값은 1~3바이트, 음수도 짧게 (음수 금액은 BettingRoundEngine 이 INVALID_AMOUNT 로 거절)
+ */
+public final class BinarySerializerV2 {
+
+    public static final byte FRAME_ACTION_V2 = 0x03;
+    public static final int MAX_FRAME_BYTES = 1 + (1 + ActionFrame.MAX_TEXT_BYTES) + 1 + 10 + (1 + ActionFrame.MAX_TEXT_BYTES);
+
+    private static final ActionType[] ACTIONS = ActionType.values(); // values() 는 호출마다 배열을 복사하므로 한 번만
+    private static final ThreadLocal<ByteBuffer> POOL = ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(MAX_FRAME_BYTES));
+
+    private BinarySerializerV2() {
+    }
+
+    // 호출자가 준 버퍼의 현재 위치부터 프레임 전체를 씀 (공간이 모자라면 BufferOverflowException)
+    public static void encode(ActionFrame frame, ByteBuffer out) {
+        out.put(FRAME_ACTION_V2);
+        frame.tableIdText().write(out);
+        out.put((byte) frame.getAction().ordinal());
+        BinarySerializer.putVarLong(out, zigZag(frame.getAmount()));
+        frame.playerIdText().write(out);
+    }
+
+    // 스레드별 다이렉트 버퍼에 인코딩해 읽을 수 있게 flip 해서 돌려줌 (같은 스레드의 다음 호출 전까지만 유효)
+    public static ByteBuffer encodePooled(ActionFrame frame) {
+        ByteBuffer buffer = POOL.get().clear();
+        encode(frame, buffer);
+        return buffer.flip();
+    }
+
+    /**
+     * 프레임 종류 바이트 다음 위치부터 읽어 target 에 덮어씀
+     * - 잘못된 프레임이면 IllegalArgumentException / BufferUnderflowException
+     */
+    public static ActionFrame decode(ByteBuffer in, ActionFrame target) {
+        target.tableIdText().read(in);
+        int ordinal = in.get();
+        if (ordinal < 0 || ordinal >= ACTIONS.length) {
+            throw new IllegalArgumentException("알 수 없는 액션입니다: " + ordinal);
+        }
+        target.setAction(ACTIONS[ordinal]);
+        target.setAmount(unZigZag(BinarySerializer.readVarLong(in)));
+        target.playerIdText().read(in);
+        return target;
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+}
@@ -0,0 +1,160 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.ActionResult;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.GameRound;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActionJournalTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("journal");
+    }
+
+    private MappedActionJournal openJournal() {
+        // 명령마다 fsync (테스트에서 flusher 주기를 기다리지 않도록)
+        return new MappedActionJournal(directory, 2, 4, Duration.ZERO);
+    }
+
+    private GameService newGameService(ActionJournal journal) {
+        return new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100), journal);
+    }
+
+    @Test
+    @DisplayName("1. 재시작 후 저널을 재생하면 칩, 손패, 보드, 차례까지 그대로 복구되고 이어서 진행할 수 있다")
+    void recoversMidHand() {
+        // Given: 세그먼트(레코드 4개)를 여러 번 넘기도록 두 테이블에서 진행
+        MappedActionJournal journal = openJournal();
+        GameService before = newGameService(journal);
+        assertEquals(0, before.recover());
+        for (String tableId : new String[]{"t1", "t2"}) {
+            before.createTable(tableId);
+            before.joinPlayer(tableId, "p1", "P1", 10_000).join();
+            before.joinPlayer(tableId, "p2", "P2", 10_000).join();
+            before.joinPlayer(tableId, "p3", "플레이어3", 10_000).join();
+            before.startGame(tableId).join();
+            before.submitAction(tableId, "p1", ActionType.RAISE, 300).join();
+            before.submitAction(tableId, "p2", ActionType.CALL, 0).join();
+            before.submitAction(tableId, "p3", ActionType.CALL, 0).join();
+        }
+        // 거절된 명령은 기록되지 않음
+        assertEquals(ActionResult.NOT_YOUR_TURN, before.submitAction("t1", "p1", ActionType.CHECK, 0).join());
+        TableSnapshot expected = before.getSnapshot("t1");
+        assertEquals(GameRound.FLOP, expected.getCurrentRound());
+        journal.close();
+
+        // When: 새 프로세스처럼 저널만 가지고 복구
+        MappedActionJournal reopened = openJournal();
+        GameService after = newGameService(reopened);
+        assertEquals(16, after.recover());
+
+        // Then
+        TableSnapshot actual = after.getSnapshot("t1");
+        assertEquals(expected.getCurrentRound(), actual.getCurrentRound());
+        assertEquals(expected.getCommunityCardSet(), actual.getCommunityCardSet());
+        assertEquals(expected.getPot().getTotalAmount(), actual.getPot().getTotalAmount());
+        assertEquals(expected.getDealerSeat(), actual.getDealerSeat());
+        assertEquals(expected.getActionPlayerId(), actual.getActionPlayerId());
+        for (int i = 0; i < 3; i++) {
+            TableSnapshot.PlayerSnapshot e = expected.getPlayers().get(i);
+            TableSnapshot.PlayerSnapshot a = actual.getPlayers().get(i);
+            assertEquals(e.getName(), a.getName());
+            assertEquals(e.getChips(), a.getChips());
+            assertEquals(e.getHoleCardSet(), a.getHoleCardSet());
+        }
+
+        // 복구 후 기록한 명령도 다음 재시작에 이어서 재생됨
+        assertEquals(ActionResult.OK, after.submitAction("t1", expected.getActionPlayerId(), ActionType.CHECK, 0).join());
+        reopened.close();
+        GameService again = newGameService(openJournal());
+        assertEquals(17, again.recover());
+        assertEquals(after.getSnapshot("t1").getActionPlayerId(), again.getSnapshot("t1").getActionPlayerId());
+    }
+
+    @Test
+    @DisplayName("2. 쓰다 만 꼬리 레코드(CRC 불일치)는 버리고 그 자리부터 다시 기록한다")
+    void discardsTornTail() throws IOException {
+        // Given: 레코드 3개 (CREATE_TABLE, JOIN, JOIN) 중 마지막 레코드를 훼손
+        MappedActionJournal journal = openJournal();
+        GameService before = newGameService(journal);
+        before.recover();
+        before.createTable("t1");
+        before.joinPlayer("t1", "p1", "P1", 10_000).join();
+        before.joinPlayer("t1", "p2", "P2", 10_000).join();
+        journal.close();
+
+        Path segment;
+        try (var shards = Files.list(directory)) {
+            segment = shards.map(shard -> shard.resolve("segment-00000000.log"))
+                    .filter(Files::exists)
+                    .filter(file -> file.toFile().length() > 0)
+                    .filter(file -> readByte(file, 4) != 0)
+                    .findFirst().orElseThrow();
+        }
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x7f}), 2 * 128 + 40); // 세 번째 레코드의 tableId 일부
+        }
+
+        // When
+        GameService after = newGameService(openJournal());
+        long replayed = after.recover();
+
+        // Then: 두 번째 플레이어 입장은 유실, 나머지는 복구되고 다시 입장 가능
+        assertEquals(2, replayed);
+        assertEquals(1, after.getSnapshot("t1").getPlayers().size());
+        after.joinPlayer("t1", "p2", "P2", 10_000).join();
+        assertEquals(2, after.getSnapshot("t1").getPlayers().size());
+    }
+
+    @Test
+    @DisplayName("3. 빈 문자열과 null 은 구분해서 그대로 재생된다")
+    void keepsEmptyStringApartFromNull() {
+        // Given
+        MappedActionJournal journal = openJournal();
+        journal.replay(record -> {
+        });
+        journal.append(JournalRecord.Type.CREATE_TABLE, "t1", null, null, null, 0);
+        journal.append(JournalRecord.Type.JOIN, "t1", "p1", "", null, 10_000);
+        journal.close();
+
+        // When
+        String[] fields = {"?", "?"};
+        MappedActionJournal reopened = openJournal();
+        reopened.replay(record -> {
+            if (record.getType() == JournalRecord.Type.CREATE_TABLE) fields[0] = record.getPlayerId();
+            else fields[1] = record.getName();
+        });
+
+        // Then
+        assertNull(fields[0]);
+        assertEquals("", fields[1]);
+    }
+
+    private static byte readByte(Path file, int position) {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(1);
+            channel.read(buffer, position);
+            return buffer.get(0);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+}
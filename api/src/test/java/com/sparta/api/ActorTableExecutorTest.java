@@ -0,0 +1,94 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.Player;
+import com.sparta.core.domain.Table;
+import com.sparta.core.service.ActorTableExecutor;
+import com.sparta.core.service.BettingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ActorTableExecutorTest {
+
+    @Test
+    @DisplayName("1. 같은 테이블 명령은 제출 순서대로 하나씩 실행된다")
+    void preservesOrderPerTable() {
+        try (ActorTableExecutor executor = new ActorTableExecutor(4)) {
+            // Given
+            Table table = new Table("order");
+            List<Integer> executed = new ArrayList<>(); // 동기화 없는 리스트 -> 동시에 실행되면 깨짐
+
+            // When
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 10_000; i++) {
+                int order = i;
+                futures.add(executor.run(table, () -> executed.add(order)));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            // Then
+            assertEquals(10_000, executed.size());
+            for (int i = 0; i < executed.size(); i++) {
+                assertEquals(i, (int) executed.get(i));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("2. 여러 스레드가 동시에 베팅해도 칩 합계가 맞고, 실패한 명령은 future 로 전달된다")
+    void concurrentActions() throws Exception {
+        try (ActorTableExecutor executor = new ActorTableExecutor(2)) {
+            // Given: 차례 검증 없이 칩 이동만 (GameService 는 차례가 아닌 액션을 거절하므로 BettingService 로 직접)
+            BettingService bettingService = new BettingService();
+            Table table = new Table("hot");
+            for (int p = 0; p < 4; p++) {
+                table.addPlayer(new Player("p" + p, "P" + p, 1_000_000));
+            }
+
+            // When: 요청 스레드 4개가 각자 1칩씩 1000번 콜
+            ExecutorService requestThreads = Executors.newFixedThreadPool(4);
+            CountDownLatch start = new CountDownLatch(1);
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            List<Future<?>> submitters = new ArrayList<>();
+            for (int p = 0; p < 4; p++) {
+                Player player = table.findPlayer("p" + p);
+                submitters.add(requestThreads.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < 1_000; i++) {
+                        CompletableFuture<Void> future = executor.run(table,
+                                () -> bettingService.processBetting(player, table.getPot(), ActionType.CALL, 1));
+                        synchronized (futures) {
+                            futures.add(future);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> submitter : submitters) submitter.get();
+            requestThreads.shutdown();
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+
+            // Then
+            assertEquals(4_000, table.getPot().getTotalAmount());
+            for (Player player : table.getPlayers()) {
+                assertEquals(1_000_000 - 1_000, player.getChips());
+            }
+            CompletableFuture<Void> failed = executor.run(table, () -> {
+                throw new IllegalStateException("실패");
+            });
+            assertThrows(CompletionException.class, failed::join);
+        }
+    }
+}
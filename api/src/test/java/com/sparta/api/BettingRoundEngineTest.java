@@ -0,0 +1,162 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.ActionResult;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.GameRound;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.BettingRoundEngine;
+import com.sparta.core.service.BettingService;
+import com.sparta.core.service.GameService;
+import com.sparta.core.service.LookupHandEvaluator;
+import com.sparta.core.service.MonitorTableExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BettingRoundEngineTest {
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        // 블라인드 50/100
+        gameService = new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+        gameService.createTable("t1");
+        gameService.joinPlayer("t1", "p1", "P1", 10_000).join();
+        gameService.joinPlayer("t1", "p2", "P2", 10_000).join();
+    }
+
+    @Test
+    @DisplayName("1. 헤즈업: 딜러(SB)가 먼저 행동하고, 콜/체크로 라운드가 닫히면 플랍이 자동으로 열린다")
+    void headsUpTurnOrder() {
+        // Given
+        gameService.startGame("t1").join();
+        TableSnapshot started = gameService.getSnapshot("t1");
+        assertEquals("p1", started.getActionPlayerId());
+        assertEquals(150, started.getPot().getTotalAmount());
+        assertEquals(100, started.getHighestBet());
+
+        // When & Then: 차례가 아닌 플레이어는 결과 코드로 거절, 스냅샷도 그대로
+        assertEquals(ActionResult.NOT_YOUR_TURN, gameService.submitAction("t1", "p2", ActionType.CHECK, 0).join());
+        assertSame(started, gameService.getSnapshot("t1"));
+
+        // When: SB 콜 -> BB 옵션 체크
+        gameService.submitAction("t1", "p1", ActionType.CALL, 0).join();
+        assertEquals("p2", gameService.getSnapshot("t1").getActionPlayerId());
+        gameService.submitAction("t1", "p2", ActionType.CHECK, 0).join();
+
+        // Then: 플랍 3장, 베팅액 초기화, 플랍부터는 딜러 다음 좌석(BB)이 먼저
+        TableSnapshot flop = gameService.getSnapshot("t1");
+        assertEquals(GameRound.FLOP, flop.getCurrentRound());
+        assertEquals(3, flop.getCommunityCards().size());
+        assertEquals(200, flop.getPot().getTotalAmount());
+        assertEquals(0, flop.getHighestBet());
+        assertEquals("p2", flop.getActionPlayerId());
+    }
+
+    @Test
+    @DisplayName("2. 최소 레이즈보다 작은 레이즈와 콜할 금액이 있는 체크는 거절된다")
+    void minRaise() {
+        // Given
+        gameService.startGame("t1").join();
+
+        // When & Then: SB(50) 가 150 까지 -> 증가분 50 < 최소 100
+        assertEquals(ActionResult.RAISE_TOO_SMALL, gameService.submitAction("t1", "p1", ActionType.RAISE, 100).join());
+        assertEquals(ActionResult.CANNOT_CHECK, gameService.submitAction("t1", "p1", ActionType.CHECK, 0).join());
+
+        // When: 300 까지 레이즈 (증가분 200 -> 최소 레이즈도 200)
+        gameService.submitAction("t1", "p1", ActionType.RAISE, 250).join();
+        TableSnapshot raised = gameService.getSnapshot("t1");
+
+        // Then
+        assertEquals(300, raised.getHighestBet());
+        assertEquals(200, raised.getMinRaise());
+        assertEquals("p2", raised.getActionPlayerId());
+        // BB(100) 가 400 까지 -> 증가분 100 < 200
+        assertEquals(ActionResult.RAISE_TOO_SMALL, gameService.submitAction("t1", "p2", ActionType.RAISE, 300).join());
+        gameService.submitAction("t1", "p2", ActionType.RAISE, 400).join();
+        assertEquals("p1", gameService.getSnapshot("t1").getActionPlayerId());
+    }
+
+    @Test
+    @DisplayName("3. 한 명만 남으면 쇼다운 없이 팟을 가져가고, 다음 핸드는 딜러 버튼이 넘어간다")
+    void uncontested() {
+        // Given
+        gameService.startGame("t1").join();
+
+        // When: SB 폴드
+        gameService.submitAction("t1", "p1", ActionType.FOLD, 0).join();
+        TableSnapshot after = gameService.getSnapshot("t1");
+
+        // Then
+        assertFalse(after.isHandInProgress());
+        assertEquals(9_950, after.getPlayers().get(0).getChips());
+        assertEquals(10_050, after.getPlayers().get(1).getChips());
+        assertEquals(0, after.getPot().getTotalAmount());
+
+        gameService.startGame("t1").join();
+        TableSnapshot next = gameService.getSnapshot("t1");
+        assertEquals(1, next.getDealerSeat());
+        assertEquals("p2", next.getActionPlayerId());
+    }
+
+    @Test
+    @DisplayName("4. 올인 콜로 행동할 사람이 없으면 리버까지 자동으로 깔고 정산한다")
+    void allInRunsOut() {
+        // Given
+        gameService.startGame("t1").join();
+
+        // When
+        gameService.submitAction("t1", "p1", ActionType.ALL_IN, 0).join();
+        gameService.submitAction("t1", "p2", ActionType.CALL, 0).join();
+
+        // Then: 핸드 종료, 칩 총합 보존
+        TableSnapshot after = gameService.getSnapshot("t1");
+        assertFalse(after.isHandInProgress());
+        long total = after.getPlayers().get(0).getChips() + after.getPlayers().get(1).getChips();
+        assertEquals(20_000, total);
+    }
+
+    @Test
+    @DisplayName("5. 다음 차례는 폴드한 좌석을 건너뛰고 좌석 순서대로 돈다")
+    void skipsFoldedSeats() {
+        // Given: 3인 (딜러 p1, SB p2, BB p3 -> UTG 는 한 바퀴 돌아 p1)
+        gameService.joinPlayer("t1", "p3", "P3", 10_000).join();
+        gameService.startGame("t1").join();
+        assertEquals("p1", gameService.getSnapshot("t1").getActionPlayerId());
+
+        // When
+        gameService.submitAction("t1", "p1", ActionType.FOLD, 0).join();
+        gameService.submitAction("t1", "p2", ActionType.CALL, 0).join();
+        gameService.submitAction("t1", "p3", ActionType.CHECK, 0).join();
+
+        // Then: 플랍은 딜러 다음 좌석(p2)부터, 폴드한 p1 은 건너뜀
+        assertEquals(GameRound.FLOP, gameService.getSnapshot("t1").getCurrentRound());
+        assertEquals("p2", gameService.getSnapshot("t1").getActionPlayerId());
+        gameService.submitAction("t1", "p2", ActionType.CHECK, 0).join();
+        assertEquals("p3", gameService.getSnapshot("t1").getActionPlayerId());
+        gameService.submitAction("t1", "p3", ActionType.CHECK, 0).join();
+
+        TableSnapshot turn = gameService.getSnapshot("t1");
+        assertEquals(GameRound.TURN, turn.getCurrentRound());
+        assertEquals("p2", turn.getActionPlayerId());
+    }
+
+    @Test
+    @DisplayName("6. 없는 테이블/플레이어와 칩 부족도 예외 없이 결과 코드로 돌아온다")
+    void routineErrorsAreResultCodes() {
+        // Given
+        gameService.startGame("t1").join();
+        TableSnapshot before = gameService.getSnapshot("t1");
+
+        // When & Then
+        assertEquals(ActionResult.TABLE_NOT_FOUND, gameService.submitAction("nope", "p1", ActionType.CHECK, 0).join());
+        assertEquals(ActionResult.PLAYER_NOT_FOUND, gameService.submitAction("t1", "nobody", ActionType.CHECK, 0).join());
+        assertEquals(ActionResult.INSUFFICIENT_CHIPS, gameService.submitAction("t1", "p1", ActionType.RAISE, 50_000).join());
+        assertEquals(ActionResult.BET_ALREADY_OPEN, gameService.submitAction("t1", "p1", ActionType.BET, 500).join());
+        assertSame(before, gameService.getSnapshot("t1"));
+    }
+}
@@ -0,0 +1,165 @@
+package com.sparta.api;
+
+import com.sparta.api.dto.GameActionRequest;
+import com.sparta.api.util.ActionFrame;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.api.util.BinarySerializerV2;
+import com.sparta.core.domain.ActionResult;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.Table;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BinaryFrameTest {
+
+    private static GameActionRequest request() {
+        GameActionRequest request = new GameActionRequest();
+        request.setPlayerId("User_Economic_King");
+        request.setAction(ActionType.RAISE);
+        request.setAmount(10_000L);
+        return request;
+    }
+
+    @Test
+    @DisplayName("1. ACTION 프레임은 힙/다이렉트 버퍼 어디서든 복사 없이 그대로 읽힌다")
+    void actionFrameRoundTrip() {
+        // Given
+        byte[] frame = BinarySerializer.serializeActionFrame("테이블-1", request());
+        ByteBuffer direct = ByteBuffer.allocateDirect(frame.length).put(frame).flip();
+        // 다른 데이터 뒤에 붙은 프레임 (arrayOffset 이 0 이 아닌 힙 버퍼)
+        ByteBuffer sliced = ByteBuffer.allocate(frame.length + 3).position(3).put(frame).position(3).slice();
+
+        for (ByteBuffer buffer : new ByteBuffer[]{ByteBuffer.wrap(frame), direct, sliced}) {
+            // When
+            byte type = buffer.get();
+            String tableId = BinarySerializer.readTableId(buffer);
+            GameActionRequest decoded = BinarySerializer.deserialize(buffer);
+
+            // Then
+            assertEquals(BinarySerializer.FRAME_ACTION, type);
+            assertEquals("테이블-1", tableId);
+            assertEquals("User_Economic_King", decoded.getPlayerId());
+            assertEquals(ActionType.RAISE, decoded.getAction());
+            assertEquals(10_000L, decoded.getAmount());
+            assertFalse(buffer.hasRemaining());
+        }
+    }
+
+    @Test
+    @DisplayName("2. RESULT 프레임은 2바이트, 잘못된 길이/액션은 예외로 거절된다")
+    void resultFrameAndInvalidInput() {
+        // Given & When
+        byte[] result = BinarySerializer.resultFrame(ActionResult.NOT_YOUR_TURN);
+
+        // Then
+        assertEquals(2, result.length);
+        assertEquals(ActionResult.NOT_YOUR_TURN, BinarySerializer.readResult(ByteBuffer.wrap(result)));
+
+        byte[] frame = BinarySerializer.serializeActionFrame("t1", request());
+        frame[2 + 2] = 99; // 액션 순번
+        ByteBuffer badAction = ByteBuffer.wrap(frame, 1, frame.length - 1);
+        BinarySerializer.readTableId(badAction);
+        assertThrows(IllegalArgumentException.class, () -> BinarySerializer.deserialize(badAction));
+
+        ByteBuffer truncated = ByteBuffer.wrap(new byte[]{2, 'a'}); // 길이 2 인데 1바이트뿐
+        assertThrows(IllegalArgumentException.class, () -> BinarySerializer.readTableId(truncated));
+    }
+
+    @Test
+    @DisplayName("3. SEAT_ACTION 프레임은 3~6바이트이고, 좌석 번호로 바로 실행된다")
+    void seatActionFrame() {
+        // Given: 좌석 핸들이 있는 세션 (테이블 참조 + 좌석 번호)
+        GameService gameService = new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+        gameService.createTable("t1");
+        gameService.joinPlayer("t1", "p1", "P1", 10_000).join();
+        gameService.joinPlayer("t1", "p2", "P2", 10_000).join();
+        gameService.startGame("t1").join();
+        Table table = gameService.getTableOrThrow("t1");
+        TableSnapshot before = gameService.getSnapshot("t1");
+
+        // When
+        byte[] frame = BinarySerializer.serializeSeatAction(ActionType.RAISE, 300, 129);
+        ByteBuffer buffer = ByteBuffer.wrap(frame);
+        byte type = buffer.get();
+        ActionType action = BinarySerializer.seatAction(type);
+        long amount = BinarySerializer.readVarLong(buffer);
+        long sequence = BinarySerializer.readVarLong(buffer);
+        ActionResult result = gameService.submitAction(table, before.getActionSeat(), action, amount).join();
+        byte[] reply = BinarySerializer.resultFrame(result, sequence);
+
+        // Then
+        assertEquals(5, frame.length); // 1 + 2 + 2
+        assertTrue(BinarySerializer.isSeatAction(type));
+        assertFalse(BinarySerializer.isSeatAction(BinarySerializer.FRAME_ACTION));
+        assertEquals(ActionType.RAISE, action);
+        assertEquals(300, amount);
+        assertEquals(129, sequence);
+        assertEquals(3, BinarySerializer.serializeSeatAction(ActionType.FOLD, 0, 7).length);
+        assertEquals(ActionResult.OK, result);
+        assertNotEquals(before.getActionSeat(), gameService.getSnapshot("t1").getActionSeat());
+
+        ByteBuffer replyBuffer = ByteBuffer.wrap(reply);
+        assertEquals(ActionResult.OK, BinarySerializer.readResult(replyBuffer));
+        assertEquals(129, BinarySerializer.readVarLong(replyBuffer));
+
+        // 빈 좌석은 결과 코드로 거절
+        assertEquals(ActionResult.PLAYER_NOT_FOUND, gameService.submitAction(table, 5, ActionType.CALL, 0).join());
+        assertEquals(Long.MAX_VALUE, BinarySerializer.readVarLong(ByteBuffer.wrap(
+                BinarySerializer.serializeSeatAction(ActionType.BET, Long.MAX_VALUE, 0), 1, 9)));
+    }
+
+    @Test
+    @DisplayName("4. v2 코덱은 다이렉트 버퍼에 쓰고 재사용 객체에 읽으며, 반복 디코딩에 할당이 없다")
+    void v2RoundTripWithoutAllocation() {
+        // Given
+        ActionFrame out = new ActionFrame().set("테이블-1", "User_Economic_King", ActionType.RAISE, -300);
+        ByteBuffer pooled = BinarySerializerV2.encodePooled(out);
+        ActionFrame in = new ActionFrame();
+
+        // When
+        assertEquals(BinarySerializerV2.FRAME_ACTION_V2, pooled.get());
+        BinarySerializerV2.decode(pooled, in);
+
+        // Then
+        assertTrue(pooled.isDirect());
+        assertFalse(pooled.hasRemaining());
+        assertEquals("테이블-1", in.getTableId());
+        assertEquals("User_Economic_King", in.getPlayerId());
+        assertEquals(ActionType.RAISE, in.getAction());
+        assertEquals(-300, in.getAmount());
+        assertEquals(1 + (1 + 11) + 1 + 2 + (1 + 18), pooled.limit()); // 금액 -300 -> zig-zag 599 -> 2바이트
+
+        // 같은 세션에서 같은 플레이어가 계속 보내면 문자열도 재사용
+        String playerId = in.getPlayerId();
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BinarySerializerV2.MAX_FRAME_BYTES);
+        for (int i = 0; i < 20_000; i++) { // 워밍업 (JIT)
+            roundTrip(out, buffer, in, i);
+        }
+        long before = threads.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < 100_000; i++) {
+            roundTrip(out, buffer, in, i);
+        }
+        long allocated = threads.getCurrentThreadAllocatedBytes() - before;
+        assertSame(playerId, in.getPlayerId());
+        assertTrue(allocated < 10_000, "allocated " + allocated + " bytes"); // 측정 자체 오버헤드 정도만
+    }
+
+    private static void roundTrip(ActionFrame out, ByteBuffer buffer, ActionFrame in, long amount) {
+        out.set("테이블-1", "User_Economic_King", ActionType.BET, amount);
+        BinarySerializerV2.encode(out, buffer.clear());
+        buffer.flip().get();
+        BinarySerializerV2.decode(buffer, in);
+        if (in.getAmount() != amount || in.getPlayerId().isEmpty()) {
+            throw new AssertionError("mismatch at " + amount);
+        }
+    }
+}
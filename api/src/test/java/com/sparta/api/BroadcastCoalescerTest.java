@@ -0,0 +1,62 @@
+package com.sparta.api;
+
+import com.sparta.api.dto.BroadcastStats;
+import com.sparta.api.socket.BroadcastCoalescer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BroadcastCoalescerTest {
+
+    @Test
+    @DisplayName("1. 틱이 0 이면 요청마다 호출한 스레드에서 바로 전파한다")
+    void flushesImmediatelyWithoutTick() {
+        // Given
+        List<String> flushed = new CopyOnWriteArrayList<>();
+        try (BroadcastCoalescer coalescer = new BroadcastCoalescer(0, flushed::add)) {
+            // When
+            coalescer.request("t1");
+            coalescer.request("t1");
+
+            // Then
+            assertEquals(List.of("t1", "t1"), flushed);
+            assertEquals(2, coalescer.stats().getFlushed());
+            assertEquals(0, coalescer.stats().getMaxDelayMicros());
+        }
+    }
+
+    @Test
+    @DisplayName("2. 한 틱 안의 여러 요청은 테이블마다 한 번으로 합쳐지고, 대기 시간이 기록된다")
+    void coalescesWithinTick() throws InterruptedException {
+        // Given
+        Map<String, AtomicInteger> flushed = new ConcurrentHashMap<>();
+        try (BroadcastCoalescer coalescer = new BroadcastCoalescer(20,
+                tableId -> flushed.computeIfAbsent(tableId, id -> new AtomicInteger()).incrementAndGet())) {
+            // When: 두 테이블에 연달아 1000번씩
+            for (int i = 0; i < 1_000; i++) {
+                coalescer.request("t1");
+                coalescer.request("t2");
+            }
+            long deadline = System.currentTimeMillis() + 5_000;
+            while (coalescer.stats().getFlushed() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            Thread.sleep(50); // 이후 틱에서 더 나가지 않는지
+
+            // Then
+            BroadcastStats stats = coalescer.stats();
+            assertEquals(2_000, stats.getRequested());
+            assertTrue(flushed.get("t1").get() <= 2, "t1 flushed " + flushed.get("t1"));
+            assertTrue(flushed.get("t2").get() <= 2, "t2 flushed " + flushed.get("t2"));
+            assertTrue(stats.getFlushed() < 10);
+            assertTrue(stats.getMaxDelayMicros() > 0);
+        }
+    }
+}
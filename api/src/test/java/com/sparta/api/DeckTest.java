@@ -0,0 +1,56 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.CardSet;
+import com.sparta.core.domain.Deck;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class DeckTest {
+
+    @Test
+    @DisplayName("1. 52장을 모두 뽑으면 중복 없이 전체 카드가 나온다")
+    void drawAllCards() {
+        Deck deck = new Deck();
+
+        long drawn = CardSet.EMPTY;
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            drawn |= deck.draw().mask();
+        }
+
+        assertEquals(CardSet.FULL_DECK, drawn);
+        assertEquals(0, deck.getRemainingCount());
+        assertThrows(NoSuchElementException.class, deck::draw);
+    }
+
+    @Test
+    @DisplayName("2. 셔플하면 뽑힌 카드까지 회수되어 다시 52장이 된다")
+    void shuffleRestoresDrawnCards() {
+        Deck deck = new Deck();
+        for (int i = 0; i < 30; i++) {
+            deck.draw();
+        }
+
+        deck.shuffle();
+
+        assertEquals(Card.DECK_SIZE, deck.getRemainingCount());
+        assertEquals(CardSet.EMPTY, deck.getDealtCards());
+    }
+
+    @Test
+    @DisplayName("3. 같은 시드의 난수 생성기를 주입하면 같은 순서로 섞인다")
+    void injectedRandomIsReproducible() {
+        Deck deck1 = new Deck(new SplittableRandom(7));
+        Deck deck2 = new Deck(new SplittableRandom(7));
+
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            assertEquals(deck1.drawIndex(), deck2.drawIndex());
+        }
+    }
+}
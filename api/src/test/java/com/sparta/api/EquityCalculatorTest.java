@@ -0,0 +1,78 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.*;
+import com.sparta.core.service.EquityCalculator;
+import com.sparta.core.service.LookupHandEvaluator;
+import com.sparta.core.service.SamplingBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EquityCalculatorTest {
+
+    private final EquityCalculator equityCalculator = new EquityCalculator(
+            new LookupHandEvaluator(), new ForkJoinPool(2), SamplingBudget.samples(200_000), 10_000);
+
+    @Test
+    @DisplayName("1. 프리플랍 AA vs KK 는 약 82% : 18%")
+    void preflopAcesVsKings() {
+        // Given
+        long aces = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.ACE, Suit.HEART));
+        long kings = CardSet.of(Card.of(Rank.KING, Suit.DIAMOND), Card.of(Rank.KING, Suit.CLUB));
+
+        // When
+        EquityResult result = equityCalculator.calculate(new long[]{aces, kings}, CardSet.EMPTY, CardSet.EMPTY);
+
+        // Then
+        assertEquals(0.82, result.getEquity()[0], 0.01);
+        assertEquals(1.0, result.getEquity()[0] + result.getEquity()[1], 1e-9);
+        assertTrue(result.getSamples() >= 200_000);
+    }
+
+    @Test
+    @DisplayName("2. 리버까지 깔리면 한 번만 판정한 정확한 결과")
+    void riverIsExact() {
+        // Given: 보드 A-K-Q-J-2, 두 사람 모두 10 -> 스트레이트 무승부
+        long board = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.KING, Suit.HEART),
+                Card.of(Rank.QUEEN, Suit.DIAMOND), Card.of(Rank.JACK, Suit.CLUB), Card.of(Rank.TWO, Suit.SPADE));
+        long p1 = CardSet.of(Card.of(Rank.TEN, Suit.SPADE), Card.of(Rank.THREE, Suit.HEART));
+        long p2 = CardSet.of(Card.of(Rank.TEN, Suit.HEART), Card.of(Rank.FOUR, Suit.HEART));
+
+        // When
+        EquityResult result = equityCalculator.calculate(new long[]{p1, p2}, board, CardSet.EMPTY);
+
+        // Then
+        assertTrue(result.isExact());
+        assertEquals(0.5, result.getEquity()[0], 1e-9);
+        assertEquals(1.0, result.getTie()[1], 1e-9);
+    }
+
+    @Test
+    @DisplayName("3. 목표 오차에 도달하면 예산이 남아도 조기 종료")
+    void stopsEarlyWhenMarginIsTight() {
+        long p1 = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.ACE, Suit.HEART));
+        long p2 = CardSet.of(Card.of(Rank.SEVEN, Suit.DIAMOND), Card.of(Rank.TWO, Suit.CLUB));
+        SamplingBudget budget = SamplingBudget.time(Duration.ofSeconds(30)).withTargetMargin(0.01);
+
+        EquityResult result = equityCalculator.calculate(new long[]{p1, p2}, CardSet.EMPTY, CardSet.EMPTY, budget);
+
+        assertTrue(result.getMargin() <= 0.01);
+        assertTrue(result.getSamples() < 1_000_000);
+    }
+
+    @Test
+    @DisplayName("4. 손패와 바닥 카드가 겹치면 예외")
+    void rejectsDuplicateCards() {
+        long p1 = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.ACE, Suit.HEART));
+        long p2 = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.TWO, Suit.CLUB));
+
+        assertThrows(IllegalArgumentException.class,
+                () -> equityCalculator.calculate(new long[]{p1, p2}, CardSet.EMPTY, CardSet.EMPTY));
+    }
+}
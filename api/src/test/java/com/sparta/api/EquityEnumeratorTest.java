@@ -0,0 +1,69 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.*;
+import com.sparta.core.service.EquityCalculator;
+import com.sparta.core.service.EquityEnumerator;
+import com.sparta.core.service.HandEvaluator;
+import com.sparta.core.service.LookupHandEvaluator;
+import com.sparta.core.service.SamplingBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EquityEnumeratorTest {
+
+    private final EquityEnumerator enumerator = new EquityEnumerator(new LookupHandEvaluator(), new ForkJoinPool(2));
+
+    private final long aces = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.ACE, Suit.HEART));
+    private final long kings = CardSet.of(Card.of(Rank.KING, Suit.DIAMOND), Card.of(Rank.KING, Suit.CLUB));
+
+    @Test
+    @DisplayName("1. 턴 올인은 남은 리버 44장을 모두 센다")
+    void turnEnumeratesAllRivers() {
+        // Given: 보드에 K 한 장 -> KK 는 셋, AA 는 A 두 장 중 하나가 나와야 역전
+        long board = CardSet.of(Card.of(Rank.KING, Suit.SPADE), Card.of(Rank.SEVEN, Suit.HEART),
+                Card.of(Rank.TWO, Suit.DIAMOND), Card.of(Rank.NINE, Suit.CLUB));
+
+        // When
+        EquityResult result = enumerator.enumerate(new long[]{aces, kings}, board, CardSet.EMPTY);
+
+        // Then
+        assertTrue(result.isExact());
+        assertEquals(44, result.getSamples());
+        assertEquals(2.0 / 44, result.getEquity()[0], 1e-12);
+        assertEquals(42.0 / 44, result.getWin()[1], 1e-12);
+    }
+
+    @Test
+    @DisplayName("2. 플랍 결과는 기존 엔진으로 전부 센 결과와 같다")
+    void flopMatchesLegacyEvaluator() {
+        long board = CardSet.of(Card.of(Rank.QUEEN, Suit.SPADE), Card.of(Rank.JACK, Suit.SPADE),
+                Card.of(Rank.THREE, Suit.HEART));
+        long[] hands = {aces, kings};
+
+        EquityResult lookup = enumerator.enumerate(hands, board, CardSet.EMPTY);
+        EquityResult legacy = new EquityEnumerator(new HandEvaluator(), ForkJoinPool.commonPool())
+                .enumerate(hands, board, CardSet.EMPTY);
+
+        assertEquals(990, lookup.getSamples());
+        assertEquals(legacy.getEquity()[0], lookup.getEquity()[0], 1e-12);
+        assertEquals(legacy.getTie()[0], lookup.getTie()[0], 1e-12);
+    }
+
+    @Test
+    @DisplayName("3. 프리플랍 전체 열거(병렬)는 Monte Carlo 추정과 오차 범위 안에서 같다")
+    void preflopMatchesSampling() {
+        EquityResult exact = enumerator.enumerate(new long[]{aces, kings}, CardSet.EMPTY, CardSet.EMPTY);
+        EquityResult sampled = new EquityCalculator(new LookupHandEvaluator(), new ForkJoinPool(2),
+                SamplingBudget.samples(200_000), 10_000)
+                .calculate(new long[]{aces, kings}, CardSet.EMPTY, CardSet.EMPTY);
+
+        assertEquals(1_712_304, exact.getSamples()); // C(48, 5)
+        assertEquals(1.0, exact.getEquity()[0] + exact.getEquity()[1], 1e-9);
+        assertEquals(exact.getEquity()[0], sampled.getEquity()[0], 0.01);
+    }
+}
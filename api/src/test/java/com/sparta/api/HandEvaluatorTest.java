@@ -18,13 +18,13 @@ class HandEvaluatorTest {
     void testRoyalFlush() {
         // Given: 스페이드 10, J, Q, K, A
         List<Card> cards = List.of(
-                new Card(Rank.ACE, Suit.SPADE),
-                new Card(Rank.KING, Suit.SPADE),
-                new Card(Rank.QUEEN, Suit.SPADE),
-                new Card(Rank.JACK, Suit.SPADE),
-                new Card(Rank.TEN, Suit.SPADE),
-                new Card(Rank.TWO, Suit.HEART), // 더미
-                new Card(Rank.THREE, Suit.DIAMOND) // 더미
+                Card.of(Rank.ACE, Suit.SPADE),
+                Card.of(Rank.KING, Suit.SPADE),
+                Card.of(Rank.QUEEN, Suit.SPADE),
+                Card.of(Rank.JACK, Suit.SPADE),
+                Card.of(Rank.TEN, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART), // 더미
+                Card.of(Rank.THREE, Suit.DIAMOND) // 더미
         );
 
         // When
@@ -39,13 +39,13 @@ class HandEvaluatorTest {
     void testStraightFlush() {
         // Given: 하트 5, 6, 7, 8, 9
         List<Card> cards = List.of(
-                new Card(Rank.NINE, Suit.HEART),
-                new Card(Rank.EIGHT, Suit.HEART),
-                new Card(Rank.SEVEN, Suit.HEART),
-                new Card(Rank.SIX, Suit.HEART),
-                new Card(Rank.FIVE, Suit.HEART),
-                new Card(Rank.ACE, Suit.CLUB),
-                new Card(Rank.KING, Suit.CLUB)
+                Card.of(Rank.NINE, Suit.HEART),
+                Card.of(Rank.EIGHT, Suit.HEART),
+                Card.of(Rank.SEVEN, Suit.HEART),
+                Card.of(Rank.SIX, Suit.HEART),
+                Card.of(Rank.FIVE, Suit.HEART),
+                Card.of(Rank.ACE, Suit.CLUB),
+                Card.of(Rank.KING, Suit.CLUB)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -57,13 +57,13 @@ class HandEvaluatorTest {
     void testFourOfAKind() {
         // Given: 9가 4장
         List<Card> cards = List.of(
-                new Card(Rank.NINE, Suit.SPADE),
-                new Card(Rank.NINE, Suit.HEART),
-                new Card(Rank.NINE, Suit.DIAMOND),
-                new Card(Rank.NINE, Suit.CLUB),
-                new Card(Rank.ACE, Suit.SPADE),
-                new Card(Rank.TWO, Suit.HEART),
-                new Card(Rank.THREE, Suit.DIAMOND)
+                Card.of(Rank.NINE, Suit.SPADE),
+                Card.of(Rank.NINE, Suit.HEART),
+                Card.of(Rank.NINE, Suit.DIAMOND),
+                Card.of(Rank.NINE, Suit.CLUB),
+                Card.of(Rank.ACE, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART),
+                Card.of(Rank.THREE, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -75,13 +75,13 @@ class HandEvaluatorTest {
     void testFullHouse() {
         // Given: K 3장 + 7 2장
         List<Card> cards = List.of(
-                new Card(Rank.KING, Suit.SPADE),
-                new Card(Rank.KING, Suit.HEART),
-                new Card(Rank.KING, Suit.DIAMOND),
-                new Card(Rank.SEVEN, Suit.CLUB),
-                new Card(Rank.SEVEN, Suit.SPADE),
-                new Card(Rank.TWO, Suit.HEART),
-                new Card(Rank.THREE, Suit.DIAMOND)
+                Card.of(Rank.KING, Suit.SPADE),
+                Card.of(Rank.KING, Suit.HEART),
+                Card.of(Rank.KING, Suit.DIAMOND),
+                Card.of(Rank.SEVEN, Suit.CLUB),
+                Card.of(Rank.SEVEN, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART),
+                Card.of(Rank.THREE, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -93,13 +93,13 @@ class HandEvaluatorTest {
     void testFlush() {
         // Given: 클로버 5장 (숫자 연속 안 됨)
         List<Card> cards = List.of(
-                new Card(Rank.ACE, Suit.CLUB),
-                new Card(Rank.JACK, Suit.CLUB),
-                new Card(Rank.NINE, Suit.CLUB),
-                new Card(Rank.FOUR, Suit.CLUB),
-                new Card(Rank.TWO, Suit.CLUB),
-                new Card(Rank.KING, Suit.HEART),
-                new Card(Rank.QUEEN, Suit.DIAMOND)
+                Card.of(Rank.ACE, Suit.CLUB),
+                Card.of(Rank.JACK, Suit.CLUB),
+                Card.of(Rank.NINE, Suit.CLUB),
+                Card.of(Rank.FOUR, Suit.CLUB),
+                Card.of(Rank.TWO, Suit.CLUB),
+                Card.of(Rank.KING, Suit.HEART),
+                Card.of(Rank.QUEEN, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -111,13 +111,13 @@ class HandEvaluatorTest {
     void testStraight() {
         // Given: 5, 6, 7, 8, 9 (무늬 섞임)
         List<Card> cards = List.of(
-                new Card(Rank.FIVE, Suit.SPADE),
-                new Card(Rank.SIX, Suit.HEART),
-                new Card(Rank.SEVEN, Suit.DIAMOND),
-                new Card(Rank.EIGHT, Suit.CLUB),
-                new Card(Rank.NINE, Suit.SPADE),
-                new Card(Rank.ACE, Suit.HEART),
-                new Card(Rank.TWO, Suit.DIAMOND)
+                Card.of(Rank.FIVE, Suit.SPADE),
+                Card.of(Rank.SIX, Suit.HEART),
+                Card.of(Rank.SEVEN, Suit.DIAMOND),
+                Card.of(Rank.EIGHT, Suit.CLUB),
+                Card.of(Rank.NINE, Suit.SPADE),
+                Card.of(Rank.ACE, Suit.HEART),
+                Card.of(Rank.TWO, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -129,13 +129,13 @@ class HandEvaluatorTest {
     void testThreeOfAKind() {
         // Given: Q 3장
         List<Card> cards = List.of(
-                new Card(Rank.QUEEN, Suit.SPADE),
-                new Card(Rank.QUEEN, Suit.HEART),
-                new Card(Rank.QUEEN, Suit.DIAMOND),
-                new Card(Rank.TWO, Suit.CLUB),
-                new Card(Rank.FOUR, Suit.SPADE),
-                new Card(Rank.SIX, Suit.HEART),
-                new Card(Rank.EIGHT, Suit.DIAMOND)
+                Card.of(Rank.QUEEN, Suit.SPADE),
+                Card.of(Rank.QUEEN, Suit.HEART),
+                Card.of(Rank.QUEEN, Suit.DIAMOND),
+                Card.of(Rank.TWO, Suit.CLUB),
+                Card.of(Rank.FOUR, Suit.SPADE),
+                Card.of(Rank.SIX, Suit.HEART),
+                Card.of(Rank.EIGHT, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -147,13 +147,13 @@ class HandEvaluatorTest {
     void testTwoPair() {
         // Given: J 페어 + 10 페어
         List<Card> cards = List.of(
-                new Card(Rank.JACK, Suit.SPADE),
-                new Card(Rank.JACK, Suit.HEART),
-                new Card(Rank.TEN, Suit.DIAMOND),
-                new Card(Rank.TEN, Suit.CLUB),
-                new Card(Rank.ACE, Suit.SPADE),
-                new Card(Rank.TWO, Suit.HEART),
-                new Card(Rank.THREE, Suit.DIAMOND)
+                Card.of(Rank.JACK, Suit.SPADE),
+                Card.of(Rank.JACK, Suit.HEART),
+                Card.of(Rank.TEN, Suit.DIAMOND),
+                Card.of(Rank.TEN, Suit.CLUB),
+                Card.of(Rank.ACE, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART),
+                Card.of(Rank.THREE, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -165,13 +165,13 @@ class HandEvaluatorTest {
     void testOnePair() {
         // Given: 2 페어
         List<Card> cards = List.of(
-                new Card(Rank.TWO, Suit.SPADE),
-                new Card(Rank.TWO, Suit.HEART),
-                new Card(Rank.FOUR, Suit.DIAMOND),
-                new Card(Rank.FIVE, Suit.CLUB),
-                new Card(Rank.NINE, Suit.SPADE),
-                new Card(Rank.JACK, Suit.HEART),
-                new Card(Rank.KING, Suit.DIAMOND)
+                Card.of(Rank.TWO, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART),
+                Card.of(Rank.FOUR, Suit.DIAMOND),
+                Card.of(Rank.FIVE, Suit.CLUB),
+                Card.of(Rank.NINE, Suit.SPADE),
+                Card.of(Rank.JACK, Suit.HEART),
+                Card.of(Rank.KING, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -183,13 +183,13 @@ class HandEvaluatorTest {
     void testHighCard() {
         // Given: 족보 없음 (A 하이)
         List<Card> cards = List.of(
-                new Card(Rank.ACE, Suit.SPADE),
-                new Card(Rank.QUEEN, Suit.HEART),
-                new Card(Rank.NINE, Suit.DIAMOND),
-                new Card(Rank.SEVEN, Suit.CLUB),
-                new Card(Rank.FIVE, Suit.SPADE),
-                new Card(Rank.THREE, Suit.HEART),
-                new Card(Rank.TWO, Suit.DIAMOND)
+                Card.of(Rank.ACE, Suit.SPADE),
+                Card.of(Rank.QUEEN, Suit.HEART),
+                Card.of(Rank.NINE, Suit.DIAMOND),
+                Card.of(Rank.SEVEN, Suit.CLUB),
+                Card.of(Rank.FIVE, Suit.SPADE),
+                Card.of(Rank.THREE, Suit.HEART),
+                Card.of(Rank.TWO, Suit.DIAMOND)
         );
 
         HandScore result = handEvaluator.evaluate(cards);
@@ -0,0 +1,164 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.*;
+import com.sparta.core.service.HandEvaluator;
+import com.sparta.core.service.LookupHandEvaluator;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LookupHandEvaluatorTest {
+
+    private final LookupHandEvaluator lookupEvaluator = new LookupHandEvaluator();
+    private final HandEvaluator legacyEvaluator = new HandEvaluator();
+
+    @Test
+    @DisplayName("1. 족보별 판정 결과가 기존 엔진과 같다")
+    void testCategories() {
+        // Given: 로얄 스트레이트 플러시
+        List<Card> royal = List.of(
+                Card.of(Rank.ACE, Suit.SPADE),
+                Card.of(Rank.KING, Suit.SPADE),
+                Card.of(Rank.QUEEN, Suit.SPADE),
+                Card.of(Rank.JACK, Suit.SPADE),
+                Card.of(Rank.TEN, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART),
+                Card.of(Rank.THREE, Suit.DIAMOND)
+        );
+        // Given: 투 페어 (페어 3개 중 상위 2개 + 남은 페어가 키커)
+        List<Card> twoPair = List.of(
+                Card.of(Rank.JACK, Suit.SPADE),
+                Card.of(Rank.JACK, Suit.HEART),
+                Card.of(Rank.TEN, Suit.DIAMOND),
+                Card.of(Rank.TEN, Suit.CLUB),
+                Card.of(Rank.FOUR, Suit.SPADE),
+                Card.of(Rank.FOUR, Suit.HEART),
+                Card.of(Rank.THREE, Suit.DIAMOND)
+        );
+
+        // When & Then
+        assertEquals(HandRank.ROYAL_FLUSH, lookupEvaluator.evaluate(royal).getRank());
+        assertEquals(List.of(11, 10, 4), lookupEvaluator.evaluate(twoPair).getTiebreaker());
+        assertEquals(legacyEvaluator.evaluate(twoPair), lookupEvaluator.evaluate(twoPair));
+    }
+
+    @Test
+    @DisplayName("2. A-2-3-4-5 (휠) 스트레이트는 5 하이 스트레이트")
+    void testWheelStraight() {
+        List<Card> cards = List.of(
+                Card.of(Rank.ACE, Suit.SPADE),
+                Card.of(Rank.TWO, Suit.HEART),
+                Card.of(Rank.THREE, Suit.DIAMOND),
+                Card.of(Rank.FOUR, Suit.CLUB),
+                Card.of(Rank.FIVE, Suit.SPADE),
+                Card.of(Rank.NINE, Suit.HEART),
+                Card.of(Rank.KING, Suit.DIAMOND)
+        );
+
+        HandScore result = lookupEvaluator.evaluate(cards);
+
+        assertEquals(HandRank.STRAIGHT, result.getRank());
+        assertEquals(List.of(5), result.getTiebreaker());
+        assertEquals(5, result.getBestFive().size());
+        assertEquals(legacyEvaluator.evaluate(cards), result);
+    }
+
+    @Test
+    @DisplayName("3. 무작위 5~7장 핸드에서 두 엔진의 점수와 대소 관계가 같다")
+    void testSameOrderingAsLegacy() {
+        List<Card> deck = new ArrayList<>();
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                deck.add(Card.of(rank, suit));
+            }
+        }
+        Random random = new Random(42);
+
+        HandScore previousLegacy = null;
+        HandScore previousLookup = null;
+        for (int i = 0; i < 20000; i++) {
+            Collections.shuffle(deck, random);
+            List<Card> hand = new ArrayList<>(deck.subList(0, 5 + random.nextInt(3)));
+
+            HandScore legacy = legacyEvaluator.evaluate(hand);
+            HandScore lookup = lookupEvaluator.evaluate(hand);
+            assertEquals(legacy, lookup, "족보가 다릅니다: " + hand);
+
+            if (previousLegacy != null) {
+                assertEquals(Integer.signum(previousLegacy.compareTo(legacy)),
+                        Integer.signum(previousLookup.compareTo(lookup)));
+            }
+            previousLegacy = legacy;
+            previousLookup = lookup;
+        }
+    }
+
+    @Test
+    @DisplayName("4. packed 점수 비교는 HandScore 비교와 같다")
+    void testPackedValueOrdering() {
+        // Given: 포카드 vs 풀하우스
+        long quads = 0;
+        long fullHouse = 0;
+        for (Suit suit : Suit.values()) {
+            quads |= Card.of(Rank.NINE, suit).mask();
+        }
+        quads |= Card.of(Rank.ACE, Suit.SPADE).mask();
+        fullHouse |= Card.of(Rank.KING, Suit.SPADE).mask();
+        fullHouse |= Card.of(Rank.KING, Suit.HEART).mask();
+        fullHouse |= Card.of(Rank.KING, Suit.DIAMOND).mask();
+        fullHouse |= Card.of(Rank.ACE, Suit.SPADE).mask();
+        fullHouse |= Card.of(Rank.ACE, Suit.HEART).mask();
+
+        // When
+        int quadsValue = lookupEvaluator.evaluateValue(quads);
+        int fullHouseValue = lookupEvaluator.evaluateValue(fullHouse);
+
+        // Then
+        assertTrue(quadsValue > fullHouseValue);
+        assertEquals(HandRank.FOUR_OF_A_KIND, HandScore.of(quadsValue).getRank());
+        assertEquals(List.of(13, 14), HandScore.of(fullHouseValue).getTiebreaker());
+    }
+
+    @Test
+    @DisplayName("5. 쇼다운 일괄 판정 승자는 플레이어별 개별 판정 결과와 같다")
+    void testFindWinners() {
+        Random random = new Random(9);
+        for (int round = 0; round < 5_000; round++) {
+            // Given: 무작위 보드 5장 + 6명 손패
+            List<Integer> deck = new ArrayList<>();
+            for (int i = 0; i < Card.DECK_SIZE; i++) deck.add(i);
+            Collections.shuffle(deck, random);
+            long board = 0;
+            for (int i = 0; i < 5; i++) board |= 1L << deck.get(i);
+            long[] holes = new long[6];
+            for (int p = 0; p < holes.length; p++) {
+                holes[p] = (1L << deck.get(5 + p * 2)) | (1L << deck.get(6 + p * 2));
+            }
+
+            // When
+            int[] scores = new int[holes.length];
+            long lookupWinners = lookupEvaluator.findWinners(board, holes, scores);
+            long legacyWinners = legacyEvaluator.findWinners(board, holes, null);
+
+            // Then
+            int best = Integer.MIN_VALUE;
+            for (int p = 0; p < holes.length; p++) {
+                assertEquals(lookupEvaluator.evaluateValue(board | holes[p]), scores[p]);
+                best = Math.max(best, scores[p]);
+            }
+            long expected = 0;
+            for (int p = 0; p < holes.length; p++) {
+                if (scores[p] == best) expected |= 1L << p;
+            }
+            assertEquals(expected, lookupWinners);
+            assertEquals(expected, legacyWinners);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.*;
+import com.sparta.core.service.EquityCalculator;
+import com.sparta.core.service.LookupHandEvaluator;
+import com.sparta.core.service.PreflopEquityTable;
+import com.sparta.core.service.PreflopEquityTableGenerator;
+import com.sparta.core.service.SamplingBudget;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PreflopEquityTableTest {
+
+    private final long aces = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.ACE, Suit.HEART));
+    private final long kings = CardSet.of(Card.of(Rank.KING, Suit.DIAMOND), Card.of(Rank.KING, Suit.CLUB));
+
+    @Test
+    @DisplayName("1. 스타팅 핸드 클래스 인덱스 (페어/수딧/오프수딧)")
+    void classIndex() {
+        long aceKingSuited = CardSet.of(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.KING, Suit.SPADE));
+        long sevenTwoOff = CardSet.of(Card.of(Rank.SEVEN, Suit.HEART), Card.of(Rank.TWO, Suit.CLUB));
+
+        assertEquals("AA", PreflopEquityTable.nameOf(PreflopEquityTable.classOf(aces)));
+        assertEquals("AKs", PreflopEquityTable.nameOf(PreflopEquityTable.classOf(aceKingSuited)));
+        assertEquals("72o", PreflopEquityTable.nameOf(PreflopEquityTable.classOf(sevenTwoOff)));
+        assertEquals(6, PreflopEquityTable.comboCount(PreflopEquityTable.classOf(aces)));
+    }
+
+    @Test
+    @DisplayName("2. 생성한 파일을 매핑해서 조회 (표 대칭 + AA vs KK 약 82%)")
+    void generateAndMap() throws Exception {
+        // Given: 테스트 시간상 샘플 수를 줄여서 생성
+        Path file = Files.createTempDirectory("preflop").resolve("preflop-equity.bin");
+        new PreflopEquityTableGenerator(new LookupHandEvaluator()).generate(file, 400, 400);
+
+        // When
+        PreflopEquityTable table = PreflopEquityTable.map(file);
+        int aa = PreflopEquityTable.classOf(aces);
+        int kk = PreflopEquityTable.classOf(kings);
+
+        // Then
+        assertTrue(table.isAvailable());
+        assertEquals(0.82, table.headsUpEquity(aa, kk), 0.08);
+        assertEquals(1.0, table.headsUpEquity(aa, kk) + table.headsUpEquity(kk, aa), 1e-6);
+        assertEquals(0.5, table.headsUpEquity(kk, kk), 1e-6);
+        assertTrue(table.multiwayEquity(aa, 2) > table.multiwayEquity(aa, 9));
+
+        // 계산기는 프리플랍 헤즈업이면 샘플링 없이 표를 읽음 (클래스 평균이라 샘플 수/오차는 내지 않음)
+        EquityCalculator calculator = new EquityCalculator(new LookupHandEvaluator(), new ForkJoinPool(1),
+                SamplingBudget.samples(1_000), 1_000, table);
+        EquityResult result = calculator.calculate(new long[]{aces, kings}, CardSet.EMPTY, CardSet.EMPTY);
+        assertEquals(0, result.getSamples());
+        assertTrue(Double.isNaN(result.getMargin()));
+        assertEquals(table.headsUpEquity(aa, kk), result.getEquity()[0], 1e-6);
+    }
+
+    @Test
+    @DisplayName("3. 형식이 다른 파일은 거부")
+    void rejectsInvalidFile() throws Exception {
+        Path file = Files.createTempFile("preflop", ".bin");
+        Files.write(file, new byte[16]);
+
+        assertThrows(IllegalStateException.class, () -> PreflopEquityTable.map(file));
+        assertFalse(PreflopEquityTable.empty().isAvailable());
+    }
+}
@@ -3,8 +3,11 @@ package com.sparta.api;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.api.dto.GameActionRequest;
+import com.sparta.api.dto.TableUpdate;
 import com.sparta.api.util.BinarySerializer;
 import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.*;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +43,37 @@ public class ProtocolEfficiencyTest {
         GameActionRequest restored = BinarySerializer.deserialize(binaryBytes);
         System.out.println("데이터 복원 확인: " + restored.getPlayerId() + ", " + restored.getAction());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("전체 상태 JSON vs DELTA 전파 크기 비교 (6인 테이블, 레이즈 한 번)")
+    void compareBroadcastSize() throws JsonProcessingException {
+        // Given: 6명이 앉아 프리플랍 진행 중
+        GameService gameService = new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+        gameService.createTable("table-1");
+        for (int p = 1; p <= 6; p++) {
+            gameService.joinPlayer("table-1", "player-" + p, "Player " + p, 10_000).join();
+        }
+        gameService.startGame("table-1").join();
+        TableSnapshot before = gameService.getSnapshot("table-1");
+        gameService.submitAction("table-1", before.getActionPlayerId(), ActionType.RAISE, 300).join();
+        TableSnapshot after = gameService.getSnapshot("table-1");
+
+        // 1. 기존 방식: 액션마다 전체 상태
+        ObjectMapper objectMapper = new ObjectMapper();
+        byte[] snapshotJson = objectMapper.writeValueAsBytes(after);
+
+        // 2. DELTA (JSON / Binary)
+        TableUpdate delta = TableUpdate.delta(before, after);
+        byte[] deltaJson = objectMapper.writeValueAsBytes(delta);
+        byte[] deltaBinary = BinarySerializer.serializeUpdate(delta);
+
+        // 3. 결과 출력
+        System.out.println("=========================================");
+        System.out.println("[상태 전파량 비교]");
+        System.out.println("전체 상태 JSON 크기: " + snapshotJson.length + " bytes");
+        System.out.println("DELTA JSON   크기: " + deltaJson.length + " bytes");
+        System.out.println("DELTA Binary 크기: " + deltaBinary.length + " bytes");
+        System.out.println("=========================================");
+    }
+}
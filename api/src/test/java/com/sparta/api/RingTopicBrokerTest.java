@@ -0,0 +1,159 @@
+package com.sparta.api;
+
+import com.sparta.api.broker.RingTopicBroker;
+import com.sparta.api.broker.TopicSink;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RingTopicBrokerTest {
+
+    // 받은 버전만 기록하는 구독자 (ready 를 꺼서 느린 구독자를 흉내)
+    private static class RecordingSink implements TopicSink {
+        private final List<Long> versions = new CopyOnWriteArrayList<>();
+        private volatile boolean ready = true;
+
+        @Override
+        public boolean ready() {
+            return ready;
+        }
+
+        @Override
+        public boolean send(long version, boolean keyframe, byte[] json, byte[] binary) {
+            versions.add(version);
+            return true;
+        }
+    }
+
+    @Test
+    @DisplayName("1. 구독자는 링 순서대로 모두 받고, 나중에 들어온 구독자는 마지막 KEYFRAME 부터 받는다")
+    void deliversInOrderFromLastKeyframe() throws InterruptedException {
+        try (RingTopicBroker broker = new RingTopicBroker(16, 2)) {
+            // Given
+            RecordingSink early = new RecordingSink();
+            broker.subscribe("t1", early);
+
+            // When: 1 = KEYFRAME, 2~4 = DELTA, 5 = KEYFRAME, 6 = DELTA
+            for (long version = 1; version <= 6; version++) {
+                broker.publish("t1", version, version == 1 || version == 5, new byte[0], new byte[0]);
+            }
+            RecordingSink late = new RecordingSink();
+            broker.subscribe("t1", late);
+            await(() -> early.versions.size() == 6 && late.versions.size() == 2);
+
+            // Then
+            assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L), early.versions);
+            assertEquals(List.of(5L, 6L), late.versions);
+        }
+    }
+
+    @Test
+    @DisplayName("2. 밀린 구독자는 링을 넘어 쌓지 않고 마지막 KEYFRAME 으로 건너뛴다")
+    void slowSubscriberSkipsToKeyframe() throws InterruptedException {
+        try (RingTopicBroker broker = new RingTopicBroker(8, 1)) {
+            // Given: 출력이 막힌 구독자
+            RecordingSink slow = new RecordingSink();
+            slow.ready = false;
+            broker.subscribe("t1", slow);
+
+            // When: 링 크기(8)의 몇 배를 쓰는 동안 막혀 있다가 풀림 (5번마다 KEYFRAME)
+            for (long version = 1; version <= 42; version++) {
+                broker.publish("t1", version, version % 5 == 1, new byte[0], new byte[0]);
+            }
+            slow.ready = true;
+            broker.publish("t1", 43, false, new byte[0], new byte[0]);
+            await(() -> slow.versions.contains(43L));
+
+            // Then: 마지막 KEYFRAME(41) 부터 이어서만 받음
+            assertEquals(List.of(41L, 42L, 43L), slow.versions);
+            assertTrue(broker.getSkipped() > 0);
+        }
+    }
+
+    @Test
+    @DisplayName("3. 재연결한 구독자는 마지막으로 받은 버전 이후만 받고, 링에 없는 버전이면 마지막 KEYFRAME 부터 받는다")
+    void resumesFromLastSeenVersion() throws InterruptedException {
+        try (RingTopicBroker broker = new RingTopicBroker(8, 1)) {
+            // Given: 버전 1~20 (10번마다 KEYFRAME), 링에는 13~20 만 남음
+            for (long version = 1; version <= 20; version++) {
+                broker.publish("t1", version, version % 10 == 1, new byte[0], new byte[0]);
+            }
+
+            // When
+            RecordingSink recent = new RecordingSink();
+            broker.subscribe("t1", recent, 17);
+            RecordingSink upToDate = new RecordingSink();
+            broker.subscribe("t1", upToDate, 20);
+            RecordingSink stale = new RecordingSink();
+            broker.subscribe("t1", stale, 5);
+            broker.publish("t1", 21, true, new byte[0], new byte[0]);
+            await(() -> recent.versions.contains(21L) && upToDate.versions.contains(21L) && stale.versions.contains(21L));
+
+            // Then
+            assertEquals(List.of(18L, 19L, 20L, 21L), recent.versions);
+            assertEquals(List.of(21L), upToDate.versions);
+            assertEquals(21L, stale.versions.get(stale.versions.size() - 1).longValue());
+            assertFalse(stale.versions.contains(12L));
+        }
+    }
+
+    @Test
+    @DisplayName("4. 출력이 밀려 멈춘 구독자는 새 publish 가 없어도 출력이 풀리면 마저 받는다")
+    void blockedSubscriberResumesWithoutNewPublish() throws InterruptedException {
+        try (RingTopicBroker broker = new RingTopicBroker(8, 1)) {
+            // Given: 출력이 막힌 동안 발행이 끝남 (1 = KEYFRAME, 2~3 = DELTA)
+            RecordingSink blocked = new RecordingSink();
+            blocked.ready = false;
+            broker.subscribe("t1", blocked);
+            for (long version = 1; version <= 3; version++) {
+                broker.publish("t1", version, version == 1, new byte[0], new byte[0]);
+            }
+            Thread.sleep(30);
+
+            // When: 출력만 풀림 (signal 을 다시 주는 쪽이 없음)
+            blocked.ready = true;
+            await(() -> blocked.versions.size() == 3);
+
+            // Then
+            assertEquals(List.of(1L, 2L, 3L), blocked.versions);
+        }
+    }
+
+    @Test
+    @DisplayName("5. 없는 토픽은 구독할 수 없고, 없어진 토픽은 마지막 구독자가 나가면 링을 버린다")
+    void dropsTopicsThatNoLongerExist() {
+        Set<String> tables = ConcurrentHashMap.newKeySet();
+        tables.add("t1");
+        try (RingTopicBroker broker = new RingTopicBroker(8, 1, tables::contains)) {
+            // Given
+            RingTopicBroker.Subscription subscription = broker.subscribe("t1", new RecordingSink());
+            broker.publish("t1", 1, true, new byte[0], new byte[0]);
+
+            // When & Then: 없는 토픽
+            assertThrows(IllegalArgumentException.class, () -> broker.subscribe("no-such-table", new RecordingSink()));
+            assertEquals(1, broker.getTopicCount());
+
+            // When & Then: 테이블이 없어져도 구독자가 있으면 두고, 나가면 버림
+            tables.remove("t1");
+            broker.remove("t1");
+            assertEquals(1, broker.getTopicCount());
+            subscription.cancel();
+            assertEquals(0, broker.getTopicCount());
+        }
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (!condition.getAsBoolean() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(5);
+        }
+        Thread.sleep(20); // 더 오지 않는지
+    }
+}
@@ -0,0 +1,115 @@
+package com.sparta.api;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.api.broker.RingTopicBroker;
+import com.sparta.api.dto.SeatPrivateUpdate;
+import com.sparta.api.socket.SeatTokens;
+import com.sparta.api.socket.TableBroadcaster;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.core.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeatBindingTest {
+
+    private GameService gameService;
+    private SeatTokens seatTokens;
+    private final List<Message<?>> sent = new CopyOnWriteArrayList<>(); // 브로커로 나간 STOMP 메시지
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+        gameService.createTable("t1");
+        gameService.joinPlayer("t1", "p1", "Alice", 1000).join();
+        gameService.joinPlayer("t1", "p2", "Bob", 1000).join();
+        seatTokens = new SeatTokens("test-secret");
+    }
+
+    private TableBroadcaster broadcaster(RingTopicBroker broker) {
+        SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> sent.add(message));
+        return new TableBroadcaster(gameService, template, new ObjectMapper(), 20, 0, broker, "ring", seatTokens);
+    }
+
+    // 보낸 바이너리 프레임의 종류(첫 바이트)만 기록하는 세션
+    private static WebSocketSession recordingSession(String id, List<Byte> frames) {
+        Map<String, Object> attributes = new ConcurrentHashMap<>();
+        return (WebSocketSession) Proxy.newProxyInstance(WebSocketSession.class.getClassLoader(),
+                new Class<?>[]{WebSocketSession.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "getId" -> id;
+                    case "getAttributes" -> attributes;
+                    case "isOpen" -> true;
+                    case "sendMessage" -> {
+                        frames.add(((BinaryMessage) args[0]).getPayload().get(0));
+                        yield null;
+                    }
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> id;
+                    default -> null;
+                });
+    }
+
+    @Test
+    @DisplayName("1. 좌석 토큰이 없거나 다른 좌석 것이면 STOMP 세션을 좌석에 묶지 않고 손패도 보내지 않는다")
+    void foreignStompSessionGetsNoHoleCards() {
+        try (RingTopicBroker broker = new RingTopicBroker(64, 1)) {
+            // Given
+            TableBroadcaster tableBroadcaster = broadcaster(broker);
+            String p1Token = seatTokens.issue("t1", "p1");
+
+            // When
+            SeatPrivateUpdate own = tableBroadcaster.bindSeat("t1", "p1", p1Token, "owner");
+            assertThrows(IllegalArgumentException.class, () -> tableBroadcaster.bindSeat("t1", "p1", null, "spy"));
+            assertThrows(IllegalArgumentException.class,
+                    () -> tableBroadcaster.bindSeat("t1", "p1", seatTokens.issue("t1", "p2"), "spy"));
+            gameService.startGame("t1").join();
+            tableBroadcaster.broadcast("t1");
+
+            // Then: 손패는 토큰을 보낸 세션에만
+            assertEquals("p1", own.getPlayerId());
+            assertTrue(sent.stream().anyMatch(message -> "owner".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))));
+            assertTrue(sent.stream().noneMatch(message -> "spy".equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))));
+        }
+    }
+
+    @Test
+    @DisplayName("2. 좌석 토큰이 맞지 않는 바이너리 SUBSCRIBE 는 좌석에 묶지 않고 아무 프레임도 보내지 않는다")
+    void foreignBinarySessionGetsNothing() throws InterruptedException {
+        try (RingTopicBroker broker = new RingTopicBroker(64, 1)) {
+            // Given
+            TableBroadcaster tableBroadcaster = broadcaster(broker);
+            List<Byte> ownerFrames = new CopyOnWriteArrayList<>();
+            List<Byte> spyFrames = new CopyOnWriteArrayList<>();
+            WebSocketSession owner = recordingSession("owner", ownerFrames);
+            WebSocketSession spy = recordingSession("spy", spyFrames);
+
+            // When
+            int seat = tableBroadcaster.subscribeBinary("t1", "p1", seatTokens.issue("t1", "p1"), -1, owner);
+            assertThrows(IllegalArgumentException.class,
+                    () -> tableBroadcaster.subscribeBinary("t1", "p1", "forged", -1, spy));
+            gameService.startGame("t1").join();
+            tableBroadcaster.broadcast("t1");
+            Thread.sleep(50); // 링 디스패처가 보낼 시간
+
+            // Then: 토큰이 맞는 세션만 좌석(PRIVATE 프레임)에 묶이고, 틀린 세션은 공개 상태도 구독되지 않음
+            assertTrue(seat >= 0);
+            assertTrue(ownerFrames.contains(BinarySerializer.FRAME_PRIVATE));
+            assertTrue(spyFrames.isEmpty());
+        }
+    }
+}
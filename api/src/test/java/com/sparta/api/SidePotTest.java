@@ -0,0 +1,93 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.Player;
+import com.sparta.core.domain.Pot;
+import com.sparta.core.domain.Table;
+import com.sparta.core.service.BettingService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SidePotTest {
+
+    private final BettingService bettingService = new BettingService();
+
+    private Table seat(long... stacks) {
+        Table table = new Table("t1");
+        for (int i = 0; i < stacks.length; i++) {
+            table.addPlayer(new Player("p" + i, "P" + i, stacks[i]));
+        }
+        return table;
+    }
+
+    private void act(Table table, int seat, ActionType action, long amount) {
+        bettingService.processBetting(table.getPlayer(seat), table.getPot(), action, amount);
+    }
+
+    @Test
+    @DisplayName("1. 스택이 다른 3인 올인은 올인 금액마다 층이 나뉘고, 층마다 자격자 중 최고 패가 가져간다")
+    void multiwayAllIn() {
+        // Given: 1000 / 3000 / 5000
+        Table table = seat(1_000, 3_000, 5_000);
+        act(table, 0, ActionType.ALL_IN, 0);
+        act(table, 1, ActionType.ALL_IN, 0);
+        act(table, 2, ActionType.CALL, 3_000);
+
+        // Then: 메인 3000 (3명), 사이드 4000 (p1, p2), 그 위는 비어 있음
+        Pot pot = table.getPot();
+        assertEquals(3, pot.getLayerCount());
+        assertEquals(3_000, pot.getLayerAmount(0));
+        assertEquals(0b111, pot.getEligibleSeats(0));
+        assertEquals(4_000, pot.getLayerAmount(1));
+        assertEquals(0b110, pot.getEligibleSeats(1));
+        assertEquals(0, pot.getLayerAmount(2));
+
+        // When: p0 > p1 > p2
+        int winners = table.settlePot(new int[]{300, 200, 100, 0, 0, 0});
+
+        // Then
+        assertEquals(0b011, winners);
+        assertEquals(3_000, table.getPlayer(0).getChips());
+        assertEquals(4_000, table.getPlayer(1).getChips());
+        assertEquals(2_000, table.getPlayer(2).getChips());
+    }
+
+    @Test
+    @DisplayName("2. 폴드한 플레이어의 칩은 남고 자격만 잃으며, 나누어떨어지지 않는 칩은 딜러 다음 좌석부터 준다")
+    void foldAndOddChip() {
+        // Given
+        Table table = seat(1_000, 1_000, 1_000);
+        act(table, 0, ActionType.CALL, 101);
+        act(table, 1, ActionType.CALL, 101);
+        act(table, 2, ActionType.CALL, 101);
+        act(table, 2, ActionType.FOLD, 0);
+
+        // When: p0, p1 무승부 -> 303 을 151 + 151 + 자투리 1
+        table.settlePot(new int[]{500, 500, 900, 0, 0, 0});
+
+        // Then
+        assertEquals(1_051, table.getPlayer(0).getChips());
+        assertEquals(1_050, table.getPlayer(1).getChips());
+        assertEquals(899, table.getPlayer(2).getChips());
+    }
+
+    @Test
+    @DisplayName("3. 아무도 받지 못한 초과 베팅은 낸 사람에게 돌아간다")
+    void uncalledExcessReturns() {
+        // Given: p0 1000 올인, p1 2500, p2 폴드
+        Table table = seat(1_000, 5_000, 5_000);
+        act(table, 0, ActionType.ALL_IN, 0);
+        act(table, 1, ActionType.CALL, 2_500);
+        act(table, 2, ActionType.FOLD, 0);
+
+        // When: p0 승리
+        table.settlePot(new int[]{900, 100, 0, 0, 0, 0});
+
+        // Then: 메인 2000 은 p0, 자격자가 p1 뿐인 1500 은 p1 에게 반환
+        assertEquals(2_000, table.getPlayer(0).getChips());
+        assertEquals(4_000, table.getPlayer(1).getChips());
+        assertEquals(5_000, table.getPlayer(2).getChips());
+    }
+}
@@ -0,0 +1,156 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableCheckpointTest {
+
+    private Path directory;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        directory = Files.createTempDirectory("checkpoint");
+    }
+
+    private GameService newGameService(ActionJournal journal) {
+        return new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100), journal);
+    }
+
+    private static void seat(GameService gameService, String tableId) {
+        gameService.createTable(tableId);
+        gameService.joinPlayer(tableId, "p1", "P1", 10_000).join();
+        gameService.joinPlayer(tableId, "p2", "P2", 10_000).join();
+        gameService.joinPlayer(tableId, "p3", "P3", 10_000).join();
+    }
+
+    private static void assertSameState(TableSnapshot expected, TableSnapshot actual) {
+        assertEquals(expected.getCurrentRound(), actual.getCurrentRound());
+        assertEquals(expected.getCommunityCards().toString(), actual.getCommunityCards().toString());
+        assertEquals(expected.getPot().getLayers(), actual.getPot().getLayers());
+        assertEquals(expected.getActionPlayerId(), actual.getActionPlayerId());
+        assertEquals(expected.getHighestBet(), actual.getHighestBet());
+        assertEquals(expected.getPlayers().size(), actual.getPlayers().size());
+        for (int i = 0; i < expected.getPlayers().size(); i++) {
+            TableSnapshot.PlayerSnapshot e = expected.getPlayers().get(i);
+            TableSnapshot.PlayerSnapshot a = actual.getPlayers().get(i);
+            assertEquals(e.getId(), a.getId());
+            assertEquals(e.getChips(), a.getChips());
+            assertEquals(e.getCurrentBet(), a.getCurrentBet());
+            assertEquals(e.isFolded(), a.isFolded());
+            assertEquals(e.getHoleCardSet(), a.getHoleCardSet());
+        }
+    }
+
+    @Test
+    @DisplayName("1. 체크포인트를 읽은 뒤 저널은 체크포인트 이후 기록만 재생한다")
+    void replaysOnlyAfterCheckpoint() throws IOException {
+        // Given: 두 테이블을 진행하다 체크포인트
+        MappedActionJournal journal = new MappedActionJournal(directory.resolve("journal"), 2, 64, Duration.ZERO);
+        GameService before = newGameService(journal);
+        before.recover();
+        seat(before, "t1");
+        seat(before, "t2");
+        before.startGame("t1").join();
+        before.submitAction("t1", "p1", ActionType.RAISE, 300).join();
+        TableCheckpointer checkpointer = new TableCheckpointer(directory.resolve("checkpoint"), 2);
+        checkpointer.checkpoint(before);
+
+        // 체크포인트 이후: t1 액션 2개, 새 테이블 t3 (생성 + 입장 3)
+        before.submitAction("t1", "p2", ActionType.CALL, 0).join();
+        before.submitAction("t1", "p3", ActionType.FOLD, 0).join();
+        seat(before, "t3");
+        journal.close();
+
+        // When
+        GameService after = newGameService(new MappedActionJournal(directory.resolve("journal"), 2, 64, Duration.ZERO));
+        long replayed = after.recover(checkpointer.loadLatest());
+
+        // Then
+        assertEquals(6, replayed);
+        assertSameState(before.getSnapshot("t1"), after.getSnapshot("t1"));
+        assertSameState(before.getSnapshot("t2"), after.getSnapshot("t2"));
+        assertEquals(3, after.getSnapshot("t3").getPlayers().size());
+    }
+
+    @Test
+    @DisplayName("2. 복원한 테이블은 덱 순서까지 같아서 이후 카드도 같고, 손상된 최신 파일은 건너뛴다")
+    void restoresDeckOrderAndSkipsCorruptFile() throws IOException {
+        // Given: 저널 없이 체크포인트만
+        GameService before = newGameService(ActionJournal.NONE);
+        seat(before, "t1");
+        before.startGame("t1").join();
+        TableCheckpointer checkpointer = new TableCheckpointer(directory, 2);
+        checkpointer.checkpoint(before);
+        Path newest = checkpointer.checkpoint(before);
+        try (FileChannel channel = FileChannel.open(newest, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.wrap(new byte[]{0x55}), 40);
+        }
+
+        // When
+        List<byte[]> loaded = checkpointer.loadLatest();
+        GameService after = newGameService(ActionJournal.NONE);
+        after.recover(loaded);
+
+        // Then: 같은 상태에서 같은 명령 -> 같은 보드
+        assertEquals(1, loaded.size());
+        for (GameService gameService : List.of(before, after)) {
+            gameService.submitAction("t1", "p1", ActionType.CALL, 0).join();
+            gameService.submitAction("t1", "p2", ActionType.CALL, 0).join();
+            gameService.submitAction("t1", "p3", ActionType.CHECK, 0).join();
+        }
+        assertEquals(3, after.getSnapshot("t1").getCommunityCards().size());
+        assertSameState(before.getSnapshot("t1"), after.getSnapshot("t1"));
+    }
+
+    @Test
+    @DisplayName("3. 저널 꼬리가 유실돼 체크포인트가 앞서 있어도, 복구 후 새 기록은 다음 재시작에 재생된다")
+    void newRecordsSurviveWhenCheckpointIsAheadOfJournal() throws IOException {
+        // Given: 입장까지만 디스크에 남은 저널 (전원 장애 흉내) + 그 뒤 액션까지 담은 체크포인트
+        Path journalDir = directory.resolve("journal");
+        Path durableDir = directory.resolve("durable");
+        MappedActionJournal journal = new MappedActionJournal(journalDir, 1, 64, Duration.ZERO);
+        GameService before = newGameService(journal);
+        before.recover();
+        seat(before, "t1");
+        Files.createDirectories(durableDir);
+        try (var files = Files.list(journalDir)) {
+            for (Path file : files.toList()) {
+                Files.copy(file, durableDir.resolve(file.getFileName()));
+            }
+        }
+        before.startGame("t1").join();
+        before.submitAction("t1", "p1", ActionType.RAISE, 300).join();
+        TableCheckpointer checkpointer = new TableCheckpointer(directory.resolve("checkpoint"), 2);
+        checkpointer.checkpoint(before);
+        journal.close();
+
+        // When: 짧은 저널 + 체크포인트로 복구해서 액션 하나 더, 다시 재시작
+        MappedActionJournal resumed = new MappedActionJournal(durableDir, 1, 64, Duration.ZERO);
+        GameService middle = newGameService(resumed);
+        middle.recover(checkpointer.loadLatest());
+        middle.submitAction("t1", "p2", ActionType.CALL, 0).join();
+        resumed.close();
+        GameService after = newGameService(new MappedActionJournal(durableDir, 1, 64, Duration.ZERO));
+        long replayed = after.recover(checkpointer.loadLatest());
+
+        // Then: 체크포인트 이후의 CALL 이 건너뛰어지지 않음
+        assertEquals(1, replayed);
+        assertSameState(middle.getSnapshot("t1"), after.getSnapshot("t1"));
+    }
+}
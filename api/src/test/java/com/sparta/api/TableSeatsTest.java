@@ -0,0 +1,78 @@
+package com.sparta.api;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.Player;
+import com.sparta.core.domain.Rank;
+import com.sparta.core.domain.Suit;
+import com.sparta.core.domain.Table;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableSeatsTest {
+
+    @Test
+    @DisplayName("1. 입장 순서대로 좌석에 앉고 playerId 로 바로 찾는다")
+    void seatsInJoinOrder() {
+        // Given
+        Table table = new Table("t1");
+        Player p1 = new Player("p1", "P1", 5_000);
+        p1.betChips(1_000); // 테이블 밖에서 바뀐 상태도 착석 시 그대로 옮겨짐
+        Player p2 = new Player("p2", "P2", 3_000);
+
+        // When
+        table.addPlayer(p1);
+        table.addPlayer(p2);
+
+        // Then
+        assertSame(p1, table.findPlayer("p1"));
+        assertSame(p2, table.getPlayer(1));
+        assertNull(table.findPlayer("nobody"));
+        assertEquals(0b11, table.getOccupiedSeats());
+        assertEquals(4_000, p1.getChips());
+        assertEquals(1_000, p1.getCurrentBet());
+        assertEquals(2, table.getPlayers().size());
+    }
+
+    @Test
+    @DisplayName("2. 뷰를 통한 변경은 좌석 배열에 반영되고, 새 게임에서 한 번에 초기화된다")
+    void viewWritesThroughToSeats() {
+        // Given
+        Table table = new Table("t1");
+        table.addPlayer(new Player("p1", "P1", 5_000));
+        table.addPlayer(new Player("p2", "P2", 5_000));
+        Player p2 = table.findPlayer("p2");
+
+        // When
+        p2.betChips(500);
+        p2.receiveCard(Card.of(Rank.ACE, Suit.SPADE), Card.of(Rank.KING, Suit.SPADE));
+        p2.fold();
+
+        // Then
+        assertEquals(0b10, table.getFoldedSeats());
+        assertEquals(4_500, table.getPlayers().get(1).getChips());
+
+        table.prepareNewGame();
+        assertEquals(0, table.getFoldedSeats());
+        assertEquals(0, p2.getCurrentBet());
+        assertTrue(p2.getHoleCards().isEmpty());
+        assertEquals(4_500, p2.getChips());
+    }
+
+    @Test
+    @DisplayName("3. 중복 입장, 만석, 다른 테이블에 앉은 플레이어는 거부")
+    void rejectsInvalidJoin() {
+        Table table = new Table("t1");
+        for (int i = 0; i < Table.MAX_PLAYERS; i++) {
+            table.addPlayer(new Player("p" + i, "P" + i, 5_000));
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new Table("t2").addPlayer(table.findPlayer("p0")));
+        assertThrows(IllegalStateException.class, () -> table.addPlayer(new Player("p9", "P9", 5_000)));
+
+        Table other = new Table("t3");
+        other.addPlayer(new Player("x", "X", 5_000));
+        assertThrows(IllegalArgumentException.class, () -> other.addPlayer(new Player("x", "X2", 5_000)));
+    }
+}
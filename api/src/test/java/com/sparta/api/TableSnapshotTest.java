@@ -0,0 +1,93 @@
+package com.sparta.api;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.core.domain.ActionResult;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.BettingService;
+import com.sparta.core.service.GameService;
+import com.sparta.core.service.LookupHandEvaluator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableSnapshotTest {
+
+    private GameService gameService;
+
+    @BeforeEach
+    void setUp() {
+        gameService = new GameService(new LookupHandEvaluator(), new BettingService());
+        gameService.createTable("t1");
+        gameService.joinPlayer("t1", "p1", "P1", 10_000).join();
+        gameService.joinPlayer("t1", "p2", "P2", 10_000).join();
+    }
+
+    @Test
+    @DisplayName("1. 커밋된 명령마다 버전이 1씩 오르고, 이전 스냅샷은 바뀌지 않는다")
+    void publishesVersionPerCommand() {
+        // Given
+        TableSnapshot before = gameService.getSnapshot("t1");
+        gameService.startGame("t1").join();
+
+        // When
+        gameService.submitAction("t1", "p1", ActionType.BET, 500).join();
+        TableSnapshot after = gameService.getSnapshot("t1");
+
+        // Then
+        assertEquals(before.getVersion() + 2, after.getVersion());
+        assertEquals(500, after.getPot().getTotalAmount());
+        assertEquals(9_500, after.getPlayers().get(0).getChips());
+        assertEquals(2, after.getPlayers().get(0).getHoleCards().size());
+
+        assertEquals(0, before.getPot().getTotalAmount());
+        assertEquals(10_000, before.getPlayers().get(0).getChips());
+        assertThrows(UnsupportedOperationException.class, () -> after.getPlayers().clear());
+    }
+
+    @Test
+    @DisplayName("2. 실패한 명령은 새 스냅샷을 발행하지 않는다")
+    void failedCommandKeepsSnapshot() {
+        // Given
+        TableSnapshot before = gameService.getSnapshot("t1");
+
+        // When: 칩보다 큰 베팅 (핸드 시작 전) -> 예외 없이 결과 코드
+        ActionResult result = gameService.submitAction("t1", "p1", ActionType.BET, 50_000).join();
+
+        // Then
+        assertEquals(ActionResult.NO_HAND_IN_PROGRESS, result);
+        assertSame(before, gameService.getSnapshot("t1"));
+    }
+
+    @Test
+    @DisplayName("3. 스냅샷을 JSON 으로 직렬화해도 손패는 나가지 않는다")
+    void snapshotJsonHasNoHoleCards() throws JsonProcessingException {
+        // Given
+        gameService.startGame("t1").join();
+        TableSnapshot snapshot = gameService.getSnapshot("t1");
+
+        // When
+        String json = new ObjectMapper().writeValueAsString(snapshot);
+
+        // Then
+        assertEquals(2, snapshot.getPlayers().get(0).getHoleCards().size());
+        assertFalse(json.contains("holeCard"), json);
+        assertTrue(json.contains("\"chips\""));
+    }
+
+    @Test
+    @DisplayName("4. 핸드 밖이거나 베팅할 차례가 남아 있으면 베팅이 닫힌 것으로 보지 않는다 (승률 비공개)")
+    void bettingIsOpenWhileSomeoneCanAct() {
+        // Given & When & Then: 핸드 시작 전
+        assertFalse(gameService.getSnapshot("t1").isBettingClosed());
+
+        // When & Then: 베팅 중 (차례가 남음)
+        gameService.startGame("t1").join();
+        assertFalse(gameService.getSnapshot("t1").isBettingClosed());
+        gameService.submitAction("t1", "p1", ActionType.BET, 500).join();
+        assertFalse(gameService.getSnapshot("t1").isBettingClosed());
+    }
+}
@@ -0,0 +1,103 @@
+package com.sparta.api;
+
+import com.sparta.api.dto.SeatPrivateUpdate;
+import com.sparta.api.dto.TableUpdate;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.*;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TableUpdateTest {
+
+    private static GameService startedTable() {
+        GameService gameService = new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+        gameService.createTable("t1");
+        for (int p = 1; p <= 6; p++) {
+            gameService.joinPlayer("t1", "player-" + p, "Player " + p, 10_000).join();
+        }
+        gameService.startGame("t1").join();
+        return gameService;
+    }
+
+    @Test
+    @DisplayName("1. 액션 한 번의 DELTA 는 바뀐 좌석/팟/차례만 담는다")
+    void deltaContainsOnlyChanges() {
+        // Given
+        GameService gameService = startedTable();
+        TableSnapshot before = gameService.getSnapshot("t1");
+        String actor = before.getActionPlayerId();
+
+        // When
+        gameService.submitAction("t1", actor, ActionType.RAISE, 300).join();
+        TableSnapshot after = gameService.getSnapshot("t1");
+        TableUpdate delta = TableUpdate.delta(before, after);
+
+        // Then
+        assertEquals(TableUpdate.Type.DELTA, delta.getType());
+        assertEquals(before.getVersion(), delta.getBaseVersion().longValue());
+        assertEquals(after.getVersion(), delta.getVersion());
+        assertEquals(1, delta.getSeats().size());
+        TableUpdate.SeatChange seat = delta.getSeats().get(0);
+        assertNull(seat.getPlayerId()); // 이미 앉아 있던 좌석은 ID/이름 생략
+        assertEquals(after.getPlayers().stream().filter(p -> p.getId().equals(actor)).findFirst().get().getChips(),
+                seat.getChips().longValue());
+        assertNull(seat.getFolded());
+        assertNotNull(delta.getPotTotal());
+        assertNotNull(delta.getActionSeat());
+        assertNull(delta.getCurrentRound());
+        assertNull(delta.getCommunityCards());
+        assertNull(delta.getDealerSeat());
+        assertNull(delta.getHandInProgress());
+    }
+
+    @Test
+    @DisplayName("2. KEYFRAME/DELTA 바이너리 프레임은 그대로 복원되고, DELTA 는 KEYFRAME 보다 훨씬 작다")
+    void binaryRoundTrip() {
+        // Given
+        GameService gameService = startedTable();
+        TableSnapshot before = gameService.getSnapshot("t1");
+        gameService.submitAction("t1", before.getActionPlayerId(), ActionType.CALL, 0).join();
+        TableSnapshot after = gameService.getSnapshot("t1");
+
+        for (TableUpdate update : new TableUpdate[]{TableUpdate.keyframe(after), TableUpdate.delta(before, after)}) {
+            // When
+            byte[] frame = BinarySerializer.serializeUpdate(update);
+            TableUpdate decoded = BinarySerializer.deserializeUpdate(ByteBuffer.wrap(frame));
+
+            // Then: 다시 직렬화하면 같은 바이트
+            assertEquals(update.getType(), decoded.getType());
+            assertEquals(update.getVersion(), decoded.getVersion());
+            assertArrayEquals(frame, BinarySerializer.serializeUpdate(decoded));
+        }
+        int keyframe = BinarySerializer.serializeUpdate(TableUpdate.keyframe(after)).length;
+        int delta = BinarySerializer.serializeUpdate(TableUpdate.delta(before, after)).length;
+        assertTrue(delta * 4 < keyframe, "delta=" + delta + ", keyframe=" + keyframe);
+    }
+
+    @Test
+    @DisplayName("3. 손패는 좌석 개인 프레임으로만 나가고, 그대로 복원된다")
+    void privateFrameCarriesOwnHoleCards() {
+        // Given
+        GameService gameService = startedTable();
+        TableSnapshot snapshot = gameService.getSnapshot("t1");
+        TableSnapshot.PlayerSnapshot player = snapshot.getPlayers().get(2);
+
+        // When
+        byte[] frame = BinarySerializer.serializePrivate(SeatPrivateUpdate.of(snapshot, player));
+        SeatPrivateUpdate decoded = BinarySerializer.deserializePrivate(ByteBuffer.wrap(frame), player.getId());
+
+        // Then
+        assertEquals(2, decoded.getHoleCards().size());
+        assertEquals(player.getHoleCards().toString(), decoded.getHoleCards().toString());
+        assertEquals(player.getSeat(), decoded.getSeat());
+        assertEquals(snapshot.getVersion(), decoded.getVersion());
+        assertEquals(1 + 1 + 2 + 8 + 1 + 1 + 2, frame.length);
+    }
+}
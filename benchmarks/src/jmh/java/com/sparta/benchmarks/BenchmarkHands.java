@@ -0,0 +1,47 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.HandRank;
+import com.sparta.core.domain.Rank;
+import com.sparta.core.domain.Suit;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 고정 핸드 (족보별 7장)
+ */
+final class BenchmarkHands {
+
+    private static final String RANKS = "23456789TJQKA";
+    private static final String SUITS = "shdc"; // Suit 선언 순서 (SPADE, HEART, DIAMOND, CLUB)
+
+    private BenchmarkHands() {
+    }
+
+    static List<Card> sevenCards(HandRank category) {
+        return parse(switch (category) {
+            case HIGH_CARD -> "As Jd 9c 7h 5s 3d 2c";
+            case ONE_PAIR -> "As Ad 9c 7h 5s 3d 2c";
+            case TWO_PAIR -> "As Ad 9c 9h 5s 3d 2c";
+            case THREE_OF_A_KIND -> "As Ad Ac 9h 5s 3d 2c";
+            case STRAIGHT -> "9s 8d 7c 6h 5s Kd 2c";
+            case FLUSH -> "As Js 9s 7s 3s Kd 2c";
+            case FULL_HOUSE -> "As Ad Ac 9h 9s 3d 2c";
+            case FOUR_OF_A_KIND -> "As Ad Ac Ah 9s 3d 2c";
+            case STRAIGHT_FLUSH -> "9s 8s 7s 6s 5s Kd 2c";
+            case ROYAL_FLUSH -> "As Ks Qs Js Ts 3d 2c";
+        });
+    }
+
+    // "As Kd" 형식 -> 카드 목록
+    static List<Card> parse(String text) {
+        List<Card> cards = new ArrayList<>();
+        for (String token : text.split(" ")) {
+            Rank rank = Rank.values()[RANKS.indexOf(token.charAt(0))];
+            Suit suit = Suit.values()[SUITS.indexOf(token.charAt(1))];
+            cards.add(Card.of(rank, suit));
+        }
+        return List.copyOf(cards);
+    }
+}
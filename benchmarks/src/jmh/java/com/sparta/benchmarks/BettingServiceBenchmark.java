@@ -0,0 +1,43 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.Player;
+import com.sparta.core.domain.Pot;
+import com.sparta.core.service.BettingService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 베팅 처리 (검증 + 칩 이동 + Zero-Sum 검사)
+ * - 칩이 줄어들지 않도록 매 호출 뒤 스택/팟을 원래 값으로 되돌림 (호출마다 같은 비용)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BettingServiceBenchmark {
+
+    private static final long STACK = 1_000_000;
+
+    @Param({"CALL", "CHECK", "ALL_IN"})
+    public ActionType action;
+
+    private final BettingService bettingService = new BettingService();
+    private Player player;
+    private Pot pot;
+
+    @Setup
+    public void setUp() {
+        player = new Player("bench", "bench", STACK);
+        pot = new Pot();
+    }
+
+    @Benchmark
+    public long processBetting() {
+        bettingService.processBetting(player, pot, action, 100);
+        long total = pot.getTotalAmount();
+        player.recoveryChips(STACK);
+        pot.recoveryAmount(0);
+        return total;
+    }
+}
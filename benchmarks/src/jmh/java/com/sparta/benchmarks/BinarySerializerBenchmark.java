@@ -0,0 +1,68 @@
+package com.sparta.benchmarks;
+
+import com.sparta.api.dto.GameActionRequest;
+import com.sparta.api.util.ActionFrame;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.api.util.BinarySerializerV2;
+import com.sparta.core.domain.ActionType;
+import org.openjdk.jmh.annotations.*;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액션 패킷 직렬화 / 역직렬화 (ProtocolEfficiencyTest 와 같은 데이터)
+ * - v1: 메시지마다 byte[]/요청 객체/문자열 할당
+ * - v2: 다이렉트 버퍼에 쓰고 재사용 ActionFrame 에 읽음 -> gc.alloc.rate.norm 이 0 B/op 이어야 함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BinarySerializerBenchmark {
+
+    private GameActionRequest request;
+    private byte[] bytes;
+
+    private ActionFrame frame;
+    private ActionFrame decoded;
+    private ByteBuffer encodeBuffer;
+    private ByteBuffer encoded;
+
+    @Setup
+    public void setUp() {
+        request = new GameActionRequest();
+        request.setPlayerId("User_Economic_King");
+        request.setAction(ActionType.BET);
+        request.setAmount(10000L);
+        bytes = BinarySerializer.serialize(request);
+
+        frame = new ActionFrame().set("table-1", "User_Economic_King", ActionType.BET, 10000L);
+        decoded = new ActionFrame();
+        encodeBuffer = ByteBuffer.allocateDirect(BinarySerializerV2.MAX_FRAME_BYTES);
+        encoded = ByteBuffer.allocateDirect(BinarySerializerV2.MAX_FRAME_BYTES);
+        BinarySerializerV2.encode(frame, encoded);
+        encoded.flip();
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return BinarySerializer.serialize(request);
+    }
+
+    @Benchmark
+    public GameActionRequest deserialize() {
+        return BinarySerializer.deserialize(bytes);
+    }
+
+    @Benchmark
+    public ByteBuffer serializeV2() {
+        BinarySerializerV2.encode(frame, encodeBuffer.clear());
+        return encodeBuffer;
+    }
+
+    @Benchmark
+    public ActionFrame deserializeV2() {
+        encoded.position(1); // 프레임 종류 바이트 다음부터
+        return BinarySerializerV2.decode(encoded, decoded);
+    }
+}
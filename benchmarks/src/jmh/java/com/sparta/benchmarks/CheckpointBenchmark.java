@@ -0,0 +1,72 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.service.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 체크포인트 복구 시간 (테이블 수별)
+ * - 테이블마다 4명이 앉아 프리플랍 진행 중인 상태를 체크포인트 파일 하나로 기록해 두고
+ * - restore: 파일 읽기 + CRC 확인 + 전체 테이블 복원 + 스냅샷 발행 (서버 시작 시 하는 일)
+ * - write: 전체 테이블 복사(테이블별 실행 스레드) + 파일 기록 (주기적으로 백그라운드에서 하는 일)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CheckpointBenchmark {
+
+    private static final HandEvaluator HAND_EVALUATOR = new LookupHandEvaluator(); // 룩업 테이블 생성은 측정에서 제외
+
+    @Param({"100", "1000", "10000"})
+    public int tables;
+
+    private GameService gameService;
+    private TableCheckpointer checkpointer;
+
+    @Setup
+    public void setUp() throws IOException {
+        gameService = newGameService();
+        for (int t = 0; t < tables; t++) {
+            String tableId = "table-" + t;
+            gameService.createTable(tableId);
+            for (int p = 0; p < 4; p++) {
+                gameService.joinPlayer(tableId, tableId + "-player-" + p, "P" + p, 10_000).join();
+            }
+            gameService.startGame(tableId).join();
+            String first = gameService.getSnapshot(tableId).getActionPlayerId();
+            gameService.submitAction(tableId, first, ActionType.RAISE, 300).join();
+        }
+        Path directory = Files.createTempDirectory("checkpoint-bench");
+        checkpointer = new TableCheckpointer(directory, 2);
+        checkpointer.checkpoint(gameService);
+    }
+
+    @TearDown
+    public void tearDown() {
+        checkpointer.close();
+    }
+
+    @Benchmark
+    public GameService restore() throws IOException {
+        List<byte[]> checkpoint = checkpointer.loadLatest();
+        GameService restored = newGameService();
+        restored.recover(checkpoint);
+        return restored;
+    }
+
+    @Benchmark
+    public Path write() throws IOException {
+        return checkpointer.checkpoint(gameService);
+    }
+
+    private static GameService newGameService() {
+        return new GameService(HAND_EVALUATOR, new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+    }
+}
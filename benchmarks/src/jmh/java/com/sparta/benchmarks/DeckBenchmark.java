@@ -0,0 +1,36 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.Deck;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 덱 셔플 / 딜링
+ * - dealTable: 6인 테이블 한 판 (손패 12장 + 보드 5장)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DeckBenchmark {
+
+    private static final int CARDS_PER_HAND = 6 * 2 + 5;
+
+    private final Deck deck = new Deck();
+
+    @Benchmark
+    public void shuffle() {
+        deck.shuffle();
+    }
+
+    @Benchmark
+    public void dealTable(Blackhole blackhole) {
+        deck.shuffle();
+        for (int i = 0; i < CARDS_PER_HAND; i++) {
+            Card card = deck.draw();
+            blackhole.consume(card);
+        }
+    }
+}
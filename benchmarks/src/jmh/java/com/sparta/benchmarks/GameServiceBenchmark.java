@@ -0,0 +1,86 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.ActorTableExecutor;
+import com.sparta.core.service.BettingService;
+import com.sparta.core.service.GameService;
+import com.sparta.core.service.HandEvaluator;
+import com.sparta.core.service.MonitorTableExecutor;
+import com.sparta.core.service.TableExecutor;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테이블 경합 하의 submitAction (실행 방식별: monitor = synchronized, actor = 테이블별 메일박스)
+ * - 4개 스레드가 tables 개의 테이블에 나눠 붙음 (tables=1 이면 전원이 같은 테이블을 다툼)
+ * - 스냅샷에서 차례인 플레이어를 읽어 체크, 핸드가 끝났으면 다음 핸드 시작 (블라인드 없음 -> 칩 변화 없음)
+ * - 같은 차례를 두 스레드가 동시에 읽으면 늦은 쪽은 NOT_YOUR_TURN 결과 코드로 거절됨 (거절 경로도 측정에 포함)
+ * - 처리 완료까지 기다린 시간 기준 (future.join)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(4)
+public class GameServiceBenchmark {
+
+    private static final long STACK = 1_000_000;
+
+    @Param({"1", "4"})
+    public int tables;
+
+    @Param({"monitor", "actor"})
+    public String executor;
+
+    private GameService gameService;
+    private TableExecutor tableExecutor;
+    private final AtomicInteger threads = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        tableExecutor = executor.equals("actor") ? new ActorTableExecutor(4) : new MonitorTableExecutor();
+        gameService = new GameService(new HandEvaluator(), new BettingService(), tableExecutor);
+        for (int t = 0; t < tables; t++) {
+            String tableId = "table-" + t;
+            gameService.createTable(tableId);
+            for (int p = 0; p < 4; p++) {
+                gameService.joinPlayer(tableId, tableId + "-player-" + p, "P" + p, STACK).join();
+            }
+            gameService.startGame(tableId).join();
+        }
+        threads.set(0);
+    }
+
+    @TearDown
+    public void tearDown() {
+        tableExecutor.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        String tableId;
+
+        @Setup
+        public void attach(GameServiceBenchmark benchmark) {
+            tableId = "table-" + (benchmark.threads.getAndIncrement() % benchmark.tables);
+        }
+    }
+
+    @Benchmark
+    public boolean submitAction(Client client) {
+        TableSnapshot snapshot = gameService.getSnapshot(client.tableId);
+        if (snapshot.isHandInProgress()) {
+            return gameService.submitAction(client.tableId, snapshot.getActionPlayerId(), ActionType.CHECK, 0)
+                    .join().isSuccess();
+        }
+        try {
+            gameService.startGame(client.tableId).join();
+            return true;
+        } catch (CompletionException e) {
+            return false; // 다른 스레드가 먼저 시작함
+        }
+    }
+}
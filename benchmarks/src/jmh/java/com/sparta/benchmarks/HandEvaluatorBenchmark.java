@@ -0,0 +1,54 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.CardSet;
+import com.sparta.core.domain.HandRank;
+import com.sparta.core.domain.HandScore;
+import com.sparta.core.service.HandEvaluator;
+import com.sparta.core.service.LookupHandEvaluator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 족보 판정 엔진 비교 (족보별 7장 고정 핸드)
+ * - evaluateList: 기존 API (List<Card> -> HandScore)
+ * - evaluateValue: 카드 집합(long) -> packed int (승률 계산기가 쓰는 경로)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HandEvaluatorBenchmark {
+
+    @Param({"legacy", "lookup"})
+    public String engine;
+
+    @Param({"HIGH_CARD", "ONE_PAIR", "TWO_PAIR", "THREE_OF_A_KIND", "STRAIGHT",
+            "FLUSH", "FULL_HOUSE", "FOUR_OF_A_KIND", "STRAIGHT_FLUSH", "ROYAL_FLUSH"})
+    public HandRank category;
+
+    private HandEvaluator evaluator;
+    private List<Card> cards;
+    private long cardSet;
+
+    @Setup
+    public void setUp() {
+        evaluator = engine.equals("legacy") ? new HandEvaluator() : new LookupHandEvaluator();
+        cards = BenchmarkHands.sevenCards(category);
+        cardSet = CardSet.of(cards);
+        if (evaluator.evaluate(cards).getRank() != category) {
+            throw new IllegalStateException("벤치마크 핸드의 족보가 다릅니다: " + category);
+        }
+    }
+
+    @Benchmark
+    public HandScore evaluateList() {
+        return evaluator.evaluate(cards);
+    }
+
+    @Benchmark
+    public int evaluateValue() {
+        return evaluator.evaluateValue(cardSet);
+    }
+}
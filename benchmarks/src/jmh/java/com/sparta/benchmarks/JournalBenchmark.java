@@ -0,0 +1,56 @@
+package com.sparta.benchmarks;
+
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.service.JournalRecord;
+import com.sparta.core.service.MappedActionJournal;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저널 append 지연 (128바이트 레코드 하나)
+ * - flushIntervalMs = 0: 기록마다 fsync / 10: flusher 스레드가 10ms 마다 모아서 fsync (group commit)
+ * - 4개 스레드가 서로 다른 테이블(샤드)에 기록
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class JournalBenchmark {
+
+    @Param({"0", "10"})
+    public long flushIntervalMs;
+
+    private MappedActionJournal journal;
+
+    @State(Scope.Thread)
+    public static class Writer {
+        String tableId;
+
+        @Setup
+        public void setUp() {
+            tableId = "table-" + Thread.currentThread().getId();
+        }
+    }
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException {
+        Path directory = Files.createTempDirectory("journal-bench");
+        journal = new MappedActionJournal(directory, 4, 1 << 16, Duration.ofMillis(flushIntervalMs));
+        journal.replay(record -> { });
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() {
+        journal.close();
+    }
+
+    @Benchmark
+    public void append(Writer writer) {
+        journal.append(JournalRecord.Type.ACTION, writer.tableId, "player-1", null, ActionType.CALL, 100);
+    }
+}
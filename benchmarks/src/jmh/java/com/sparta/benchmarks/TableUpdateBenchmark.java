@@ -0,0 +1,48 @@
+package com.sparta.benchmarks;
+
+import com.sparta.api.dto.TableUpdate;
+import com.sparta.api.util.BinarySerializer;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.TableSnapshot;
+import com.sparta.core.service.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 액션 한 번의 상태 전파 비용 (6인 테이블, 프리플랍 레이즈)
+ * - keyframe: 전체 상태를 바이너리로 (주기적으로/처음 구독할 때만)
+ * - delta: 직전 상태와 비교 + 바이너리 (액션마다)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TableUpdateBenchmark {
+
+    private TableSnapshot before;
+    private TableSnapshot after;
+
+    @Setup
+    public void setUp() {
+        GameService gameService = new GameService(new LookupHandEvaluator(), new MonitorTableExecutor(),
+                new BettingRoundEngine(new BettingService(), 50, 100));
+        gameService.createTable("table-1");
+        for (int p = 1; p <= 6; p++) {
+            gameService.joinPlayer("table-1", "player-" + p, "Player " + p, 10_000).join();
+        }
+        gameService.startGame("table-1").join();
+        before = gameService.getSnapshot("table-1");
+        gameService.submitAction("table-1", before.getActionPlayerId(), ActionType.RAISE, 300).join();
+        after = gameService.getSnapshot("table-1");
+    }
+
+    @Benchmark
+    public byte[] keyframe() {
+        return BinarySerializer.serializeUpdate(TableUpdate.keyframe(after));
+    }
+
+    @Benchmark
+    public byte[] delta() {
+        return BinarySerializer.serializeUpdate(TableUpdate.delta(before, after));
+    }
+}
@@ -0,0 +1,33 @@
+package com.sparta.core.domain;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 액션 처리 결과 코드
+ * - 잘못된 요청(차례 아님, 칩 부족 등)은 예외 대신 이 코드로 돌려줌 -> 스택 트레이스/로그 비용 없음
+ * - 예외는 자산 불일치 같은 진짜 불변식 위반에만 사용
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ActionResult {
+    OK("처리되었습니다."),
+    TABLE_NOT_FOUND("존재하지 않는 테이블입니다."),
+    PLAYER_NOT_FOUND("플레이어가 없습니다."),
+    NO_HAND_IN_PROGRESS("진행 중인 핸드가 없습니다."),
+    NOT_YOUR_TURN("차례가 아닙니다."),
+    ALREADY_FOLDED("이미 폴드한 플레이어입니다."),
+    INVALID_AMOUNT("금액이 올바르지 않습니다."),
+    INSUFFICIENT_CHIPS("칩이 부족합니다."),
+    CANNOT_CHECK("콜할 금액이 있어 체크할 수 없습니다."),
+    NOTHING_TO_CALL("콜할 금액이 없습니다. 체크하세요."),
+    BET_ALREADY_OPEN("이미 베팅이 있습니다. 레이즈하세요."),
+    NOTHING_TO_RAISE("레이즈할 베팅이 없습니다. 베팅하세요."),
+    RAISE_TOO_SMALL("최소 레이즈 금액보다 작습니다.");
+
+    private final String message;
+
+    public boolean isSuccess() {
+        return this == OK;
+    }
+}
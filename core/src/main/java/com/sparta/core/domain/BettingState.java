@@ -0,0 +1,60 @@
+package com.sparta.core.domain;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * 현재 핸드의 베팅 라운드 상태 (BettingRoundEngine 이 읽고 씀)
+ * - 좌석 집합은 int 비트마스크 (bit i = i번 좌석) -> 다음 차례/라운드 종료 판정이 비트 연산 몇 번으로 끝남
+ * - activeSeats: 폴드/올인하지 않아 아직 행동할 수 있는 좌석
+ * - pendingSeats: 이번 스트리트에서 아직 행동(또는 마지막 베팅에 응답)해야 하는 좌석 -> 0 이면 스트리트 종료
+ */
+@Getter
+@Setter
+public class BettingState {
+    private boolean handInProgress;
+    private int dealerSeat = -1; // 딜러 버튼 (첫 핸드 전에는 -1)
+    private int actionSeat = -1; // 다음 차례 좌석 (없으면 -1)
+    private int activeSeats;
+    private int allInSeats;
+    private int pendingSeats;
+    private long highestBet; // 이번 스트리트 최고 베팅액 (콜 기준)
+    private long minRaise; // 최소 레이즈 증가분 (직전 베팅/레이즈 크기)
+
+    // 핸드 종료 (딜러 버튼은 다음 핸드에서 이어서 씀)
+    public void reset() {
+        handInProgress = false;
+        actionSeat = -1;
+        activeSeats = 0;
+        allInSeats = 0;
+        pendingSeats = 0;
+        highestBet = 0;
+        minRaise = 0;
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeBoolean(handInProgress);
+        out.writeByte(dealerSeat);
+        out.writeByte(actionSeat);
+        out.writeInt(activeSeats);
+        out.writeInt(allInSeats);
+        out.writeInt(pendingSeats);
+        out.writeLong(highestBet);
+        out.writeLong(minRaise);
+    }
+
+    void readFrom(DataInput in) throws IOException {
+        handInProgress = in.readBoolean();
+        dealerSeat = in.readByte();
+        actionSeat = in.readByte();
+        activeSeats = in.readInt();
+        allInSeats = in.readInt();
+        pendingSeats = in.readInt();
+        highestBet = in.readLong();
+        minRaise = in.readLong();
+    }
+}
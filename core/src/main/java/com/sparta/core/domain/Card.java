@@ -1,19 +1,58 @@
 package com.sparta.core.domain;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.ToString;
 
 @Getter
-@AllArgsConstructor
 @ToString
 public class Card implements Comparable<Card> {
 
+    public static final int DECK_SIZE = 52;
+
+    // 52장 카드는 프로그램 전체에서 딱 한 번만 생성 (인덱스 = 무늬 * 13 + 숫자)
+    private static final Card[] CARDS = new Card[DECK_SIZE];
+
+    static {
+        for (Suit suit : Suit.values()) {
+            for (Rank rank : Rank.values()) {
+                int index = indexOf(rank, suit);
+                CARDS[index] = new Card(rank, suit, index);
+            }
+        }
+    }
+
     private final Rank rank;
     private final Suit suit;
+    private final int index; // 0..51
+
+    private Card(Rank rank, Suit suit, int index) {
+        this.rank = rank;
+        this.suit = suit;
+        this.index = index;
+    }
+
+    public static Card of(Rank rank, Suit suit) {
+        return CARDS[indexOf(rank, suit)];
+    }
+
+    public static Card of(int index) {
+        if (index < 0 || index >= DECK_SIZE) {
+            throw new IllegalArgumentException("잘못된 카드 인덱스입니다: " + index);
+        }
+        return CARDS[index];
+    }
+
+    public static int indexOf(Rank rank, Suit suit) {
+        return suit.ordinal() * CardSet.RANK_COUNT + rank.ordinal();
+    }
+
+    // 이 카드 한 장만 들어있는 카드 집합 (CardSet 참고)
+    public long mask() {
+        return 1L << index;
+    }
 
     @Override
     public int compareTo(Card o) {
-        return this.rank.getValue() - o.rank.getValue();
+        return (this.index % CardSet.RANK_COUNT) - (o.index % CardSet.RANK_COUNT);
     }
 }
@@ -0,0 +1,85 @@
+package com.sparta.core.domain;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * long 비트마스크 카드 집합 유틸리티
+ * - 비트 i 가 켜져 있으면 Card.of(i) 가 집합에 포함됨 (i = 무늬 * 13 + 숫자)
+ * - 무늬별로 13비트씩 연속이므로, 무늬 추출은 시프트 한 번, 숫자별 장수는 popcount 한 번입니다.
+ */
+public final class CardSet {
+
+    public static final int RANK_COUNT = 13;
+    public static final long EMPTY = 0L;
+    public static final long FULL_DECK = (1L << Card.DECK_SIZE) - 1;
+
+    private static final int SUIT_MASK = (1 << RANK_COUNT) - 1;
+    // 무늬 4개에서 같은 숫자 자리(TWO)만 켠 마스크 -> rank.ordinal() 만큼 밀면 해당 숫자 4장
+    private static final long RANK_COLUMN = 1L | 1L << RANK_COUNT | 1L << (2 * RANK_COUNT) | 1L << (3 * RANK_COUNT);
+
+    private CardSet() {
+    }
+
+    public static long of(Card... cards) {
+        long set = EMPTY;
+        for (Card card : cards) {
+            set |= card.mask();
+        }
+        return set;
+    }
+
+    public static long of(List<Card> cards) {
+        long set = EMPTY;
+        for (Card card : cards) {
+            set |= card.mask();
+        }
+        return set;
+    }
+
+    public static boolean contains(long set, Card card) {
+        return (set & card.mask()) != 0;
+    }
+
+    public static int size(long set) {
+        return Long.bitCount(set);
+    }
+
+    // 특정 무늬의 13비트 숫자 마스크 (bit r = Rank.values()[r])
+    public static int suitMask(long set, Suit suit) {
+        return (int) (set >>> (suit.ordinal() * RANK_COUNT)) & SUIT_MASK;
+    }
+
+    public static int suitCount(long set, Suit suit) {
+        return Integer.bitCount(suitMask(set, suit));
+    }
+
+    public static int rankCount(long set, Rank rank) {
+        return Long.bitCount(set & (RANK_COLUMN << rank.ordinal()));
+    }
+
+    // 무늬 무관, 한 장이라도 있는 숫자들의 13비트 마스크
+    public static int rankMask(long set) {
+        return (int) (set | set >>> RANK_COUNT | set >>> (2 * RANK_COUNT) | set >>> (3 * RANK_COUNT)) & SUIT_MASK;
+    }
+
+    // 해당 숫자의 카드 4장 마스크
+    public static long rankColumn(int rankIndex) {
+        return RANK_COLUMN << rankIndex;
+    }
+
+    // 해당 무늬의 카드 13장 마스크
+    public static long suitRow(Suit suit) {
+        return (long) SUIT_MASK << (suit.ordinal() * RANK_COUNT);
+    }
+
+    // [주의] 리스트를 새로 만듦 -> UI/로그 출력용
+    public static List<Card> toList(long set) {
+        List<Card> cards = new ArrayList<>(Long.bitCount(set));
+        for (long rest = set; rest != 0; rest &= rest - 1) {
+            cards.add(Card.of(Long.numberOfTrailingZeros(rest)));
+        }
+        return Collections.unmodifiableList(cards);
+    }
+}
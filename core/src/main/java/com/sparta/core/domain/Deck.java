@@ -1,38 +1,104 @@
 package com.sparta.core.domain;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.NoSuchElementException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
 
 public class Deck {
-    private final List<Card> cards = new ArrayList<>();
+    // 52칸 고정 배열 (카드 인덱스) + 다음에 뽑을 위치(cursor)
+    // -> draw 는 cursor 만 증가시키므로 배열 이동(shift)도, 할당도 없음
+    private final byte[] cards = new byte[Card.DECK_SIZE];
+    private final RandomGenerator random; // null 이면 호출 스레드의 ThreadLocalRandom 사용
+    private int cursor;
+    private long dealtCards; // 이미 뽑힌 카드 집합 (CardSet)
 
-    // 생성자 : 덱을 만들 때 52장의 카드를 자동 생성
+    // 생성자 : 덱을 만들 때 52장의 카드를 채움 (Card 인스턴스는 새로 만들지 않고 공유)
     public Deck() {
-        for (Suit suit : Suit.values()) {
-            for (Rank rank : Rank.values()) {
-                cards.add(new Card(rank, suit));
-            }
+        this(null);
+    }
+
+    // 테스트/리플레이처럼 셔플 결과를 재현해야 할 때 난수 생성기를 주입
+    public Deck(RandomGenerator random) {
+        for (int index = 0; index < Card.DECK_SIZE; index++) {
+            cards[index] = (byte) index;
         }
+        this.random = random;
         shuffle();
     }
 
+    // 뽑힌 카드까지 전부 되돌린 뒤 제자리(in-place) Fisher-Yates 셔플
     public void shuffle() {
-        Collections.shuffle(cards);
+        RandomGenerator rnd = (random != null) ? random : ThreadLocalRandom.current();
+        for (int i = cards.length - 1; i > 0; i--) {
+            int j = rnd.nextInt(i + 1);
+            byte temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+        cursor = 0;
+        dealtCards = CardSet.EMPTY;
+    }
+
+    /**
+     * 시드로 셔플 (저널 재생용: 같은 시드면 JDK 버전과 무관하게 같은 순서)
+     * - SplitMix64 를 직접 돌려서 난수 생성기 구현이 바뀌어도 결과가 달라지지 않음
+     * - 이전 순서와 무관하도록 정렬된 덱에서 시작
+     */
+    public void shuffle(long seed) {
+        for (int index = 0; index < Card.DECK_SIZE; index++) {
+            cards[index] = (byte) index;
+        }
+        long state = seed;
+        for (int i = cards.length - 1; i > 0; i--) {
+            state += 0x9E3779B97F4A7C15L;
+            long z = state;
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            z ^= z >>> 31;
+            int j = (int) ((z >>> 1) % (i + 1));
+            byte temp = cards[i];
+            cards[i] = cards[j];
+            cards[j] = temp;
+        }
+        cursor = 0;
+        dealtCards = CardSet.EMPTY;
     }
 
     public Card draw() {
-        if (cards.isEmpty()) {
+        return Card.of(drawIndex());
+    }
+
+    // 카드 인덱스(0..51)로 뽑기
+    public int drawIndex() {
+        if (cursor >= cards.length) {
             throw new NoSuchElementException("덱에 카드가 없습니다.");
         }
-        return cards.remove(0);
+        int index = cards[cursor++];
+        dealtCards |= 1L << index;
+        return index;
     }
 
     public int getRemainingCount() {
-        return cards.size();
+        return cards.length - cursor;
     }
 
+    public long getDealtCards() {
+        return dealtCards;
+    }
 
+    // 체크포인트: 카드 순서 그대로 (남은 카드가 같은 순서로 나오도록)
+    void writeTo(DataOutput out) throws IOException {
+        out.write(cards);
+        out.writeByte(cursor);
+        out.writeLong(dealtCards);
+    }
 
+    void readFrom(DataInput in) throws IOException {
+        in.readFully(cards);
+        cursor = in.readUnsignedByte();
+        dealtCards = in.readLong();
+    }
 }
@@ -0,0 +1,34 @@
+package com.sparta.core.domain;
+
+import lombok.Getter;
+
+/**
+ * 승률(Equity) 계산 결과
+ * - 배열 인덱스는 계산 요청 시 넘긴 손패 순서와 같습니다.
+ * - equity = 단독 승리 + 무승부 시 나눠 가진 몫 (모든 플레이어 합 = 1)
+ */
+@Getter
+public class EquityResult {
+    private final String[] playerIds; // Table 기준으로 계산한 경우에만 채워짐
+    private final double[] equity;
+    private final double[] win; // 단독 승리 확률
+    private final double[] tie; // 무승부(Split) 확률
+    private final long samples; // 평가한 보드 수 (프리플랍 승률표에서 읽었으면 0)
+    private final double margin; // 95% 신뢰구간 반폭 (정확 계산이면 0, 프리플랍 승률표의 클래스 평균이면 NaN)
+    private final boolean exact;
+
+    public EquityResult(String[] playerIds, double[] equity, double[] win, double[] tie,
+                        long samples, double margin, boolean exact) {
+        this.playerIds = playerIds;
+        this.equity = equity;
+        this.win = win;
+        this.tie = tie;
+        this.samples = samples;
+        this.margin = margin;
+        this.exact = exact;
+    }
+
+    public EquityResult withPlayerIds(String[] playerIds) {
+        return new EquityResult(playerIds, equity, win, tie, samples, margin, exact);
+    }
+}
@@ -1,54 +1,154 @@
 package com.sparta.core.domain;
 
-import lombok.Getter;
-
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.Objects;
 
-@Getter
 public class HandScore implements Comparable<HandScore> {
-    private final HandRank rank;
-    // tiebreaker: 동률일 때 비교할 정수 리스트 (큰 값부터)
-    private final List<Integer> tiebreaker;
-    // bestFive: 실제 선택된 5장 (디버깅 출력용)
-    private final List<Card> bestFive;
+
+    // packed 점수 구조: [족보(HandRank.value) 4bit][키커1][키커2][키커3][키커4][키커5] (키커는 4bit씩, 높은 순)
+    // -> 족보가 상위 비트에 있으므로 int 대소 비교 한 번이 곧 족보 + 타이브레이커 비교
+    public static final int CATEGORY_SHIFT = 20;
+    private static final int MAX_KICKERS = 5;
+
+    private static final HandRank[] HAND_RANKS = HandRank.values();
+    // 족보별 타이브레이커 개수
+    private static final int[] KICKER_COUNT = {5, 4, 3, 3, 1, 5, 2, 2, 1, 1};
+
+    private final int value;
+    // bestFive 복원용 원본 카드 집합 (CardSet, 없으면 0)
+    private final long sourceCards;
+
+    // 아래 두 값은 UI나 로그에서 요청할 때만 만들어짐 (Lazy)
+    private List<Integer> tiebreaker;
+    private List<Card> bestFive;
 
     public HandScore(HandRank rank, List<Integer> tiebreaker, List<Card> bestFive) {
-        this.rank = rank;
+        this.value = pack(rank, tiebreaker);
+        this.sourceCards = CardSet.EMPTY;
         this.tiebreaker = tiebreaker;
         this.bestFive = bestFive;
     }
 
-    @Override
-    public int compareTo(HandScore o) {
-        if (this.rank.getValue() != o.rank.getValue()) {
-            return Integer.compare(this.rank.getValue(), o.rank.getValue());
+    public HandScore(int value, long sourceCards) {
+        this.value = value;
+        this.sourceCards = sourceCards;
+    }
+
+    public static HandScore of(int value) {
+        return new HandScore(value, CardSet.EMPTY);
+    }
+
+    // [직렬화] 족보 + 타이브레이커 -> packed int
+    public static int pack(HandRank rank, List<Integer> tiebreaker) {
+        if (tiebreaker.size() > MAX_KICKERS) {
+            throw new IllegalArgumentException("타이브레이커는 최대 5개입니다.");
+        }
+        int packed = rank.getValue() << CATEGORY_SHIFT;
+        for (int i = 0; i < tiebreaker.size(); i++) {
+            int kicker = tiebreaker.get(i);
+            if (kicker < 0 || kicker > 0xF) {
+                throw new IllegalArgumentException("타이브레이커 값이 범위를 벗어났습니다: " + kicker);
+            }
+            packed |= kicker << kickerShift(i);
         }
+        return packed;
+    }
+
+    public static HandRank rankOf(int value) {
+        return HAND_RANKS[(value >>> CATEGORY_SHIFT) - 1];
+    }
+
+    // i번째(0부터) 키커 값
+    public static int kickerOf(int value, int i) {
+        return (value >>> kickerShift(i)) & 0xF;
+    }
+
+    private static int kickerShift(int i) {
+        return 4 * (MAX_KICKERS - 1 - i);
+    }
 
-        // same rank -> compare tiebreakers lexicographically
-        int len = Math.min(this.tiebreaker.size(), o.tiebreaker.size());
-        for (int i = 0; i < len; i++) {
-            int cmp = Integer.compare(this.tiebreaker.get(i), o.tiebreaker.get(i));
-            if (cmp != 0) return cmp;
+    public int getValue() {
+        return value;
+    }
+
+    public HandRank getRank() {
+        return rankOf(value);
+    }
+
+    public List<Integer> getTiebreaker() {
+        if (tiebreaker == null) {
+            int kickers = KICKER_COUNT[(value >>> CATEGORY_SHIFT) - 1];
+            List<Integer> decoded = new ArrayList<>(kickers);
+            for (int i = 0; i < kickers; i++) {
+                decoded.add(kickerOf(value, i));
+            }
+            tiebreaker = Collections.unmodifiableList(decoded);
         }
-        return Integer.compare(this.tiebreaker.size(), o.tiebreaker.size());
+        return tiebreaker;
+    }
+
+    public List<Card> getBestFive() {
+        if (bestFive == null) {
+            bestFive = sourceCards == CardSet.EMPTY ? List.of() : selectBestFive(sourceCards);
+        }
+        return bestFive;
+    }
+
+    @Override
+    public int compareTo(HandScore o) {
+        return Integer.compare(this.value, o.value);
     }
 
     @Override
     public String toString() {
-        return rank.getDescription() + " - tiebreaker =" + tiebreaker;
+        return getRank().getDescription() + " - tiebreaker =" + getTiebreaker();
     }
 
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (!(o instanceof HandScore)) return false;
-        HandScore handScore = (HandScore) o;
-        return rank == handScore.rank && Objects.equals(tiebreaker, handScore.tiebreaker);
+        return value == ((HandScore) o).value;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(rank, tiebreaker);
+        return value;
+    }
+
+    // 점수에 해당하는 실제 5장을 원본 카드 집합에서 고르기
+    private List<Card> selectBestFive(long cards) {
+        HandRank rank = getRank();
+        int k1 = kickerOf(value, 0), k2 = kickerOf(value, 1), k3 = kickerOf(value, 2);
+        int k4 = kickerOf(value, 3), k5 = kickerOf(value, 4);
+
+        int[] needed = switch (rank) {
+            case ROYAL_FLUSH, STRAIGHT_FLUSH, STRAIGHT -> new int[]{k1, k1 - 1, k1 - 2, k1 - 3, k1 == 5 ? 14 : k1 - 4}; // 휠(A-5)의 A
+            case FOUR_OF_A_KIND -> new int[]{k1, k1, k1, k1, k2};
+            case FULL_HOUSE -> new int[]{k1, k1, k1, k2, k2};
+            case THREE_OF_A_KIND -> new int[]{k1, k1, k1, k2, k3};
+            case TWO_PAIR -> new int[]{k1, k1, k2, k2, k3};
+            case ONE_PAIR -> new int[]{k1, k1, k2, k3, k4};
+            default -> new int[]{k1, k2, k3, k4, k5};
+        };
+
+        // 플러시 계열이면 5장 이상 모인 무늬에서만 고름
+        long candidates = cards;
+        if (rank == HandRank.ROYAL_FLUSH || rank == HandRank.STRAIGHT_FLUSH || rank == HandRank.FLUSH) {
+            for (Suit suit : Suit.values()) {
+                if (CardSet.suitCount(cards, suit) >= MAX_KICKERS) candidates &= CardSet.suitRow(suit);
+            }
+        }
+
+        List<Card> selected = new ArrayList<>(MAX_KICKERS);
+        for (int rankValue : needed) {
+            long matched = candidates & CardSet.rankColumn(rankValue - 2);
+            if (matched == 0) continue;
+            long card = Long.lowestOneBit(matched);
+            candidates &= ~card;
+            selected.add(Card.of(Long.numberOfTrailingZeros(card)));
+        }
+        return Collections.unmodifiableList(selected);
     }
 }
@@ -1,71 +1,121 @@
 package com.sparta.core.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
-import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * 플레이어 (좌석 상태를 가리키는 뷰)
+ * - 칩/베팅액/폴드/손패는 Seats 의 배열에 있고, 이 객체는 (Seats, 좌석 번호) 만 가집니다.
+ * - 테이블 밖에서 만들면 1인용 저장소를 쓰고, 테이블에 앉으면 테이블 저장소로 옮겨집니다.
+ */
 @Getter
-@ToString
 public class Player {
     private final String id;
     private final String name;
-    private long chips; // 현재 보유 칩 (Asset)
-    private long currentBet; // 이번 라운드에 낸 칩 (Sunk Cose)
-    private boolean isFolded; // 포기 여부
-    private List<Card> holeCards = new ArrayList<>(); // 손패
+    @Getter(AccessLevel.NONE)
+    private Seats seats;
+    @Getter(AccessLevel.NONE)
+    private int seat;
 
     public Player(String id, String name, long chips) {
         this.id = id;
         this.name = name;
-        this.chips = chips;
-        this.currentBet = 0;
-        this.isFolded = false;
+        bind(Seats.solo(chips), 0);
+    }
+
+    // 좌석 연결 (Seats 에서만 호출)
+    void bind(Seats seats, int seat) {
+        this.seats = seats;
+        this.seat = seat;
+    }
+
+    // 테이블 좌석 번호 (테이블 밖이면 0)
+    public int getSeat() {
+        return seat;
+    }
+
+    // 현재 보유 칩 (Asset)
+    public long getChips() {
+        return seats.chips[seat];
+    }
+
+    // 이번 라운드에 낸 칩 (Sunk Cost)
+    public long getCurrentBet() {
+        return seats.currentBets[seat];
+    }
+
+    // 포기 여부
+    public boolean isFolded() {
+        return seats.isFolded(seat);
     }
 
     // [핵심 로직] 칩 차감 (돈이 빠져나가는 유일한 통로)
     public void betChips(long amount) {
-        if (amount > this.chips) {
+        if (amount > seats.chips[seat]) {
             throw new IllegalArgumentException("보유 칩보다 많은 금액을 배팅할 수 없습니다.");
         }
         if (amount < 0) {
             throw new IllegalArgumentException("마이너스 금액은 베팅할 수 없습니다.");
         }
-        this.chips -= amount; // 자산 감소
-        this.currentBet += amount; // 베팅액 증가
+        seats.chips[seat] -= amount; // 자산 감소
+        seats.currentBets[seat] += amount; // 베팅액 증가
     }
 
     public void fold() {
-        this.isFolded = true;
+        seats.setFolded(seat, true);
     }
 
     public void resetRound() {
-        this.currentBet = 0; // 라운드 끝나면 초기화
+        seats.currentBets[seat] = 0; // 라운드 끝나면 초기화
     }
 
     public void receiveCard(Card c1, Card c2) {
-        this.holeCards.clear();
-        this.holeCards.add(c1);
-        this.holeCards.add(c2);
+        seats.holeCards[seat] = c1.mask() | c2.mask();
     }
 
+    // UI/JSON 용 리스트 (호출할 때마다 새로 만듦)
     public List<Card> getHoleCards() {
-        return holeCards;
+        return CardSet.toList(seats.holeCards[seat]);
+    }
+
+    // 손패 (CardSet)
+    public long getHoleCardSet() {
+        return seats.holeCards[seat];
+    }
+
+    public void clearHoleCards() {
+        seats.holeCards[seat] = CardSet.EMPTY;
     }
 
     public void setFolded(boolean folded) {
-        this.isFolded = folded;
+        seats.setFolded(seat, folded);
     }
 
     // 칩 획득 (승리 시)
     public void winChips(long amount) {
-        this.chips += amount;
+        seats.chips[seat] += amount;
     }
 
     // 롤백용 메서드 (일반적인 게임 로직에선 쓰지 않고, 오직 트랜잭션 복구용으로만 사용)
     public void recoveryChips(long originalAmount) {
-        this.chips = originalAmount;
+        seats.chips[seat] = originalAmount;
         // 필요하다면 currentBet도 복구해야 함
     }
+
+    // 테이블 좌석에 앉아 있는지 (1인용 저장소에는 뷰가 등록되지 않음)
+    boolean isSeated() {
+        return seats.view(seat) == this;
+    }
+
+    Seats seats() {
+        return seats;
+    }
+
+    @Override
+    public String toString() {
+        return "Player(id=" + id + ", name=" + name + ", seat=" + seat + ", chips=" + getChips()
+                + ", currentBet=" + getCurrentBet() + ", isFolded=" + isFolded() + ")";
+    }
 }
@@ -1,21 +1,254 @@
 package com.sparta.core.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 팟 (메인 팟 + 사이드 팟)
+ * - 좌석별 이번 핸드 누적 기여액과, 올인 금액을 경계로 나눈 층(layer)을 칩이 들어올 때마다 갱신합니다.
+ *   층 i = (caps[i-1], caps[i]] 구간, 마지막 층은 가장 큰 올인 금액 위쪽 전부 (메인 팟 = 0번 층)
+ * - 층마다 금액과 자격 좌석 비트마스크를 들고 있어서, 쇼다운 정산은 정렬 없이 층(최대 좌석 수 + 1개)을 한 번 훑으면 끝
+ * - 자격: 폴드하지 않았고 그 층 상한까지 낸 좌석 (마지막 층은 하한을 넘겨 낸 좌석)
+ */
 @Getter
 public class Pot {
     private long totalAmount; // 테이블에 쌓인 총 판단
+    @Getter(AccessLevel.NONE)
+    private final long[] contributions; // 좌석별 이번 핸드 누적 기여액
+    @Getter(AccessLevel.NONE)
+    private final long[] caps; // 올인 금액 (오름차순, 중복 없음)
+    @Getter(AccessLevel.NONE)
+    private final long[] layerAmounts;
+    @Getter(AccessLevel.NONE)
+    private final int[] eligible; // 층별 자격 좌석
+    @Getter(AccessLevel.NONE)
+    private int capCount;
+    @Getter(AccessLevel.NONE)
+    private int folded;
+
+    public Pot() {
+        this(Table.MAX_PLAYERS);
+    }
 
-    public void add(long amount) {
+    public Pot(int seats) {
+        this.contributions = new long[seats];
+        this.caps = new long[seats];
+        this.layerAmounts = new long[seats + 1];
+        this.eligible = new int[seats + 1];
+    }
+
+    // seat 좌석이 amount 만큼 냄
+    public void add(int seat, long amount) {
+        long before = contributions[seat];
+        move(seat, before, before + amount);
         this.totalAmount += amount;
     }
 
+    // seat 좌석이 올인 -> 지금 기여액이 새 층 경계가 됨 (층이 나뉘면 그 층만 다시 계산)
+    public void markAllIn(int seat) {
+        long cap = contributions[seat];
+        int layer = layerOf(cap);
+        if (cap == 0 || (layer < capCount && caps[layer] == cap)) return; // 이미 있는 경계
+        long lower = lowerBound(layer);
+
+        // 위쪽 층을 한 칸씩 밀고 경계 삽입
+        System.arraycopy(caps, layer, caps, layer + 1, capCount - layer);
+        System.arraycopy(layerAmounts, layer, layerAmounts, layer + 1, capCount + 1 - layer);
+        System.arraycopy(eligible, layer, eligible, layer + 1, capCount + 1 - layer);
+        caps[layer] = cap;
+        capCount++;
+
+        // (lower, cap] 와 (cap, 기존 상한] 으로 금액/자격 분리
+        long below = 0;
+        int reached = 0;
+        for (int s = 0; s < contributions.length; s++) {
+            below += Math.max(0, Math.min(contributions[s], cap) - lower);
+            if (contributions[s] >= cap) reached |= 1 << s;
+        }
+        layerAmounts[layer + 1] -= below;
+        layerAmounts[layer] = below;
+        eligible[layer] = reached & ~folded;
+        if (layer + 1 == capCount) {
+            eligible[layer + 1] = aboveMask(cap);
+        }
+    }
+
+    // 폴드한 좌석은 모든 층의 자격을 잃음 (낸 칩은 팟에 남음)
+    public void fold(int seat) {
+        int bit = 1 << seat;
+        folded |= bit;
+        for (int i = 0; i <= capCount; i++) {
+            eligible[i] &= ~bit;
+        }
+    }
+
+    // 층 수 (메인 팟 1 + 사이드 팟 수, 빈 층 포함)
+    public int getLayerCount() {
+        return capCount + 1;
+    }
+
+    public long getLayerAmount(int layer) {
+        return layerAmounts[layer];
+    }
+
+    public int getEligibleSeats(int layer) {
+        return eligible[layer];
+    }
+
+    public long getContribution(int seat) {
+        return contributions[seat];
+    }
+
+    /**
+     * 정산: 위층부터 내려오면서 층마다 자격 좌석 중 점수가 가장 높은 좌석에게 지급 (할당 없음)
+     * - 자격 좌석이 없는 층(낸 사람이 모두 폴드)은 아래층에 합침
+     * - 공동 우승이면 나누고, 자투리 칩은 oddChipAfter 다음 좌석부터 한 칩씩
+     * @param scores  좌석별 점수 (높을수록 승리), null 이면 모두 같은 점수 (남은 한 명이 가져가는 경우)
+     * @param chips   좌석별 보유 칩 (지급액을 더함)
+     * @return 칩을 받은 좌석 비트마스크
+     */
+    int settle(int[] scores, int oddChipAfter, long[] chips) {
+        long paid = 0, carry = 0;
+        int winners = 0;
+        for (int layer = capCount; layer >= 0; layer--) {
+            long amount = layerAmounts[layer] + carry;
+            int candidates = eligible[layer];
+            if (candidates == 0) {
+                carry = amount;
+                continue;
+            }
+            carry = 0;
+            if (amount == 0) continue;
+
+            int best = Integer.MIN_VALUE, layerWinners = 0;
+            for (int rest = candidates; rest != 0; rest &= rest - 1) {
+                int seat = Integer.numberOfTrailingZeros(rest);
+                int score = scores == null ? 0 : scores[seat];
+                if (score > best) {
+                    best = score;
+                    layerWinners = 1 << seat;
+                } else if (score == best) {
+                    layerWinners |= 1 << seat;
+                }
+            }
+
+            int count = Integer.bitCount(layerWinners);
+            long share = amount / count;
+            long remainder = amount % count;
+            for (int rest = layerWinners; rest != 0; rest &= rest - 1) {
+                chips[Integer.numberOfTrailingZeros(rest)] += share;
+            }
+            for (int seat = oddChipAfter; remainder > 0; remainder--) {
+                seat = nextSeat(layerWinners, seat);
+                chips[seat]++;
+            }
+            paid += amount;
+            winners |= layerWinners;
+        }
+        if (carry != 0) {
+            throw new IllegalStateException("CRITICAL: 팟을 받을 자격이 있는 플레이어가 없습니다.");
+        }
+
+        // [핵심] 무결성 검증 (Zero-Sum Check): 지급 합계 == 팟 총액
+        if (paid != totalAmount) {
+            throw new IllegalStateException("CRITICAL: 팟 정산 불일치 발생! (지급 합계 != Pot 총액)");
+        }
+        return winners;
+    }
+
     public void reset() {
         this.totalAmount = 0;
+        Arrays.fill(contributions, 0);
+        Arrays.fill(layerAmounts, 0);
+        Arrays.fill(eligible, 0);
+        capCount = 0;
+        folded = 0;
+    }
+
+    // 체크포인트: 쓰는 층만
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(contributions.length);
+        out.writeLong(totalAmount);
+        out.writeInt(folded);
+        out.writeByte(capCount);
+        for (long contribution : contributions) out.writeLong(contribution);
+        for (int i = 0; i < capCount; i++) out.writeLong(caps[i]);
+        for (int i = 0; i <= capCount; i++) {
+            out.writeLong(layerAmounts[i]);
+            out.writeInt(eligible[i]);
+        }
+    }
+
+    void readFrom(DataInput in) throws IOException {
+        if (in.readUnsignedByte() != contributions.length) {
+            throw new IllegalStateException("체크포인트의 좌석 수가 다릅니다.");
+        }
+        reset();
+        totalAmount = in.readLong();
+        folded = in.readInt();
+        capCount = in.readUnsignedByte();
+        for (int seat = 0; seat < contributions.length; seat++) contributions[seat] = in.readLong();
+        for (int i = 0; i < capCount; i++) caps[i] = in.readLong();
+        for (int i = 0; i <= capCount; i++) {
+            layerAmounts[i] = in.readLong();
+            eligible[i] = in.readInt();
+        }
     }
 
     // 롤백용 메서드
     public void recoveryAmount(long originalAmount) {
         this.totalAmount = originalAmount;
     }
+
+    // 롤백용 메서드 (좌석 기여액과 층 금액을 함께 되돌림)
+    public void recoveryContribution(int seat, long originalContribution) {
+        move(seat, contributions[seat], originalContribution);
+    }
+
+    // 기여액 from -> to 변경분을 겹치는 층에만 반영하고 이 좌석의 자격 비트 갱신
+    private void move(int seat, long from, long to) {
+        int bit = 1 << seat;
+        for (int layer = 0; layer <= capCount; layer++) {
+            long lower = lowerBound(layer);
+            long upper = layer < capCount ? caps[layer] : Long.MAX_VALUE;
+            layerAmounts[layer] += clamp(to, lower, upper) - clamp(from, lower, upper);
+            boolean reached = layer < capCount ? to >= upper : to > lower;
+            if (reached && (folded & bit) == 0) eligible[layer] |= bit;
+            else eligible[layer] &= ~bit;
+        }
+        contributions[seat] = to;
+    }
+
+    // amount 가 속한 층 (경계와 같으면 그 아래층)
+    private int layerOf(long amount) {
+        int layer = 0;
+        while (layer < capCount && caps[layer] < amount) layer++;
+        return layer;
+    }
+
+    private long lowerBound(int layer) {
+        return layer == 0 ? 0 : caps[layer - 1];
+    }
+
+    private int aboveMask(long lower) {
+        int mask = 0;
+        for (int s = 0; s < contributions.length; s++) {
+            if (contributions[s] > lower) mask |= 1 << s;
+        }
+        return mask & ~folded;
+    }
+
+    private static long clamp(long value, long lower, long upper) {
+        return Math.max(0, Math.min(value, upper) - lower);
+    }
+
+    private static int nextSeat(int mask, int seat) {
+        int after = seat < 0 ? mask : mask & (-2 << seat);
+        return Integer.numberOfTrailingZeros(after != 0 ? after : mask);
+    }
 }
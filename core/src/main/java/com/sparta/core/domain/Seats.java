@@ -0,0 +1,141 @@
+package com.sparta.core.domain;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 좌석별 플레이어 상태 저장소 (struct-of-arrays)
+ * - 좌석 번호가 배열 인덱스이고, 칩/베팅액/손패는 long 배열, 착석/폴드 여부는 int 비트마스크로 보관합니다.
+ * - Player 는 (Seats, 좌석 번호) 를 가리키는 뷰일 뿐이라, 테이블당 객체 수와 힙 사용량이 작습니다.
+ * - playerId -> 좌석 번호 인덱스로 플레이어를 O(1) 에 찾습니다.
+ * - 테이블 밖에서 만든 Player 는 1인용 Seats 를 따로 가집니다. (착석 시 테이블 Seats 로 옮겨짐)
+ */
+final class Seats {
+
+    final long[] chips; // 현재 보유 칩
+    final long[] currentBets; // 이번 라운드에 낸 칩
+    final long[] holeCards; // 손패 (CardSet)
+    int occupied; // 착석한 좌석 비트
+    int folded; // 폴드한 좌석 비트
+
+    private final Player[] views;
+    private final Map<String, Integer> seatIndex;
+
+    Seats(int capacity) {
+        if (capacity < 1 || capacity > Integer.SIZE - 1) {
+            throw new IllegalArgumentException("좌석 수가 올바르지 않습니다: " + capacity);
+        }
+        this.chips = new long[capacity];
+        this.currentBets = new long[capacity];
+        this.holeCards = new long[capacity];
+        this.views = new Player[capacity];
+        this.seatIndex = new HashMap<>(capacity * 2);
+    }
+
+    // 테이블 밖에서 만든 플레이어용 1인 저장소
+    static Seats solo(long chips) {
+        Seats seats = new Seats(1);
+        seats.chips[0] = chips;
+        seats.occupied = 1;
+        return seats;
+    }
+
+    int capacity() {
+        return chips.length;
+    }
+
+    int size() {
+        return Integer.bitCount(occupied);
+    }
+
+    // 비어 있는 가장 앞 좌석 (없으면 -1)
+    int firstEmptySeat() {
+        int empty = ~occupied & ((1 << capacity()) - 1);
+        return empty == 0 ? -1 : Integer.numberOfTrailingZeros(empty);
+    }
+
+    // 없으면 -1
+    int seatOf(String playerId) {
+        Integer seat = seatIndex.get(playerId);
+        return seat == null ? -1 : seat;
+    }
+
+    Player view(int seat) {
+        return views[seat];
+    }
+
+    // 다른 저장소(1인용)에 있던 플레이어 상태를 이 좌석으로 옮기고, 뷰를 이 좌석에 다시 연결
+    void seat(int seat, Player player) {
+        Seats from = player.seats();
+        int fromSeat = player.getSeat();
+        chips[seat] = from.chips[fromSeat];
+        currentBets[seat] = from.currentBets[fromSeat];
+        holeCards[seat] = from.holeCards[fromSeat];
+        occupied |= 1 << seat;
+        if (from.isFolded(fromSeat)) folded |= 1 << seat;
+        else folded &= ~(1 << seat);
+
+        views[seat] = player;
+        seatIndex.put(player.getId(), seat);
+        player.bind(this, seat);
+    }
+
+    boolean isFolded(int seat) {
+        return (folded & (1 << seat)) != 0;
+    }
+
+    void setFolded(int seat, boolean value) {
+        if (value) folded |= 1 << seat;
+        else folded &= ~(1 << seat);
+    }
+
+    // 새 스트리트: 베팅액만 초기화
+    void resetStreet() {
+        Arrays.fill(currentBets, 0);
+    }
+
+    // 새 게임: 베팅액/폴드/손패 초기화 (배열 단위로 한 번에)
+    void resetHand() {
+        Arrays.fill(currentBets, 0);
+        Arrays.fill(holeCards, CardSet.EMPTY);
+        folded = 0;
+    }
+
+    // 체크포인트: 빈 좌석은 건너뛰고 착석한 좌석만
+    void writeTo(DataOutput out) throws IOException {
+        out.writeByte(capacity());
+        out.writeInt(occupied);
+        out.writeInt(folded);
+        for (int rest = occupied; rest != 0; rest &= rest - 1) {
+            int seat = Integer.numberOfTrailingZeros(rest);
+            out.writeUTF(views[seat].getId());
+            out.writeBoolean(views[seat].getName() != null);
+            if (views[seat].getName() != null) out.writeUTF(views[seat].getName());
+            out.writeLong(chips[seat]);
+            out.writeLong(currentBets[seat]);
+            out.writeLong(holeCards[seat]);
+        }
+    }
+
+    // 빈 저장소에만 호출
+    void readFrom(DataInput in) throws IOException {
+        if (in.readUnsignedByte() != capacity()) {
+            throw new IllegalStateException("체크포인트의 좌석 수가 다릅니다.");
+        }
+        int seatedMask = in.readInt();
+        int foldedMask = in.readInt();
+        for (int rest = seatedMask; rest != 0; rest &= rest - 1) {
+            int seat = Integer.numberOfTrailingZeros(rest);
+            String id = in.readUTF();
+            String name = in.readBoolean() ? in.readUTF() : null;
+            seat(seat, new Player(id, name, in.readLong()));
+            currentBets[seat] = in.readLong();
+            holeCards[seat] = in.readLong();
+        }
+        folded = foldedMask;
+    }
+}
@@ -1,53 +1,138 @@
 package com.sparta.core.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.Setter;
 
+import java.io.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
 public class Table {
     private final String id;
-    private final List<Player> players = new ArrayList<>();
-    private final List<Card> communityCards = new ArrayList<>();
+    // 좌석별 플레이어 상태 (배열 + 비트마스크, playerId -> 좌석 인덱스)
+    @Getter(AccessLevel.NONE)
+    private final Seats seats = new Seats(MAX_PLAYERS);
+    private long communityCardSet; // 바닥 카드 집합 (CardSet)
+    @Getter(AccessLevel.NONE)
+    private long communityOrder; // 바닥 카드 오픈 순서 (카드 인덱스 6bit x 최대 5장)
     private final Deck deck;
     private final Pot pot;
     private GameRound currentRound;
+    private final BettingState bettingState = new BettingState(); // 차례/최고 베팅액/최소 레이즈
+    // 마지막으로 커밋된 상태의 스냅샷 (쓰기는 명령 실행 스레드 하나, 읽기는 락 없이 어디서나)
+    @Getter(AccessLevel.NONE)
+    private volatile TableSnapshot snapshot;
+    // 이 상태에 반영된 마지막 저널 기록 순번 (체크포인트 복구 후 이보다 뒤의 기록만 재생)
+    @Setter
+    private long journalSequence;
 
     public static final int MAX_PLAYERS = 6; // 테이블 최대 인원
+    private static final int CHECKPOINT_VERSION = 1; // 체크포인트 형식이 바뀌면 올림
 
     public Table(String id) {
+        this(id, new Deck());
+    }
+
+    public Table(String id, Deck deck) {
         this.id = id;
-        this.deck = new Deck();
+        this.deck = deck;
         this.pot = new Pot();
         this.currentRound = GameRound.PRE_FLOP;
+        this.snapshot = TableSnapshot.capture(this, 0);
+    }
+
+    public TableSnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    // 상태 변경 명령이 끝난 뒤 호출 -> 다음 버전 스냅샷 발행 (명령 실행 스레드에서만 호출)
+    public TableSnapshot publishSnapshot() {
+        TableSnapshot next = TableSnapshot.capture(this, snapshot.getVersion() + 1);
+        this.snapshot = next;
+        return next;
     }
 
     public void addPlayer(Player player) {
         // 1. 정원 체크
-        if (players.size() >= MAX_PLAYERS) {
+        int seat = seats.firstEmptySeat();
+        if (seat < 0) {
             throw new IllegalStateException("테이블이 꽉 찼습니다.");
         }
 
-        // 2. 중복 입장 체크
-        boolean isExist = players.stream()
-                        .anyMatch(p -> p.getId().equals(player.getId()));
-        if (isExist) {
+        // 2. 중복 입장 체크 (playerId 인덱스 조회 한 번)
+        if (seats.seatOf(player.getId()) >= 0) {
             throw new IllegalArgumentException("이미 참여 중인 플레이어입니다.");
         }
+        if (player.isSeated()) {
+            throw new IllegalArgumentException("이미 다른 테이블에 앉아 있는 플레이어입니다.");
+        }
 
         // 3. 최소 바이인(참가비) 체크 (예: 1000칩 이상 있어야 함)
         if (player.getChips() < 1000) {
             throw new IllegalArgumentException("칩이 부족하여 입장할 수 없습니다.");
         }
 
-        players.add(player);
+        // 4. 착석: 플레이어 상태를 테이블 좌석 배열로 옮기고 Player 는 그 좌석의 뷰가 됨
+        seats.seat(seat, player);
+
+        // 5. 핸드 진행 중에 들어오면 다음 판부터 참여 (이번 판은 폴드 상태로 대기)
+        if (bettingState.isHandInProgress()) {
+            seats.setFolded(seat, true);
+        }
+    }
+
+    // 착석한 플레이어 목록 (좌석 순서, 호출할 때마다 새로 만듦)
+    public List<Player> getPlayers() {
+        List<Player> players = new ArrayList<>(seats.size());
+        for (int rest = seats.occupied; rest != 0; rest &= rest - 1) {
+            players.add(seats.view(Integer.numberOfTrailingZeros(rest)));
+        }
+        return players;
+    }
+
+    public int getPlayerCount() {
+        return seats.size();
+    }
+
+    // playerId 로 O(1) 조회 (없으면 null)
+    public Player findPlayer(String playerId) {
+        int seat = seats.seatOf(playerId);
+        return seat < 0 ? null : seats.view(seat);
+    }
+
+    // 좌석 번호로 조회 (빈 좌석이면 null)
+    public Player getPlayer(int seat) {
+        return seats.view(seat);
+    }
+
+    // 착석한 좌석 비트마스크 (bit i = i번 좌석)
+    public int getOccupiedSeats() {
+        return seats.occupied;
+    }
+
+    // 폴드한 좌석 비트마스크
+    public int getFoldedSeats() {
+        return seats.folded;
     }
 
     public void dealCommunityCard(int count) {
         for (int i = 0; i < count; i++) {
-            communityCards.add(deck.draw());
+            Card card = deck.draw();
+            communityOrder |= (long) card.getIndex() << (6 * Long.bitCount(communityCardSet));
+            communityCardSet |= card.mask();
+        }
+    }
+
+    // UI/JSON 용 리스트 (오픈 순서 유지, 호출할 때마다 새로 만듦)
+    public List<Card> getCommunityCards() {
+        int count = Long.bitCount(communityCardSet);
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            cards.add(Card.of((int) (communityOrder >>> (6 * i)) & 0x3F));
         }
+        return cards;
     }
 
     public void advanceRound() {
@@ -59,17 +144,86 @@ public class Table {
         }
     }
 
+    // 새 스트리트: 좌석별 이번 라운드 베팅액만 초기화 (칩/폴드는 유지)
+    public void resetStreetBets() {
+        seats.resetStreet();
+    }
+
+    /**
+     * 팟 정산 (메인/사이드 팟을 층별로 지급, 자투리 칩은 딜러 다음 좌석부터)
+     * @param scores 좌석별 족보 점수, null 이면 남은 한 명이 전부 가져감
+     * @return 칩을 받은 좌석 비트마스크
+     */
+    public int settlePot(int[] scores) {
+        return pot.settle(scores, bettingState.getDealerSeat(), seats.chips);
+    }
+
     public void prepareNewGame() {
-        deck.shuffle(); // Deck 내부에서 카드 초기화 + shuffle
-        communityCards.clear(); // 바닥 카드 초기화
+        deck.shuffle(); // Deck 내부에서 뽑힌 카드까지 모두 회수 + shuffle
+        resetHand();
+    }
+
+    // 시드로 셔플 (저널에 시드를 남겨 재생 시 같은 카드가 나오도록)
+    public void prepareNewGame(long shuffleSeed) {
+        deck.shuffle(shuffleSeed);
+        resetHand();
+    }
+
+    /**
+     * 체크포인트용 상태 복사본 (명령 실행 스레드에서 호출 -> 다른 명령과 섞이지 않은 한 시점의 상태)
+     * - 좌석/덱 순서/팟 층/베팅 상태까지 그대로 담음 -> restore 후 같은 카드가 같은 순서로 나옴
+     */
+    public byte[] checkpoint() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(512);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeByte(CHECKPOINT_VERSION);
+            out.writeUTF(id);
+            out.writeLong(snapshot.getVersion());
+            out.writeLong(journalSequence);
+            out.writeByte(currentRound.ordinal());
+            out.writeLong(communityCardSet);
+            out.writeLong(communityOrder);
+            seats.writeTo(out);
+            deck.writeTo(out);
+            pot.writeTo(out);
+            bettingState.writeTo(out);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // 메모리 스트림이라 발생하지 않음
+        }
+        return bytes.toByteArray();
+    }
+
+    public static Table restore(byte[] checkpoint) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(checkpoint))) {
+            int version = in.readUnsignedByte();
+            if (version != CHECKPOINT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 체크포인트 버전입니다: " + version);
+            }
+            Table table = new Table(in.readUTF());
+            long snapshotVersion = in.readLong();
+            table.journalSequence = in.readLong();
+            table.currentRound = GameRound.values()[in.readUnsignedByte()];
+            table.communityCardSet = in.readLong();
+            table.communityOrder = in.readLong();
+            table.seats.readFrom(in);
+            table.deck.readFrom(in);
+            table.pot.readFrom(in);
+            table.bettingState.readFrom(in);
+            table.snapshot = TableSnapshot.capture(table, snapshotVersion);
+            return table;
+        } catch (IOException e) {
+            throw new IllegalStateException("체크포인트를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private void resetHand() {
+        communityCardSet = CardSet.EMPTY; // 바닥 카드 초기화
+        communityOrder = 0;
         pot.reset();
         currentRound = GameRound.PRE_FLOP; // 라운드 초기화
 
-        // 플레이어 초기화
-        for (Player player : players) {
-            player.resetRound(); // 이전 판 기록 초기화
-            player.setFolded(false); // 폴드 상태 초기화
-            player.getHoleCards().clear(); // 손패 초기화
-        }
+        // 플레이어 초기화 (이전 판 베팅액, 폴드 상태, 손패를 좌석 배열 단위로 한 번에)
+        seats.resetHand();
+        bettingState.reset();
     }
 }
@@ -0,0 +1,124 @@
+package com.sparta.core.domain;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 테이블 상태의 읽기 전용 스냅샷 (상태 조회, 브로드캐스트용)
+ * - 명령이 커밋될 때마다 Table.publishSnapshot() 으로 새로 만들어 volatile 참조로 발행합니다.
+ * - 만들어진 뒤에는 바뀌지 않으므로 락 없이 어느 스레드에서나 읽고 직렬화할 수 있습니다.
+ * - version 은 발행할 때마다 1씩 증가 -> "N 버전 이후 바뀐 게 있나?" 를 숫자 비교로 확인
+ * - JSON 모양은 기존 Table 응답(players, pot.totalAmount, currentRound ...)과 맞춤
+ */
+@Getter
+public class TableSnapshot {
+    private final String id;
+    private final long version;
+    private final GameRound currentRound;
+    private final List<PlayerSnapshot> players;
+    private final List<Card> communityCards;
+    private final long communityCardSet;
+    private final PotSnapshot pot;
+    private final boolean handInProgress;
+    private final int dealerSeat;
+    private final int actionSeat; // 다음 차례 좌석 (없으면 -1)
+    private final String actionPlayerId; // 다음 차례 플레이어 (없으면 null)
+    private final long highestBet; // 콜 기준 금액
+    private final long minRaise;
+
+    private TableSnapshot(String id, long version, GameRound currentRound, List<PlayerSnapshot> players,
+                          List<Card> communityCards, long communityCardSet, PotSnapshot pot, BettingState betting,
+                          String actionPlayerId) {
+        this.id = id;
+        this.version = version;
+        this.currentRound = currentRound;
+        this.players = players;
+        this.communityCards = communityCards;
+        this.communityCardSet = communityCardSet;
+        this.pot = pot;
+        this.handInProgress = betting.isHandInProgress();
+        this.dealerSeat = betting.getDealerSeat();
+        this.actionSeat = betting.getActionSeat();
+        this.actionPlayerId = actionPlayerId;
+        this.highestBet = betting.getHighestBet();
+        this.minRaise = betting.getMinRaise();
+    }
+
+    // 테이블을 변경하는 스레드(명령 실행 스레드)에서만 호출
+    static TableSnapshot capture(Table table, long version) {
+        List<PlayerSnapshot> players = new ArrayList<>(table.getPlayers().size());
+        for (Player player : table.getPlayers()) {
+            players.add(new PlayerSnapshot(player));
+        }
+        BettingState betting = table.getBettingState();
+        Player actionPlayer = betting.getActionSeat() < 0 ? null : table.getPlayer(betting.getActionSeat());
+        return new TableSnapshot(table.getId(), version, table.getCurrentRound(),
+                Collections.unmodifiableList(players),
+                Collections.unmodifiableList(table.getCommunityCards()),
+                table.getCommunityCardSet(),
+                new PotSnapshot(table.getPot()),
+                betting, actionPlayer == null ? null : actionPlayer.getId());
+    }
+
+    /**
+     * 더 베팅할 수 없는 상태인지 (쇼다운이거나, 핸드 중인데 차례가 없고 칩이 남은 참가자가 한 명 이하 = 나머지는 올인)
+     * - 이때만 남은 손패의 승률을 공개해도 베팅에 영향이 없음
+     */
+    @JsonIgnore
+    public boolean isBettingClosed() {
+        if (currentRound == GameRound.SHOWDOWN) return true;
+        if (!handInProgress || actionSeat >= 0) return false;
+        int withChips = 0;
+        for (PlayerSnapshot player : players) {
+            if (!player.isFolded() && player.getHoleCardSet() != CardSet.EMPTY && player.getChips() > 0) withChips++;
+        }
+        return withChips <= 1;
+    }
+
+    @Getter
+    public static class PlayerSnapshot {
+        private final String id;
+        private final String name;
+        private final int seat;
+        private final long chips;
+        private final long currentBet;
+        private final boolean folded;
+        @JsonIgnore // 손패는 좌석 본인에게만 (SeatPrivateUpdate), 스냅샷을 그대로 직렬화해도 새지 않게
+        private final long holeCardSet; // 손패 (CardSet)
+
+        private PlayerSnapshot(Player player) {
+            this.id = player.getId();
+            this.name = player.getName();
+            this.seat = player.getSeat();
+            this.chips = player.getChips();
+            this.currentBet = player.getCurrentBet();
+            this.folded = player.isFolded();
+            this.holeCardSet = player.getHoleCardSet();
+        }
+
+        // 리스트 (JSON 에는 나가지 않음)
+        @JsonIgnore
+        public List<Card> getHoleCards() {
+            return CardSet.toList(holeCardSet);
+        }
+    }
+
+    @Getter
+    public static class PotSnapshot {
+        private final long totalAmount;
+        private final List<Long> layers; // [0] 메인 팟, 이후 사이드 팟 (올인 금액 순)
+
+        private PotSnapshot(Pot pot) {
+            this.totalAmount = pot.getTotalAmount();
+            List<Long> layers = new ArrayList<>(pot.getLayerCount());
+            for (int i = 0; i < pot.getLayerCount(); i++) {
+                layers.add(pot.getLayerAmount(i));
+            }
+            this.layers = Collections.unmodifiableList(layers);
+        }
+    }
+}
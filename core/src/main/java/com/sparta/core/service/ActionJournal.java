@@ -0,0 +1,57 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.ActionType;
+
+import java.util.function.Consumer;
+
+/**
+ * 수락된 명령 기록 (event sourcing)
+ * - GameService 가 명령을 성공적으로 실행한 직후, 같은 테이블 실행 스레드에서 append 합니다.
+ *   -> 테이블별 기록 순서 = 실행 순서
+ * - 재시작 시 replay 로 명령을 다시 실행해 테이블 상태를 복구합니다.
+ */
+public interface ActionJournal extends AutoCloseable {
+
+    // 기록하지 않음 (기본값)
+    ActionJournal NONE = new ActionJournal() {
+        @Override
+        public boolean accepts(String value) {
+            return true;
+        }
+
+        @Override
+        public long append(JournalRecord.Type type, String tableId, String playerId, String name,
+                           ActionType action, long value) {
+            return 0;
+        }
+
+        @Override
+        public void replay(Consumer<JournalRecord> handler) {
+        }
+    };
+
+    // ID/이름을 기록할 수 있는지 (고정 크기 레코드라 길이 제한이 있음) -> 상태를 바꾸기 전에 확인
+    boolean accepts(String value);
+
+    // @return 기록 순번 (같은 샤드 안에서 증가, 기록하지 않으면 0)
+    long append(JournalRecord.Type type, String tableId, String playerId, String name, ActionType action, long value);
+
+    /**
+     * 기록된 명령을 순서대로 전달 (append 전에 한 번 호출)
+     * - 같은 테이블의 기록은 한 스레드에서 순서대로 전달되지만, 서로 다른 테이블은 동시에 전달될 수 있음
+     * - 전달한 JournalRecord 는 재사용되므로 handler 밖으로 참조를 넘기지 말 것
+     */
+    void replay(Consumer<JournalRecord> handler);
+
+    // 지금까지 append 한 기록을 디스크에 반영 (체크포인트를 쓰기 전에: 체크포인트가 저널보다 앞서면 안 됨)
+    default void flush() {
+    }
+
+    // tableId 가 속한 샤드의 다음 순번을 sequence 보다 크게 (replay 후, 체크포인트에 담긴 순번을 다시 쓰지 않도록)
+    default void advanceSequence(String tableId, long sequence) {
+    }
+
+    @Override
+    default void close() {
+    }
+}
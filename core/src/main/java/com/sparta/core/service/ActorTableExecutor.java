@@ -0,0 +1,92 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.Table;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 테이블별 메일박스(Actor) 방식
+ * - 호출 스레드는 명령을 테이블 메일박스(lock-free MPSC 큐)에 넣고 future 만 받아 바로 돌아갑니다.
+ * - 메일박스에 처리할 명령이 생기면 공용 스레드 풀에 drain 작업을 한 번만 예약하고,
+ *   drain 은 한 번에 한 스레드만 돌기 때문에 테이블별 실행 순서 = 큐에 들어간 순서가 됩니다.
+ * - 한 번에 최대 DRAIN_BATCH 개만 처리하고 다시 예약 -> 바쁜 테이블이 다른 테이블의 스레드를 독점하지 않음
+ * - 따라서 처리량은 스레드 수가 아니라 (풀 크기 안에서) 동시에 바쁜 테이블 수에 비례합니다.
+ */
+public class ActorTableExecutor implements TableExecutor {
+
+    private static final int DRAIN_BATCH = 64;
+
+    private final ExecutorService pool;
+    private final Map<String, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public ActorTableExecutor(int threads) {
+        // asyncMode: 포크/조인 없이 짧은 작업만 넣으므로 FIFO 스케줄링
+        this(new ForkJoinPool(threads, ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true));
+    }
+
+    public ActorTableExecutor(ExecutorService pool) {
+        this.pool = pool;
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Table table, Supplier<T> command) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Mailbox mailbox = mailboxes.computeIfAbsent(table.getId(), id -> new Mailbox());
+        mailbox.enqueue(() -> {
+            try {
+                future.complete(command.get());
+            } catch (RuntimeException e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private class Mailbox implements Runnable {
+        private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        void enqueue(Runnable command) {
+            queue.offer(command);
+            schedule();
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                pool.execute(this);
+            }
+        }
+
+        // drain: 이 메일박스를 예약한 스레드 하나만 실행
+        @Override
+        public void run() {
+            try {
+                for (int i = 0; i < DRAIN_BATCH; i++) {
+                    Runnable command = queue.poll();
+                    if (command == null) break;
+                    // 실행은 이 스레드 하나뿐이라 락이 필요 없음 (읽는 쪽은 TableSnapshot 사용)
+                    command.run();
+                }
+            } finally {
+                scheduled.set(false);
+                // 예약 해제 직전에 들어온 명령이 있으면 다시 예약 (놓치는 명령 없음)
+                if (!queue.isEmpty()) {
+                    schedule();
+                }
+            }
+        }
+    }
+}
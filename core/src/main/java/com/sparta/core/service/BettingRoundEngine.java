@@ -0,0 +1,239 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.ActionResult;
+import com.sparta.core.domain.ActionType;
+import com.sparta.core.domain.BettingState;
+import com.sparta.core.domain.Player;
+import com.sparta.core.domain.Table;
+
+/**
+ * 베팅 라운드 진행기 (차례, 최소 레이즈, 라운드 종료 판정)
+ * - 좌석 집합은 BettingState 의 비트마스크로 다루고, 다음 차례는 "현재 좌석 뒤쪽 비트 중 가장 낮은 비트" 한 번으로 찾습니다.
+ * - 액션 검증/전이는 좌석 순회 없이 비트 연산만으로 끝남 (상수 시간), 칩 이동은 BettingService 에 위임
+ * - 잘못된 액션은 validate 가 결과 코드로 돌려주고 (예외 없음), act 는 검증된 액션만 처리
+ * - 스트리트가 끝나면 STREET_COMPLETE 를 돌려주고, 카드 오픈/쇼다운은 호출하는 쪽(GameService)이 처리합니다.
+ *
+ * 금액 규칙 (amount = 이번에 새로 내는 칩)
+ * - CALL 은 금액을 계산해서 냄 (스택보다 크면 올인 콜)
+ * - BET/RAISE 는 (새 베팅액 - 최고 베팅액) 이 최소 레이즈 이상이어야 함 (스택 전부면 올인으로 처리)
+ * - ALL_IN 이 최소 레이즈에 못 미치면 최고 베팅액만 올리고 최소 레이즈는 그대로 (다른 사람은 차액만 콜하면 됨)
+ */
+public class BettingRoundEngine {
+
+    public enum Progress {
+        NEXT_PLAYER, // 다음 사람 차례
+        STREET_COMPLETE, // 이번 스트리트 베팅 종료 -> 다음 카드 오픈 (리버였으면 쇼다운)
+        UNCONTESTED // 한 명만 남음 -> 쇼다운 없이 팟 획득
+    }
+
+    private final BettingService bettingService;
+    private final long smallBlind;
+    private final long bigBlind;
+
+    // 블라인드 없음 (최소 베팅 1칩)
+    public BettingRoundEngine(BettingService bettingService) {
+        this(bettingService, 0, 0);
+    }
+
+    public BettingRoundEngine(BettingService bettingService, long smallBlind, long bigBlind) {
+        if (smallBlind < 0 || bigBlind < smallBlind) {
+            throw new IllegalArgumentException("블라인드 설정이 올바르지 않습니다: " + smallBlind + "/" + bigBlind);
+        }
+        this.bettingService = bettingService;
+        this.smallBlind = smallBlind;
+        this.bigBlind = bigBlind;
+    }
+
+    /**
+     * 새 핸드 시작 (Table.prepareNewGame 직후, 카드를 돌리기 전에 호출)
+     * - 칩이 없는 플레이어는 이번 판 폴드 처리 (자리만 유지)
+     * - 딜러 버튼 이동 -> 블라인드 -> 첫 행동자 (헤즈업은 딜러가 SB 이고 프리플랍에 먼저 행동)
+     */
+    public Progress startHand(Table table) {
+        BettingState state = table.getBettingState();
+        int seated = table.getOccupiedSeats() & ~table.getFoldedSeats();
+        int live = 0;
+        for (int rest = seated; rest != 0; rest &= rest - 1) {
+            int seat = Integer.numberOfTrailingZeros(rest);
+            if (table.getPlayer(seat).getChips() > 0) live |= 1 << seat;
+        }
+        if (Integer.bitCount(live) < 2) {
+            throw new IllegalStateException("칩이 남은 플레이어가 2명 이상 있어야 게임을 시작할 수 있습니다.");
+        }
+        for (int rest = seated & ~live; rest != 0; rest &= rest - 1) {
+            table.getPlayer(Integer.numberOfTrailingZeros(rest)).fold();
+        }
+
+        int dealer = nextSeat(live, state.getDealerSeat());
+        int sb = Integer.bitCount(live) == 2 ? dealer : nextSeat(live, dealer);
+        int bb = nextSeat(live, sb);
+
+        state.setHandInProgress(true);
+        state.setDealerSeat(dealer);
+        state.setActiveSeats(live);
+        state.setAllInSeats(0);
+        state.setHighestBet(0);
+        state.setMinRaise(minBet());
+        postBlind(table, state, sb, smallBlind);
+        postBlind(table, state, bb, bigBlind);
+        state.setHighestBet(Math.max(table.getPlayer(sb).getCurrentBet(), table.getPlayer(bb).getCurrentBet()));
+        state.setMinRaise(minBet()); // 블라인드 올인은 레이즈가 아님
+
+        // BB 도 옵션(체크/레이즈)이 있으므로 행동 가능한 좌석 전원이 대기
+        return openStreet(table, state, bb);
+    }
+
+    /**
+     * 다음 스트리트 시작 (Table.advanceRound + 카드 오픈 후 호출)
+     * - 베팅액 초기화, 딜러 다음 좌석부터 행동
+     */
+    public Progress startStreet(Table table) {
+        BettingState state = table.getBettingState();
+        table.resetStreetBets();
+        state.setHighestBet(0);
+        state.setMinRaise(minBet());
+        return openStreet(table, state, state.getDealerSeat());
+    }
+
+    /**
+     * 액션 검증 (차례, 체크/콜 가능 여부, 최소 레이즈, 칩) -> 결과 코드, 상태 변경/예외/할당 없음
+     */
+    public ActionResult validate(Table table, Player player, ActionType action, long amount) {
+        BettingState state = table.getBettingState();
+        if (!state.isHandInProgress()) {
+            return ActionResult.NO_HAND_IN_PROGRESS;
+        }
+        if (player.getSeat() != state.getActionSeat()) {
+            return ActionResult.NOT_YOUR_TURN;
+        }
+        long toCall = state.getHighestBet() - player.getCurrentBet();
+
+        return switch (action) {
+            case FOLD, ALL_IN -> ActionResult.OK;
+            case CHECK -> toCall > 0 ? ActionResult.CANNOT_CHECK : ActionResult.OK;
+            case CALL -> toCall <= 0 ? ActionResult.NOTHING_TO_CALL : ActionResult.OK; // 스택보다 크면 올인 콜
+            case BET, RAISE -> {
+                if (action == ActionType.BET && state.getHighestBet() > 0) yield ActionResult.BET_ALREADY_OPEN;
+                if (action == ActionType.RAISE && state.getHighestBet() == 0) yield ActionResult.NOTHING_TO_RAISE;
+                ActionResult chips = bettingService.validate(player, action, amount);
+                if (!chips.isSuccess() || amount == player.getChips()) yield chips; // 스택 전부면 올인
+                long raiseBy = player.getCurrentBet() + amount - state.getHighestBet();
+                yield raiseBy < state.getMinRaise() ? ActionResult.RAISE_TOO_SMALL : ActionResult.OK;
+            }
+        };
+    }
+
+    /**
+     * 차례인 플레이어의 액션 처리 (validate 가 OK 인 액션만)
+     * - 칩 이동 -> 비트마스크 전이 -> 진행 결과
+     */
+    public Progress act(Table table, Player player, ActionType action, long amount) {
+        BettingState state = table.getBettingState();
+        int seat = player.getSeat();
+        int bit = 1 << seat;
+        long toCall = state.getHighestBet() - player.getCurrentBet();
+
+        switch (action) {
+            case FOLD -> {
+                apply(player, table, ActionType.FOLD, 0);
+                state.setActiveSeats(state.getActiveSeats() & ~bit);
+            }
+            case CHECK -> apply(player, table, ActionType.CHECK, 0);
+            case CALL -> {
+                if (toCall >= player.getChips()) {
+                    allIn(table, state, player);
+                } else {
+                    apply(player, table, ActionType.CALL, toCall);
+                }
+            }
+            case BET, RAISE -> {
+                if (amount == player.getChips()) {
+                    allIn(table, state, player);
+                } else {
+                    apply(player, table, action, amount);
+                    reopen(state, seat, player.getCurrentBet(), player.getCurrentBet() - state.getHighestBet());
+                }
+            }
+            case ALL_IN -> allIn(table, state, player);
+        }
+        state.setPendingSeats(state.getPendingSeats() & ~bit);
+        return next(state, seat);
+    }
+
+    // 이번 스트리트 대기 좌석 설정 후 첫 행동자 지정
+    private Progress openStreet(Table table, BettingState state, int after) {
+        int active = state.getActiveSeats();
+        int pending = active;
+        if (Integer.bitCount(active) < 2) {
+            // 상대가 모두 올인 -> 더 베팅할 수 없고, 콜할 금액이 남은 좌석만 응답
+            pending = 0;
+            for (int rest = active; rest != 0; rest &= rest - 1) {
+                int seat = Integer.numberOfTrailingZeros(rest);
+                if (table.getPlayer(seat).getCurrentBet() < state.getHighestBet()) pending |= 1 << seat;
+            }
+        }
+        state.setPendingSeats(pending);
+        return next(state, after);
+    }
+
+    private Progress next(BettingState state, int seat) {
+        if (Integer.bitCount(state.getActiveSeats() | state.getAllInSeats()) < 2) {
+            state.setActionSeat(-1);
+            return Progress.UNCONTESTED;
+        }
+        if (state.getPendingSeats() == 0) {
+            state.setActionSeat(-1);
+            return Progress.STREET_COMPLETE;
+        }
+        state.setActionSeat(nextSeat(state.getPendingSeats(), seat));
+        return Progress.NEXT_PLAYER;
+    }
+
+    private void allIn(Table table, BettingState state, Player player) {
+        apply(player, table, ActionType.ALL_IN, 0);
+        long betTo = player.getCurrentBet();
+        if (betTo > state.getHighestBet()) {
+            long raiseBy = betTo - state.getHighestBet();
+            // 최소 레이즈에 못 미치는 올인은 최소 레이즈를 바꾸지 않음
+            reopen(state, player.getSeat(), betTo, Math.max(raiseBy, state.getMinRaise()));
+        }
+        int bit = 1 << player.getSeat();
+        state.setActiveSeats(state.getActiveSeats() & ~bit);
+        state.setAllInSeats(state.getAllInSeats() | bit);
+    }
+
+    // 베팅액이 올라감 -> 나머지 행동 가능한 좌석은 다시 응답해야 함
+    private void reopen(BettingState state, int seat, long highestBet, long minRaise) {
+        state.setHighestBet(highestBet);
+        state.setMinRaise(minRaise);
+        state.setPendingSeats(state.getActiveSeats() & ~(1 << seat));
+    }
+
+    private void postBlind(Table table, BettingState state, int seat, long blind) {
+        Player player = table.getPlayer(seat);
+        if (blind == 0) return;
+        if (blind >= player.getChips()) {
+            allIn(table, state, player);
+        } else {
+            apply(player, table, ActionType.BET, blind);
+        }
+    }
+
+    // 엔진이 검증한 뒤에 칩 이동이 거절되면 규칙 불일치 (불변식 위반)
+    private void apply(Player player, Table table, ActionType action, long amount) {
+        ActionResult result = bettingService.processBetting(player, table.getPot(), action, amount);
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("검증을 통과한 액션이 거절되었습니다: " + result);
+        }
+    }
+
+    private long minBet() {
+        return Math.max(bigBlind, 1);
+    }
+
+    // mask 에서 seat 다음 좌석 (뒤쪽에 없으면 처음으로 돌아감, seat 가 -1 이면 가장 앞 좌석)
+    static int nextSeat(int mask, int seat) {
+        int after = seat < 0 ? mask : mask & (-2 << seat);
+        return Integer.numberOfTrailingZeros(after != 0 ? after : mask);
+    }
+}
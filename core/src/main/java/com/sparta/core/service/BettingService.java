@@ -1,5 +1,6 @@
 package com.sparta.core.service;
 
+import com.sparta.core.domain.ActionResult;
 import com.sparta.core.domain.ActionType;
 import com.sparta.core.domain.Player;
 import com.sparta.core.domain.Pot;
@@ -9,23 +10,30 @@ public class BettingService {
     /**
      * 락(Lock)은 이 메서드를 호출하는 쪽(GameService)에서 제어한다고 가정합니다.
      * 여기서는 순수 비즈니스 로직(검증, 계산)만 수행합니다.
+     * 잘못된 요청은 예외 없이 결과 코드로 돌려주고, 예외는 자산 불일치 같은 불변식 위반에만 던집니다.
      */
-    public void processBetting(Player player, Pot pot, ActionType action, long amount) {
+    public ActionResult processBetting(Player player, Pot pot, ActionType action, long amount) {
 
-
-        // 1. 공통 검증 (죽은 사람, 칩 부족 등)
-        validateAvailable(player, action, amount);
+        // 1. 공통 검증 (죽은 사람, 칩 부족 등) -> 실패면 상태를 건드리지 않고 바로 반환
+        ActionResult result = validate(player, action, amount);
+        if (!result.isSuccess()) {
+            return result;
+        }
 
         // [Transaction Start] 상태 스냅샷 저장 (Rollback을 위한 백업)
         long beforePlayerChips = player.getChips();
         long beforePotTotal = pot.getTotalAmount();
+        long beforeContribution = pot.getContribution(player.getSeat());
 
         try {
             // 2. 액션별 처리
             switch (action) {
                 case BET, RAISE, CALL -> handleChipBetting(player, pot, amount);
                 case ALL_IN -> handleAllIn(player, pot);
-                case FOLD -> player.fold();
+                case FOLD -> {
+                    player.fold();
+                    pot.fold(player.getSeat()); // 사이드 팟 자격 상실
+                }
                 case CHECK -> { /* 체크는 칩 이동 없음 */ }
             }
 
@@ -38,6 +46,10 @@ public class BettingService {
                 if (playerDecreased != potIncreased) {
                     throw new IllegalStateException("CRITICAL: 자산 불일치 발생! (Player 감소분 != Pot 증가분)");
                 }
+                // 스택을 모두 냈으면 지금 기여액이 사이드 팟 경계가 됨
+                if (player.getChips() == 0) {
+                    pot.markAllIn(player.getSeat());
+                }
             }
         } catch (Exception e) {
             // 4. 롤백
@@ -45,26 +57,33 @@ public class BettingService {
             System.err.println("[Rollback Triggered] " + e.getMessage());
 
             player.recoveryChips(beforePlayerChips);
+            pot.recoveryContribution(player.getSeat(), beforeContribution);
             pot.recoveryAmount(beforePotTotal);
 
             // 상위로 예외 전파 (유저에게 알림)
             throw new RuntimeException("베팅 처리 중 오류가 발생하여 취소되었습니다.", e);
         }
+        return ActionResult.OK;
     }
 
-    private void validateAvailable(Player player, ActionType action, long amount) {
+    // 칩 이동 전 검증 (할당/예외 없음), 포커 룰(차례, 최소 레이즈) 검증은 BettingRoundEngine 에서
+    public ActionResult validate(Player player, ActionType action, long amount) {
         if (player.isFolded()) {
-            throw new IllegalStateException("이미 폴드한 플레이어입니다.");
+            return ActionResult.ALREADY_FOLDED;
+        }
+        if (amount < 0) {
+            return ActionResult.INVALID_AMOUNT;
         }
-        if ((action == ActionType.BET || action == ActionType.RAISE) && player.getChips() < amount) {
-            throw new IllegalStateException("칩이 부족합니다.");
+        if ((action == ActionType.BET || action == ActionType.RAISE || action == ActionType.CALL)
+                && player.getChips() < amount) {
+            return ActionResult.INSUFFICIENT_CHIPS;
         }
-        // 추가적인 포커 룰 검증 (최소 베팅금액 등)이 여기에 들어갈 수 있음
+        return ActionResult.OK;
     }
 
     private void handleChipBetting(Player player, Pot pot, long amount) {
         player.betChips(amount);
-        pot.add(amount);
+        pot.add(player.getSeat(), amount);
     }
 
     private boolean isChipMoveAction(ActionType action) {
@@ -75,6 +94,6 @@ public class BettingService {
     private void handleAllIn(Player player, Pot pot) {
         long allInAmount = player.getChips();
         player.betChips(allInAmount);
-        pot.add(allInAmount);
+        pot.add(player.getSeat(), allInAmount);
     }
 }
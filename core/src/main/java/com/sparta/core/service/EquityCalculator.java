@@ -0,0 +1,311 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.*;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Monte Carlo 승률 계산기 (올인 중계, 봇 판단용)
+ * - 남은 보드를 무작위로 채워 보고 누가 이기는지 센 비율로 승률을 추정합니다.
+ * - 워커마다 SplittableRandom 과 카드 배열을 따로 가지므로, 샘플링 중에는 공유 상태도 할당도 없습니다.
+ * - 라운드(워커별 batch 샘플) 단위로 합산하며, 예산이 끝나거나 신뢰구간이 충분히 좁아지면 멈춥니다.
+ * - 프리플랍 헤즈업(바닥/버린 카드 없음)은 승률표가 있으면 샘플링 없이 표에서 바로 읽습니다.
+ */
+public class EquityCalculator implements AutoCloseable {
+
+    private static final int BOARD_SIZE = 5;
+    private static final int MIN_SAMPLES_FOR_MARGIN = 1_000;
+    private static final double Z_95 = 1.96;
+
+    private final HandEvaluator handEvaluator;
+    private final ForkJoinPool pool;
+    private final SamplingBudget defaultBudget;
+    private final int batchSize;
+    private final PreflopEquityTable preflopTable;
+
+    public EquityCalculator(HandEvaluator handEvaluator, ForkJoinPool pool, SamplingBudget defaultBudget, int batchSize) {
+        this(handEvaluator, pool, defaultBudget, batchSize, PreflopEquityTable.empty());
+    }
+
+    public EquityCalculator(HandEvaluator handEvaluator, ForkJoinPool pool, SamplingBudget defaultBudget, int batchSize,
+                            PreflopEquityTable preflopTable) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batch 크기는 1 이상이어야 합니다.");
+        }
+        this.handEvaluator = handEvaluator;
+        this.pool = pool;
+        this.defaultBudget = defaultBudget;
+        this.batchSize = batchSize;
+        this.preflopTable = preflopTable;
+    }
+
+    // 전용 풀이면 종료 (공용 풀은 JVM 이 관리하므로 그대로 둠)
+    @Override
+    public void close() {
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+
+    // 테이블의 현재 상태(폴드하지 않은 플레이어 + 바닥 카드)로 계산
+    public EquityResult calculate(Table table) {
+        return calculate(table.getSnapshot());
+    }
+
+    // 호출한 쪽이 이미 검사한 스냅샷 그대로 (그 사이 커밋된 상태로 바뀌지 않게)
+    public EquityResult calculate(TableSnapshot snapshot) {
+        TableHands hands = TableHands.capture(snapshot);
+        return calculate(hands.holeCards, hands.board, CardSet.EMPTY).withPlayerIds(hands.playerIds);
+    }
+
+    public EquityResult calculate(long[] holeCards, long board, long deadCards) {
+        return calculate(holeCards, board, deadCards, defaultBudget);
+    }
+
+    /**
+     * @param holeCards 플레이어별 손패 (CardSet, 2장씩)
+     * @param board     현재 바닥 카드 (0~5장)
+     * @param deadCards 이미 버려져서 나올 수 없는 카드
+     */
+    public EquityResult calculate(long[] holeCards, long board, long deadCards, SamplingBudget budget) {
+        long usedCards = validate(holeCards, board, deadCards);
+        int players = holeCards.length;
+        int missing = BOARD_SIZE - Long.bitCount(board);
+
+        if (players == 2 && board == CardSet.EMPTY && deadCards == CardSet.EMPTY && preflopTable.isAvailable()) {
+            return lookupPreflop(holeCards);
+        }
+
+        // 보드가 다 깔렸으면 샘플링할 필요 없이 한 번만 판정
+        if (missing == 0) {
+            Worker worker = new Worker(handEvaluator, holeCards, board, new int[0], 0, new SplittableRandom());
+            worker.accumulate(board, handEvaluator.rankKey(board));
+            return toResult(worker.equitySum, worker.equitySquareSum, worker.wins, worker.ties, 1, true);
+        }
+
+        int[] liveCards = toIndexes(CardSet.FULL_DECK & ~usedCards);
+        if (liveCards.length < missing) {
+            throw new IllegalArgumentException("남은 카드가 부족합니다.");
+        }
+
+        // 워커별 독립 난수 (split 으로 통계적으로 독립된 스트림 생성)
+        int parallelism = pool.getParallelism();
+        SplittableRandom root = new SplittableRandom();
+        Worker[] workers = new Worker[parallelism];
+        for (int i = 0; i < parallelism; i++) {
+            workers[i] = new Worker(handEvaluator, holeCards, board, liveCards.clone(), missing, root.split());
+        }
+
+        double[] equitySum = new double[players];
+        double[] equitySquareSum = new double[players];
+        long[] wins = new long[players];
+        long[] ties = new long[players];
+        long samples = 0;
+        long deadline = System.nanoTime() + budget.getTimeBudget().toNanos();
+
+        while (true) {
+            int batch = (int) Math.max(1, Math.min(batchSize, (budget.getMaxSamples() - samples) / parallelism));
+            runRound(workers, batch);
+            samples += (long) batch * parallelism;
+
+            for (Worker worker : workers) {
+                worker.drainInto(equitySum, equitySquareSum, wins, ties);
+            }
+
+            if (samples >= budget.getMaxSamples() || System.nanoTime() >= deadline) break;
+            if (budget.getTargetMargin() > 0 && samples >= MIN_SAMPLES_FOR_MARGIN
+                    && margin(equitySum, equitySquareSum, samples) <= budget.getTargetMargin()) break;
+        }
+        return toResult(equitySum, equitySquareSum, wins, ties, samples, false);
+    }
+
+    private void runRound(Worker[] workers, int batch) {
+        pool.invoke(new RecursiveAction() {
+            @Override
+            protected void compute() {
+                ForkJoinTask<?>[] tasks = new ForkJoinTask<?>[workers.length];
+                for (int i = 0; i < workers.length; i++) {
+                    Worker worker = workers[i];
+                    tasks[i] = ForkJoinTask.adapt(() -> worker.sample(batch));
+                }
+                invokeAll(tasks);
+            }
+        });
+    }
+
+    // 승률표 조회 (클래스 평균이라 정확한 콤보 승률은 아님 -> exact = false, margin 은 생성 시 샘플 수 기준)
+    private EquityResult lookupPreflop(long[] holeCards) {
+        int hero = PreflopEquityTable.classOf(holeCards[0]);
+        int villain = PreflopEquityTable.classOf(holeCards[1]);
+        double[] win = {preflopTable.headsUpWin(hero, villain), preflopTable.headsUpWin(villain, hero)};
+        double[] tie = {preflopTable.headsUpTie(hero, villain), preflopTable.headsUpTie(hero, villain)};
+        double[] equity = {win[0] + tie[0] / 2, win[1] + tie[1] / 2};
+        // 169 클래스 평균값이라 이 조합 자체의 추정이 아님 (무늬 겹침 등으로 몇 %p 차이 날 수 있음)
+        // -> 이 조합을 샘플링한 것처럼 보이지 않게 samples = 0, 오차는 모름(NaN)
+        return new EquityResult(null, equity, win, tie, 0, Double.NaN, false);
+    }
+
+    // --- Helper Methods ---
+
+    // 카드 중복/장수 검증 후, 더 이상 나올 수 없는 카드 전체를 반환
+    static long validate(long[] holeCards, long board, long deadCards) {
+        if (holeCards == null || holeCards.length < 2) {
+            throw new IllegalArgumentException("승률 계산에는 최소 2명의 손패가 필요합니다.");
+        }
+        if (Long.bitCount(board) > BOARD_SIZE) {
+            throw new IllegalArgumentException("바닥 카드는 최대 5장입니다.");
+        }
+
+        long used = board;
+        int expected = Long.bitCount(board);
+        for (long hole : holeCards) {
+            if (Long.bitCount(hole) != 2) {
+                throw new IllegalArgumentException("손패는 2장이어야 합니다.");
+            }
+            used |= hole;
+            expected += 2;
+        }
+        if (Long.bitCount(used) != expected || (used & deadCards) != 0) {
+            throw new IllegalArgumentException("중복된 카드가 있습니다.");
+        }
+        return used | deadCards;
+    }
+
+    static int[] toIndexes(long cards) {
+        int[] indexes = new int[Long.bitCount(cards)];
+        int i = 0;
+        for (long rest = cards; rest != 0; rest &= rest - 1) {
+            indexes[i++] = Long.numberOfTrailingZeros(rest);
+        }
+        return indexes;
+    }
+
+    // 플레이어별 평균 equity 의 95% 신뢰구간 반폭 중 최댓값
+    static double margin(double[] equitySum, double[] equitySquareSum, long samples) {
+        double worst = 0;
+        for (int i = 0; i < equitySum.length; i++) {
+            double mean = equitySum[i] / samples;
+            double variance = Math.max(0, equitySquareSum[i] / samples - mean * mean);
+            worst = Math.max(worst, Z_95 * Math.sqrt(variance / samples));
+        }
+        return worst;
+    }
+
+    static EquityResult toResult(double[] equitySum, double[] equitySquareSum, long[] wins, long[] ties,
+                                 long samples, boolean exact) {
+        int players = equitySum.length;
+        double[] equity = new double[players];
+        double[] win = new double[players];
+        double[] tie = new double[players];
+        for (int i = 0; i < players; i++) {
+            equity[i] = equitySum[i] / samples;
+            win[i] = (double) wins[i] / samples;
+            tie[i] = (double) ties[i] / samples;
+        }
+        double margin = exact ? 0 : margin(equitySum, equitySquareSum, samples);
+        return new EquityResult(null, equity, win, tie, samples, margin, exact);
+    }
+
+    /**
+     * 워커 하나의 샘플링 상태 (한 라운드 동안 한 스레드만 사용)
+     */
+    private static class Worker {
+        private final HandEvaluator handEvaluator;
+        private final long[] holeCards;
+        private final long board;
+        private final int[] liveCards; // 부분 Fisher-Yates 로 섞어 쓰는 남은 카드
+        private final int missing;
+        private final SplittableRandom random;
+        private final int[] values;
+        // 보드 숫자 키는 샘플마다 카드 키를 더해 만들고, 플레이어별로 손패 키만 더함
+        private final long boardKey;
+        private final long[] holeKeys;
+        private final long[] cardKeys = new long[Card.DECK_SIZE];
+
+        private final double[] equitySum;
+        private final double[] equitySquareSum;
+        private final long[] wins;
+        private final long[] ties;
+
+        Worker(HandEvaluator handEvaluator, long[] holeCards, long board, int[] liveCards, int missing,
+               SplittableRandom random) {
+            this.handEvaluator = handEvaluator;
+            this.holeCards = holeCards;
+            this.board = board;
+            this.liveCards = liveCards;
+            this.missing = missing;
+            this.random = random;
+            this.values = new int[holeCards.length];
+            this.boardKey = handEvaluator.rankKey(board);
+            this.holeKeys = new long[holeCards.length];
+            for (int p = 0; p < holeCards.length; p++) {
+                holeKeys[p] = handEvaluator.rankKey(holeCards[p]);
+            }
+            for (int card : liveCards) {
+                cardKeys[card] = handEvaluator.rankKey(1L << card);
+            }
+            this.equitySum = new double[holeCards.length];
+            this.equitySquareSum = new double[holeCards.length];
+            this.wins = new long[holeCards.length];
+            this.ties = new long[holeCards.length];
+        }
+
+        void sample(int count) {
+            int live = liveCards.length;
+            for (int s = 0; s < count; s++) {
+                long runout = board;
+                long runoutKey = boardKey;
+                for (int i = 0; i < missing; i++) {
+                    int j = i + random.nextInt(live - i);
+                    int card = liveCards[j];
+                    liveCards[j] = liveCards[i];
+                    liveCards[i] = card;
+                    runout |= 1L << card;
+                    runoutKey += cardKeys[card];
+                }
+                accumulate(runout, runoutKey);
+            }
+        }
+
+        void accumulate(long fullBoard, long fullBoardKey) {
+            int best = Integer.MIN_VALUE;
+            int winners = 0;
+            for (int p = 0; p < holeCards.length; p++) {
+                int value = handEvaluator.evaluateValue(holeCards[p] | fullBoard, fullBoardKey + holeKeys[p]);
+                values[p] = value;
+                if (value > best) {
+                    best = value;
+                    winners = 1;
+                } else if (value == best) {
+                    winners++;
+                }
+            }
+
+            double share = 1.0 / winners;
+            for (int p = 0; p < holeCards.length; p++) {
+                if (values[p] != best) continue;
+                equitySum[p] += share;
+                equitySquareSum[p] += share * share;
+                if (winners == 1) wins[p]++;
+                else ties[p]++;
+            }
+        }
+
+        // 이번 라운드 누적값을 합산하고 비움
+        void drainInto(double[] equityTotal, double[] equitySquareTotal, long[] winTotal, long[] tieTotal) {
+            for (int p = 0; p < holeCards.length; p++) {
+                equityTotal[p] += equitySum[p];
+                equitySquareTotal[p] += equitySquareSum[p];
+                winTotal[p] += wins[p];
+                tieTotal[p] += ties[p];
+                equitySum[p] = 0;
+                equitySquareSum[p] = 0;
+                wins[p] = 0;
+                ties[p] = 0;
+            }
+        }
+    }
+}
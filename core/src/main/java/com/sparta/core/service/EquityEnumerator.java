@@ -0,0 +1,200 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * 정확한 승률 계산기 (정산 리포트, 플랍/턴 올인용)
+ * - 남은 보드 조합을 전부 돌면서 판정합니다. (턴: 44가지, 플랍 헤즈업: 990가지)
+ * - 보드 카드는 한 장씩 깔 때마다 숫자 키(rankKey)를 누적하고, 플레이어마다 손패 키만 더해서 판정하므로
+ *   보드의 숫자/무늬 집계를 플레이어 수만큼 반복하지 않습니다.
+ * - 조합 수가 많으면(프리플랍 등) 첫 번째 카드 기준으로 나눠 ForkJoinPool 에서 병렬 계산합니다.
+ */
+public class EquityEnumerator implements AutoCloseable {
+
+    private static final int BOARD_SIZE = 5;
+    // 이 값보다 조합이 적으면 스레드 분할 비용이 더 크므로 호출 스레드에서 바로 계산
+    private static final long PARALLEL_THRESHOLD = 20_000;
+
+    private final HandEvaluator handEvaluator;
+    private final ForkJoinPool pool;
+    private final long[] cardKeys = new long[Card.DECK_SIZE];
+
+    public EquityEnumerator(HandEvaluator handEvaluator, ForkJoinPool pool) {
+        this.handEvaluator = handEvaluator;
+        this.pool = pool;
+        for (int i = 0; i < Card.DECK_SIZE; i++) {
+            cardKeys[i] = handEvaluator.rankKey(1L << i);
+        }
+    }
+
+    // 전용 풀이면 종료 (공용 풀은 JVM 이 관리하므로 그대로 둠)
+    @Override
+    public void close() {
+        if (pool != ForkJoinPool.commonPool()) {
+            pool.shutdown();
+        }
+    }
+
+    // 테이블의 현재 상태(폴드하지 않은 플레이어 + 바닥 카드)로 계산
+    public EquityResult enumerate(Table table) {
+        return enumerate(table.getSnapshot());
+    }
+
+    public EquityResult enumerate(TableSnapshot snapshot) {
+        TableHands hands = TableHands.capture(snapshot);
+        return enumerate(hands.holeCards, hands.board, CardSet.EMPTY).withPlayerIds(hands.playerIds);
+    }
+
+    /**
+     * @param holeCards 플레이어별 손패 (CardSet, 2장씩)
+     * @param board     현재 바닥 카드 (0~5장)
+     * @param deadCards 이미 버려져서 나올 수 없는 카드
+     */
+    public EquityResult enumerate(long[] holeCards, long board, long deadCards) {
+        long usedCards = EquityCalculator.validate(holeCards, board, deadCards);
+        int missing = BOARD_SIZE - Long.bitCount(board);
+        int[] liveCards = EquityCalculator.toIndexes(CardSet.FULL_DECK & ~usedCards);
+        if (liveCards.length < missing) {
+            throw new IllegalArgumentException("남은 카드가 부족합니다.");
+        }
+
+        long[] holeKeys = new long[holeCards.length];
+        for (int p = 0; p < holeCards.length; p++) {
+            holeKeys[p] = handEvaluator.rankKey(holeCards[p]);
+        }
+        long boardKey = handEvaluator.rankKey(board);
+
+        RangeTask task = new RangeTask(holeCards, holeKeys, liveCards, missing, board, boardKey, 0, liveCards.length);
+        Tally tally = (missing > 0 && combinations(liveCards.length, missing) >= PARALLEL_THRESHOLD)
+                ? pool.invoke(task)
+                : task.compute();
+
+        return EquityCalculator.toResult(tally.equitySum, null, tally.wins, tally.ties, tally.boards, true);
+    }
+
+    private static long combinations(int n, int k) {
+        long result = 1;
+        for (int i = 0; i < k; i++) {
+            result = result * (n - i) / (i + 1);
+        }
+        return result;
+    }
+
+    // 플레이어별 누적 결과
+    private static class Tally {
+        final double[] equitySum;
+        final long[] wins;
+        final long[] ties;
+        long boards;
+
+        Tally(int players) {
+            this.equitySum = new double[players];
+            this.wins = new long[players];
+            this.ties = new long[players];
+        }
+
+        void merge(Tally other) {
+            for (int p = 0; p < equitySum.length; p++) {
+                equitySum[p] += other.equitySum[p];
+                wins[p] += other.wins[p];
+                ties[p] += other.ties[p];
+            }
+            boards += other.boards;
+        }
+    }
+
+    /**
+     * 첫 번째로 깔 카드의 위치 [from, to) 범위를 담당하는 작업
+     */
+    private class RangeTask extends RecursiveTask<Tally> {
+        private final long[] holeCards;
+        private final long[] holeKeys;
+        private final int[] liveCards;
+        private final int missing;
+        private final long board;
+        private final long boardKey;
+        private final int from;
+        private final int to;
+
+        private Tally tally;
+        private int[] values;
+
+        RangeTask(long[] holeCards, long[] holeKeys, int[] liveCards, int missing,
+                  long board, long boardKey, int from, int to) {
+            this.holeCards = holeCards;
+            this.holeKeys = holeKeys;
+            this.liveCards = liveCards;
+            this.missing = missing;
+            this.board = board;
+            this.boardKey = boardKey;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Tally compute() {
+            // 범위를 반으로 나눠 병렬 처리 (남은 첫 카드 후보가 적으면 직접 계산)
+            if (getPool() != null && to - from > 2 && missing > 1) {
+                int mid = (from + to) >>> 1;
+                RangeTask left = new RangeTask(holeCards, holeKeys, liveCards, missing, board, boardKey, from, mid);
+                RangeTask right = new RangeTask(holeCards, holeKeys, liveCards, missing, board, boardKey, mid, to);
+                left.fork();
+                Tally result = right.compute();
+                result.merge(left.join());
+                return result;
+            }
+
+            tally = new Tally(holeCards.length);
+            values = new int[holeCards.length];
+            if (missing == 0) {
+                if (from == 0) score(board, boardKey); // 보드 완성 -> 한 번만 판정
+                return tally;
+            }
+            for (int i = from; i < to; i++) {
+                int card = liveCards[i];
+                walk(i + 1, 1, board | (1L << card), boardKey + cardKeys[card]);
+            }
+            return tally;
+        }
+
+        // 남은 보드 카드를 인덱스 오름차순으로 하나씩 추가 (중복 조합 없음)
+        private void walk(int start, int depth, long cards, long key) {
+            if (depth == missing) {
+                score(cards, key);
+                return;
+            }
+            int last = liveCards.length - (missing - depth);
+            for (int i = start; i <= last; i++) {
+                int card = liveCards[i];
+                walk(i + 1, depth + 1, cards | (1L << card), key + cardKeys[card]);
+            }
+        }
+
+        private void score(long fullBoard, long fullBoardKey) {
+            int best = Integer.MIN_VALUE;
+            int winners = 0;
+            for (int p = 0; p < holeCards.length; p++) {
+                int value = handEvaluator.evaluateValue(fullBoard | holeCards[p], fullBoardKey + holeKeys[p]);
+                values[p] = value;
+                if (value > best) {
+                    best = value;
+                    winners = 1;
+                } else if (value == best) {
+                    winners++;
+                }
+            }
+
+            double share = 1.0 / winners;
+            for (int p = 0; p < holeCards.length; p++) {
+                if (values[p] != best) continue;
+                tally.equitySum[p] += share;
+                if (winners == 1) tally.wins[p]++;
+                else tally.ties[p]++;
+            }
+            tally.boards++;
+        }
+    }
+}
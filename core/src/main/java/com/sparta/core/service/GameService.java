@@ -3,8 +3,10 @@ package com.sparta.core.service;
 import com.sparta.core.domain.*;
 
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 public class GameService {
 
@@ -12,163 +14,318 @@ public class GameService {
     // 동시성 제어를 위해 ConcurrentHashMap 사용
     private final Map<String, Table> tableRepository = new ConcurrentHashMap<>();
     private final HandEvaluator handEvaluator;
-    private final BettingService bettingService;
+    // 차례/최소 레이즈/스트리트 종료 판정
+    private final BettingRoundEngine bettingRoundEngine;
+    // 테이블 상태 변경 명령의 실행 방식 (모니터 락 or 테이블별 메일박스)
+    private final TableExecutor tableExecutor;
+    // 성공한 명령 기록 (재시작 시 recover 로 재생)
+    private final ActionJournal journal;
 
     // 순수 자바 생성자 주입
     public GameService(HandEvaluator handEvaluator, BettingService bettingService) {
+        this(handEvaluator, bettingService, new MonitorTableExecutor());
+    }
+
+    public GameService(HandEvaluator handEvaluator, BettingService bettingService, TableExecutor tableExecutor) {
+        this(handEvaluator, tableExecutor, new BettingRoundEngine(bettingService));
+    }
+
+    // 칩 이동(BettingService)은 BettingRoundEngine 을 통해서만 일어남
+    public GameService(HandEvaluator handEvaluator, TableExecutor tableExecutor, BettingRoundEngine bettingRoundEngine) {
+        this(handEvaluator, tableExecutor, bettingRoundEngine, ActionJournal.NONE);
+    }
+
+    public GameService(HandEvaluator handEvaluator, TableExecutor tableExecutor, BettingRoundEngine bettingRoundEngine,
+                       ActionJournal journal) {
         this.handEvaluator = handEvaluator;
-        this.bettingService = bettingService;
+        this.tableExecutor = tableExecutor;
+        this.bettingRoundEngine = bettingRoundEngine;
+        this.journal = journal;
     }
 
     // 1. 방 생성
     public Table createTable(String tableId) {
-        // 이미 존재하는 방인지 체크
-        if (tableRepository.containsKey(tableId)) {
-            throw new IllegalArgumentException("이미 존재하는 테이블 ID입니다.");
+        if (!journal.accepts(tableId)) {
+            throw new IllegalArgumentException("테이블 ID가 너무 깁니다.");
         }
-        Table table = new Table(tableId);
-        tableRepository.put(tableId, table);
-        return table;
+        // 등록과 기록을 한 번에 -> 다른 스레드가 테이블을 보기 전에 생성 기록이 먼저 남음 (입장 기록보다 앞섬)
+        return tableRepository.compute(tableId, (id, existing) -> {
+            if (existing != null) {
+                throw new IllegalArgumentException("이미 존재하는 테이블 ID입니다.");
+            }
+            Table table = new Table(id);
+            table.setJournalSequence(journal.append(JournalRecord.Type.CREATE_TABLE, id, null, null, null, 0));
+            return table;
+        });
     }
 
     // 게임 시작 (방 생성과 분리하거나, 방 생성 후 호출)
-    public void startGame(String tableId) {
+    public CompletableFuture<Void> startGame(String tableId) {
         Table table = getTableOrThrow(tableId);
 
-        synchronized (table) {
-            // 1) 최소 인원 체크 (혼자서는 게임 불가)
-            if (table.getPlayers().size() < 2) {
-                throw new IllegalStateException("게임 시작을 위해서는 최소 2명의 플레이어가 필요합니다.");
-            }
+        return execute(table, () -> {
+            // 셔플 시드를 기록해 두면 재생 시 같은 카드가 나옴
+            long seed = ThreadLocalRandom.current().nextLong();
+            startGame(table, seed);
+            table.setJournalSequence(journal.append(JournalRecord.Type.START, tableId, null, null, null, seed));
+        });
+    }
 
-            // 2) 테이블 청소 및 덱 준비
-            table.prepareNewGame();
+    private void startGame(Table table, long shuffleSeed) {
+        // 1) 최소 인원 체크 (혼자서는 게임 불가)
+        if (table.getPlayerCount() < 2) {
+            throw new IllegalStateException("게임 시작을 위해서는 최소 2명의 플레이어가 필요합니다.");
+        }
+        if (table.getBettingState().isHandInProgress()) {
+            throw new IllegalStateException("이미 진행 중인 핸드가 있습니다.");
+        }
 
-            // 3) [핵심] 딜링: 모든 플레이어에게 2장씩 지금
-            for (Player player : table.getPlayers()) {
-                Card card1 = table.getDeck().draw();
-                Card card2 = table.getDeck().draw();
+        // 2) 테이블 청소 및 덱 준비
+        table.prepareNewGame(shuffleSeed);
 
-                player.receiveCard(card1, card2);
-            }
+        // 3) 딜러 버튼 이동, 블라인드, 첫 행동자 지정 (칩이 없는 플레이어는 이번 판 제외)
+        BettingRoundEngine.Progress progress = bettingRoundEngine.startHand(table);
+
+        // 4) [핵심] 딜링: 이번 판에 참여하는 플레이어에게 2장씩 지금
+        for (Player player : table.getPlayers()) {
+            if (player.isFolded()) continue;
+            Card card1 = table.getDeck().draw();
+            Card card2 = table.getDeck().draw();
+
+            player.receiveCard(card1, card2);
         }
+
+        // 5) 블라인드만으로 전원 올인이면 바로 보드를 깔고 쇼다운
+        proceed(table, progress);
     }
 
     // 2. 베팅 처리 (동시성 제어 적용)
-    public void submitAction(String tableId, String playerId, ActionType action, long amount) {
+    // 잘못된 요청(없는 플레이어, 차례 아님, 칩 부족 등)은 예외 없이 결과 코드로 완료 -> 스냅샷도 그대로
+    public CompletableFuture<ActionResult> submitAction(String tableId, String playerId, ActionType action, long amount) {
         // 1. 테이블 조회
-        Table table = getTableOrThrow(tableId);
+        Table table = tableRepository.get(tableId);
+        if (table == null) {
+            return CompletableFuture.completedFuture(ActionResult.TABLE_NOT_FOUND);
+        }
+
+        // [중요] 해당 테이블의 명령은 한 번에 하나씩만 실행되어 동시에 여러 명이 베팅하거나 상태를 바꾸지 못함
+        // playerId -> 좌석 인덱스 조회 (O(1), 할당 없음)
+        return tableExecutor.submit(table, () -> commitAction(table, table.findPlayer(playerId), action, amount));
+    }
+
+    // 좌석 번호로 바로 (바이너리 세션에 묶인 좌석 핸들: 테이블/플레이어 ID 조회 없음)
+    public CompletableFuture<ActionResult> submitAction(Table table, int seat, ActionType action, long amount) {
+        return tableExecutor.submit(table, () -> commitAction(table, table.getPlayer(seat), action, amount));
+    }
 
-        // [중요] 해당 테이블 객체에'만' 락을 걸어 동시에 여러 명이 베팅하거나 상태를 바꾸지 못하게 함
-        synchronized (table) {
-            Player player = table.getPlayers().stream()
-                    .filter(p -> p.getId().equals(playerId))
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("플레이어가 없습니다."));
+    private ActionResult commitAction(Table table, Player player, ActionType action, long amount) {
+        ActionResult result = applyAction(table, player, action, amount);
+        if (result.isSuccess()) {
+            table.setJournalSequence(journal.append(JournalRecord.Type.ACTION, table.getId(), player.getId(), null, action, amount));
+            table.publishSnapshot();
+        }
+        return result;
+    }
 
-            // 2. BettingService에 위임
-            bettingService.processBetting(player, table.getPot(), action, amount);
+    private ActionResult applyAction(Table table, Player player, ActionType action, long amount) {
+        if (player == null) {
+            return ActionResult.PLAYER_NOT_FOUND;
+        }
 
-            // 3. (선택) 베팅 후 게임 상태 업데이터 (턴 넘기기 등)
-            // checkNextTurn(table)
+        // 2. 차례/금액 검증 (BettingRoundEngine)
+        ActionResult result = bettingRoundEngine.validate(table, player, action, amount);
+        if (!result.isSuccess()) {
+            return result;
         }
+
+        // 3. BettingService로 칩 이동 후 게임 상태 업데이트 (다음 차례, 스트리트 종료 시 자동으로 다음 카드 오픈/쇼다운)
+        proceed(table, bettingRoundEngine.act(table, player, action, amount));
+        return ActionResult.OK;
     }
 
-    // 3. 다음 라운드로 진행 (핵심 로직)
-    public void nextStreet(String tableId) {
+    // 3. 다음 라운드로 강제 진행 (베팅이 끝나면 자동으로 넘어가므로 테스트/운영용)
+    public CompletableFuture<Void> nextStreet(String tableId) {
         Table table = getTableOrThrow(tableId);
 
-        synchronized (table) {
-            table.advanceRound(); // 라운드 상태 변경
+        return execute(table, () -> {
+            nextStreet(table);
+            table.setJournalSequence(journal.append(JournalRecord.Type.NEXT_STREET, tableId, null, null, null, 0));
+        });
+    }
 
-            // 라운드별 카드 오픈 규칙
-            switch (table.getCurrentRound()) {
-                case FLOP -> table.dealCommunityCard(3); // 3장 오픈
-                case TURN, RIVER -> table.dealCommunityCard(1); // 1장씩 오픈
-                case SHOWDOWN -> processShowdown(table);
-            }
+    private void nextStreet(Table table) {
+        if (dealNextStreet(table) && table.getBettingState().isHandInProgress()) {
+            proceed(table, bettingRoundEngine.startStreet(table));
         }
+    }
 
+    // 베팅 라운드 결과에 따라 진행: 스트리트가 끝나면 다음 카드 오픈 (행동할 사람이 없으면 리버까지 연속), 한 명만 남으면 팟 지급
+    private void proceed(Table table, BettingRoundEngine.Progress progress) {
+        while (progress == BettingRoundEngine.Progress.STREET_COMPLETE) {
+            if (!dealNextStreet(table)) return; // 쇼다운까지 끝남
+            progress = bettingRoundEngine.startStreet(table);
+        }
+        if (progress == BettingRoundEngine.Progress.UNCONTESTED) {
+            table.settlePot(null); // 남은 한 명이 모든 층을 가져감
+            table.prepareNewGame();
+        }
+    }
+
+    // 라운드 상태 변경 + 카드 오픈 (쇼다운이면 정산까지 하고 false)
+    private boolean dealNextStreet(Table table) {
+        table.advanceRound();
+
+        // 라운드별 카드 오픈 규칙
+        switch (table.getCurrentRound()) {
+            case FLOP -> table.dealCommunityCard(3); // 3장 오픈
+            case TURN, RIVER -> table.dealCommunityCard(1); // 1장씩 오픈
+            case SHOWDOWN -> {
+                processShowdown(table);
+                return false;
+            }
+        }
+        return true;
     }
 
     // 4. 쇼다운 및 승자 처리
     private void processShowdown(Table table) {
-        // 1) 활성 플레이어 추출
-        List<Player> activePlayers = getActivePlayers(table);
-        if (activePlayers.isEmpty()) {
+        // 1) 활성 플레이어 추출 (착석 비트 중 폴드 비트를 뺀 좌석)
+        int live = table.getOccupiedSeats() & ~table.getFoldedSeats();
+        if (live == 0) {
             throw new IllegalStateException("승자를 판별할 플레이어가 없습니다."); // 발생하면 안 되는 상황
         }
 
-        // 2) 점수 계산 (Map<Player, HandScore>)
-        // HandScore는 Comparable을 구현하여 점수 비교가 가능해야 함
-        Map<Player, HandScore> playerScores = calculateScores(activePlayers, table.getCommunityCards());
-
-        // 3) 최고 점수 찾기
-        HandScore maxScore = Collections.max(playerScores.values());
-
-        // 4) 공동 우승자(Split) 찾기
-        List<Player> winners = playerScores.entrySet().stream()
-                .filter(entry -> entry.getValue().compareTo(maxScore) == 0) // 점수가 같으면 우승자
-                .map(Map.Entry::getKey)
-                .collect(Collectors.toList());
+        // 2) 일괄 판정: 보드는 한 번만 분석하고 손패만 바꿔 가며 점수 계산
+        long[] holeCards = new long[Integer.bitCount(live)];
+        int[] scores = new int[holeCards.length];
+        int i = 0;
+        for (int rest = live; rest != 0; rest &= rest - 1) {
+            holeCards[i++] = table.getPlayer(Integer.numberOfTrailingZeros(rest)).getHoleCardSet();
+        }
+        handEvaluator.findWinners(table.getCommunityCardSet(), holeCards, scores);
 
-        // 5) 팟 분배 (정산)
-        distributePot(table, winners);
+        // 3) 좌석별 점수로 옮겨서 메인/사이드 팟 층별 정산 (공동 우승자 Split 포함)
+        int[] scoreBySeat = new int[Table.MAX_PLAYERS];
+        i = 0;
+        for (int rest = live; rest != 0; rest &= rest - 1) {
+            scoreBySeat[Integer.numberOfTrailingZeros(rest)] = scores[i++];
+        }
+        table.settlePot(scoreBySeat);
 
-        // 6) 라운드 종료 및 초기화
+        // 4) 라운드 종료 및 초기화
 //        resetTableForNextGame(table);
         table.prepareNewGame();
     }
 
     // 입장도 동시성 제어가 필요함
-    public void joinPlayer(String tableId, String playerId, String name, long chips) {
+    public CompletableFuture<Void> joinPlayer(String tableId, String playerId, String name, long chips) {
         Table table = getTableOrThrow(tableId);
 
-        synchronized (table) { // 입장하는 순간 게임이 시작되거나 다른 사람이 들어오는 것을 방지
+        // 입장하는 순간 게임이 시작되거나 다른 사람이 들어오는 것을 방지 (같은 테이블 명령과 순서대로 실행)
+        if (!journal.accepts(playerId) || !journal.accepts(name)) {
+            throw new IllegalArgumentException("플레이어 ID 또는 이름이 너무 깁니다.");
+        }
+        return execute(table, () -> {
             Player newPlayer = new Player(playerId, name, chips);
             table.addPlayer(newPlayer);
-        }
+            table.setJournalSequence(journal.append(JournalRecord.Type.JOIN, tableId, playerId, name, null, chips));
+        });
     }
 
-    // --- Helper Methods (복잡도 분리) ---
-    private List<Player> getActivePlayers(Table table) {
-        return table.getPlayers().stream()
-                .filter(p -> !p.isFolded())
-                .collect(Collectors.toList());
+    /**
+     * 저널을 재생해 테이블 상태 복구 (서버 시작 시, 요청을 받기 전에 한 번)
+     * - 기록된 명령을 같은 순서/같은 셔플 시드로 다시 실행 -> 칩, 카드, 차례까지 동일
+     * - 샤드별로 병렬 재생 (한 테이블의 기록은 한 샤드에 순서대로 있음)
+     * @return 재생한 명령 수
+     */
+    public long recover() {
+        return recover(List.of());
     }
 
-    private Map<Player, HandScore> calculateScores(List<Player> activePlayers, List<Card> communityCards) {
-        Map<Player, HandScore> scores = new HashMap<>();
-        for (Player player : activePlayers) {
-            List<Card> totalCards = new ArrayList<>(player.getHoleCards());
-            totalCards.addAll(communityCards);
-
-            // Evaluator가 단순 Rank가 아니라 비교 가능한 Score 객체를 반환한다고 가정
-            HandScore score = handEvaluator.evaluate(totalCards);
-            scores.put(player, score);
+    /**
+     * 체크포인트에서 테이블을 읽어 온 뒤, 저널은 각 테이블의 체크포인트 시점 이후 기록만 재생
+     * @param checkpoint Table.checkpoint() 결과 목록 (TableCheckpointer.loadLatest)
+     */
+    public long recover(List<byte[]> checkpoint) {
+        for (byte[] bytes : checkpoint) {
+            Table table = Table.restore(bytes);
+            tableRepository.put(table.getId(), table);
+        }
+        LongAdder replayed = new LongAdder();
+        journal.replay(record -> {
+            if (apply(record)) replayed.increment();
+        });
+        for (Table table : tableRepository.values()) {
+            // 전원 장애로 체크포인트보다 저널이 짧으면, 체크포인트가 이미 담은 순번을 새 기록이 다시 쓰지 않게
+            journal.advanceSequence(table.getId(), table.getJournalSequence());
+            table.publishSnapshot();
         }
-        return scores;
+        return replayed.sum();
+    }
 
+    // 테이블별로 자기 실행 스레드에서 상태를 복사 (다른 테이블은 멈추지 않음), 파일 기록은 호출한 쪽에서
+    // 파일에 쓰기 전에 flushJournal() 을 호출할 것 (TableCheckpointer.checkpoint) -> 체크포인트가 저널보다 앞서지 않음
+    public CompletableFuture<List<byte[]>> checkpointTables() {
+        List<CompletableFuture<byte[]>> copies = new ArrayList<>(tableRepository.size());
+        for (Table table : tableRepository.values()) {
+            copies.add(tableExecutor.submit(table, table::checkpoint));
+        }
+        return CompletableFuture.allOf(copies.toArray(CompletableFuture[]::new))
+                .thenApply(done -> copies.stream().map(CompletableFuture::join).toList());
     }
 
-    private void distributePot(Table table, List<Player> winners) {
-        long totalPot = table.getPot().getTotalAmount();
-        int winnersCount = winners.size();
+    // 지금까지 기록한 저널을 디스크에 반영 (fsync, 테이블 실행 스레드가 아닌 호출한 스레드에서)
+    public void flushJournal() {
+        journal.flush();
+    }
 
-        if (winnersCount == 0) return; // 방어 코드
+    // 체크포인트에 이미 반영된 기록이면 건너뛰고 false
+    private boolean apply(JournalRecord record) {
+        Table table = tableRepository.get(record.getTableId());
+        if (table != null && record.getSequence() <= table.getJournalSequence()) {
+            return false;
+        }
+        if (record.getType() == JournalRecord.Type.CREATE_TABLE) {
+            table = new Table(record.getTableId());
+            if (tableRepository.putIfAbsent(table.getId(), table) != null) {
+                throw new IllegalArgumentException("이미 존재하는 테이블 ID입니다.");
+            }
+            table.setJournalSequence(record.getSequence());
+            return true;
+        }
+        if (table == null) {
+            throw new IllegalArgumentException("존재하지 않는 테이블입니다: " + record.getTableId());
+        }
+        switch (record.getType()) {
+            case JOIN -> table.addPlayer(new Player(record.getPlayerId(), record.getName(), record.getValue()));
+            case START -> startGame(table, record.getValue());
+            case NEXT_STREET -> nextStreet(table);
+            case ACTION -> {
+                ActionResult result = applyAction(table, table.findPlayer(record.getPlayerId()), record.getAction(), record.getValue());
+                if (!result.isSuccess()) {
+                    // 기록은 성공한 명령만 남으므로 여기서 거절되면 코드/설정(블라인드 등)이 바뀐 것
+                    throw new IllegalStateException("저널 재생 불일치: seq=" + record.getSequence() + " " + result);
+                }
+            }
+            default -> throw new IllegalStateException("알 수 없는 저널 기록: " + record.getType());
+        }
+        table.setJournalSequence(record.getSequence());
+        return true;
+    }
 
-        long prizePerWinner = totalPot / winnersCount;
-        long remainder = totalPot % winnersCount;
+    // 읽기 전용 상태 (마지막으로 커밋된 스냅샷, 락 없음)
+    public TableSnapshot getSnapshot(String tableId) {
+        return getTableOrThrow(tableId).getSnapshot();
+    }
 
-        // 팟 분배 결과
-        for (Player winner : winners) {
-            winner.winChips(prizePerWinner);
-        }
+    // --- Helper Methods (복잡도 분리) ---
 
-        // 자투리 칩 처리 (SB 포지션 등 규칙이 있지만, 여기선 첫 번째 승자에게 몰아주기)
-        if (remainder > 0) {
-            winners.get(0).winChips(remainder);
-        }
+    // 명령 실행 후 성공하면 새 버전 스냅샷 발행 (실패하면 이전 스냅샷 유지)
+    private CompletableFuture<Void> execute(Table table, Runnable command) {
+        return tableExecutor.run(table, () -> {
+            command.run();
+            table.publishSnapshot();
+        });
     }
 
     public Table getTableOrThrow(String tableId) {
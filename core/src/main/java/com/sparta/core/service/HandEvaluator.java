@@ -38,6 +38,60 @@ public class HandEvaluator {
         return checkPairs(cards);
     }
 
+    // 카드 집합(CardSet) 판정 -> 기본 구현은 리스트로 풀어서 evaluate(List) 에 위임
+    public HandScore evaluate(long cards) {
+        return evaluate(CardSet.toList(cards));
+    }
+
+    // packed 점수만 필요할 때 (HandScore.getValue() 와 같은 값)
+    public int evaluateValue(long cards) {
+        return evaluate(cards).getValue();
+    }
+
+    // 보드 공유 계산용 (rankKey 를 미리 구해 두는 엔진만 활용, 기본 구현은 키를 무시)
+    public int evaluateValue(long cards, long rankKey) {
+        return evaluateValue(cards);
+    }
+
+    // 카드 집합의 숫자별 장수 키 (서로 겹치지 않는 집합의 키는 더하면 합집합의 키)
+    public long rankKey(long cards) {
+        return 0L;
+    }
+
+    /**
+     * 쇼다운 일괄 판정: 보드는 한 번만 분석하고, 플레이어마다 손패 2장 몫만 더해서 점수 계산
+     * @param board     바닥 카드 (CardSet)
+     * @param holeCards 플레이어별 손패 (CardSet)
+     * @param scores    플레이어별 packed 점수를 채울 배열 (필요 없으면 null)
+     * @return 최고 점수 플레이어 인덱스의 비트마스크 (공동 우승이면 비트가 여러 개)
+     */
+    public long findWinners(long board, long[] holeCards, int[] scores) {
+        validateShowdown(holeCards, scores);
+        long boardKey = rankKey(board);
+        int best = Integer.MIN_VALUE;
+        long winners = 0;
+        for (int p = 0; p < holeCards.length; p++) {
+            int value = evaluateValue(board | holeCards[p], boardKey + rankKey(holeCards[p]));
+            if (scores != null) scores[p] = value;
+            if (value > best) {
+                best = value;
+                winners = 1L << p;
+            } else if (value == best) {
+                winners |= 1L << p;
+            }
+        }
+        return winners;
+    }
+
+    static void validateShowdown(long[] holeCards, int[] scores) {
+        if (holeCards.length == 0 || holeCards.length > Long.SIZE) {
+            throw new IllegalArgumentException("판정할 플레이어는 1~64명이어야 합니다.");
+        }
+        if (scores != null && scores.length < holeCards.length) {
+            throw new IllegalArgumentException("점수 배열이 플레이어 수보다 작습니다.");
+        }
+    }
+
     // --- 내부 로직 ---
     private HandScore checkFlush(List<Card> cards) {
         // 1. 무늬별로 그룹핑
@@ -82,11 +136,16 @@ public class HandEvaluator {
 
     private HandScore checkStraight(List<Card> cards) {
         // 중복 숫자 제거 및 정렬
-        List<Integer> ranks = cards.stream()
+        List<Integer> ranks = new ArrayList<>(cards.stream()
                 .map(c -> c.getRank().getValue())
                 .distinct()
                 .sorted(Collections.reverseOrder())
-                .toList();
+                .toList());
+
+        // A는 1로도 쓰일 수 있음 (A-2-3-4-5 휠 스트레이트)
+        if (ranks.contains(14)) {
+            ranks.add(1);
+        }
 
         // 연속된 5개 숫자 찾기
         for (int i = 0; i <= ranks.size() - 5; i++) {
@@ -0,0 +1,45 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.ActionType;
+import lombok.Getter;
+
+/**
+ * 저널에서 읽은 명령 한 건 (재생용, 샤드마다 하나를 재사용)
+ * - value: JOIN = 바이인 칩, START = 셔플 시드, ACTION = 금액
+ */
+@Getter
+public class JournalRecord {
+
+    public enum Type {
+        CREATE_TABLE, JOIN, START, ACTION, NEXT_STREET;
+
+        private static final Type[] VALUES = values();
+
+        // 0 은 빈 칸(기록 끝)이라 1부터
+        int code() {
+            return ordinal() + 1;
+        }
+
+        static Type of(int code) {
+            return code >= 1 && code <= VALUES.length ? VALUES[code - 1] : null;
+        }
+    }
+
+    private long sequence; // 샤드 안에서 1씩 증가
+    private Type type;
+    private String tableId;
+    private String playerId; // JOIN, ACTION
+    private String name; // JOIN
+    private ActionType action; // ACTION
+    private long value;
+
+    void set(long sequence, Type type, String tableId, String playerId, String name, ActionType action, long value) {
+        this.sequence = sequence;
+        this.type = type;
+        this.tableId = tableId;
+        this.playerId = playerId;
+        this.name = name;
+        this.action = action;
+        this.value = value;
+    }
+}
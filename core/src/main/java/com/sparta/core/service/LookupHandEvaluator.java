@@ -0,0 +1,300 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.*;
+
+import java.util.List;
+
+/**
+ * 룩업 테이블 기반 족보 판정 엔진
+ * - 카드 7장을 52비트 카드 집합(CardSet) long 하나로 받습니다.
+ * - 플러시는 무늬별 13비트 마스크로 FLUSH 테이블을 바로 조회합니다.
+ * - 그 외 족보는 숫자별 장수(0~4)를 5진수 수열로 보고, 완전 해시(perfect hash)로 RANKS 테이블을 조회합니다.
+ * - 판정 경로에서 객체를 하나도 만들지 않으며, 결과는 HandScore 와 같은 packed int 점수입니다.
+ */
+public class LookupHandEvaluator extends HandEvaluator {
+
+    private static final int RANK_COUNT = CardSet.RANK_COUNT;
+    private static final int RANK_MASK = 0x1FFF;
+    private static final int MAX_CARDS = 7;
+    private static final int MIN_CARDS = 5;
+
+    // [13비트 숫자 마스크] -> 숫자별 장수를 3bit 필드로 펼친 값 (무늬 4개를 더하면 숫자별 장수가 됨)
+    private static final long[] SPREAD = new long[1 << RANK_COUNT];
+    // [13비트 무늬 마스크] -> 플러시 계열 점수 (5장 미만이면 0)
+    private static final int[] FLUSH = new int[1 << RANK_COUNT];
+    // 5진수 수열 완전 해시용 누적 개수 테이블: OFFSETS[(q * 13 + n) * 8 + k]
+    private static final int[] OFFSETS = new int[5 * RANK_COUNT * (MAX_CARDS + 1)];
+    // 카드 장수(5~7)별 RANKS 시작 위치
+    private static final int[] BASE = new int[MAX_CARDS + 1];
+    // [BASE[n] + hash] -> 플러시가 아닌 족보 점수
+    private static final int[] RANKS;
+
+    static {
+        // 1) 길이 n, 각 자리 0~4, 합이 k 인 수열의 개수
+        int[][] count = new int[RANK_COUNT + 1][MAX_CARDS + 1];
+        count[0][0] = 1;
+        for (int n = 1; n <= RANK_COUNT; n++) {
+            for (int k = 0; k <= MAX_CARDS; k++) {
+                for (int d = 0; d <= 4 && d <= k; d++) {
+                    count[n][k] += count[n - 1][k - d];
+                }
+            }
+        }
+        for (int q = 0; q <= 4; q++) {
+            for (int n = 0; n < RANK_COUNT; n++) {
+                for (int k = 0; k <= MAX_CARDS; k++) {
+                    int sum = 0;
+                    for (int d = 0; d < q && d <= k; d++) {
+                        sum += count[n][k - d];
+                    }
+                    OFFSETS[(q * RANK_COUNT + n) * (MAX_CARDS + 1) + k] = sum;
+                }
+            }
+        }
+
+        // 2) 마스크 단위 테이블
+        for (int mask = 0; mask < SPREAD.length; mask++) {
+            long spread = 0;
+            for (int r = 0; r < RANK_COUNT; r++) {
+                if ((mask & (1 << r)) != 0) spread += 1L << (3 * r);
+            }
+            SPREAD[mask] = spread;
+            if (Integer.bitCount(mask) >= MIN_CARDS) {
+                FLUSH[mask] = scoreFlush(mask);
+            }
+        }
+
+        // 3) 5~7장 모든 숫자 조합을 열거하여 RANKS 채우기
+        int size = 0;
+        for (int n = MIN_CARDS; n <= MAX_CARDS; n++) {
+            BASE[n] = size;
+            size += count[RANK_COUNT][n];
+        }
+        RANKS = new int[size];
+        for (int n = MIN_CARDS; n <= MAX_CARDS; n++) {
+            fillRanks(new int[RANK_COUNT], 0, n, n);
+        }
+    }
+
+    @Override
+    public HandScore evaluate(List<Card> cards) {
+        if (cards == null || cards.size() < MIN_CARDS) {
+            throw new IllegalArgumentException("카드가 부족합니다.");
+        }
+        if (cards.size() > MAX_CARDS) {
+            return super.evaluate(cards); // 홀덤에서는 나오지 않는 경우 -> 기존 엔진으로 처리
+        }
+
+        long mask = CardSet.of(cards);
+        if (Long.bitCount(mask) != cards.size()) {
+            throw new IllegalArgumentException("중복된 카드가 있습니다.");
+        }
+        return evaluate(mask);
+    }
+
+    @Override
+    public HandScore evaluate(long cards) {
+        // bestFive 는 UI/로그에서 요청할 때 카드 집합에서 복원
+        return new HandScore(evaluateValue(cards), cards);
+    }
+
+    /**
+     * [핵심] 5~7장 카드 집합(CardSet) -> packed 점수 (할당 없음)
+     * 값 구조는 HandScore.getValue() 와 같으므로, int 비교 한 번이 곧 HandScore.compareTo 입니다.
+     */
+    @Override
+    public int evaluateValue(long cards) {
+        return evaluateValue(cards, rankKey(cards));
+    }
+
+    /**
+     * 숫자별 장수 키를 미리 구해 둔 경우의 판정 (보드 공유 계산용)
+     * - rankKey 는 서로 겹치지 않는 카드 집합끼리 더하면 합집합의 키가 됩니다.
+     *   -> 보드 키는 한 번만 구하고, 플레이어마다 손패 키만 더해서 판정
+     */
+    @Override
+    public int evaluateValue(long cards, long rankKey) {
+        int n = Long.bitCount(cards);
+        if (n < MIN_CARDS || n > MAX_CARDS) {
+            throw new IllegalArgumentException("카드는 5~7장이어야 합니다.");
+        }
+
+        for (int suit = 0; suit < 4; suit++) {
+            int suited = (int) (cards >>> (suit * RANK_COUNT)) & RANK_MASK;
+            // 7장 이하에서는 플러시가 생기면 포카드/풀하우스가 불가능하므로 바로 반환
+            if (Integer.bitCount(suited) >= MIN_CARDS) {
+                return FLUSH[suited];
+            }
+        }
+        return RANKS[BASE[n] + hash(rankKey, n)];
+    }
+
+    // 보드의 무늬별 장수를 먼저 봐서, 3장 이상 모인 무늬가 없으면 아무도 플러시가 될 수 없으므로 숫자 키만 조회
+    @Override
+    public long findWinners(long board, long[] holeCards, int[] scores) {
+        validateShowdown(holeCards, scores);
+        int n = Long.bitCount(board) + 2;
+        if (n < MIN_CARDS || n > MAX_CARDS) {
+            throw new IllegalArgumentException("카드는 5~7장이어야 합니다.");
+        }
+
+        int flushSuits = 0; // 플러시 가능한 무늬 비트
+        for (int suit = 0; suit < 4; suit++) {
+            int suited = (int) (board >>> (suit * RANK_COUNT)) & RANK_MASK;
+            if (Integer.bitCount(suited) >= MIN_CARDS - 2) flushSuits |= 1 << suit;
+        }
+        long boardKey = rankKey(board);
+
+        int best = Integer.MIN_VALUE;
+        long winners = 0;
+        for (int p = 0; p < holeCards.length; p++) {
+            long cards = board | holeCards[p];
+            if (Long.bitCount(cards) != n) {
+                throw new IllegalArgumentException("손패는 2장이어야 하며 바닥 카드와 겹칠 수 없습니다.");
+            }
+            int value = -1;
+            for (int rest = flushSuits; rest != 0; rest &= rest - 1) {
+                int suit = Integer.numberOfTrailingZeros(rest);
+                int suited = (int) (cards >>> (suit * RANK_COUNT)) & RANK_MASK;
+                if (Integer.bitCount(suited) >= MIN_CARDS) {
+                    value = FLUSH[suited];
+                    break;
+                }
+            }
+            if (value < 0) {
+                value = RANKS[BASE[n] + hash(boardKey + rankKey(holeCards[p]), n)];
+            }
+
+            if (scores != null) scores[p] = value;
+            if (value > best) {
+                best = value;
+                winners = 1L << p;
+            } else if (value == best) {
+                winners |= 1L << p;
+            }
+        }
+        return winners;
+    }
+
+    // 카드 집합 -> 숫자별 장수를 3bit 필드로 모은 키
+    @Override
+    public long rankKey(long cards) {
+        long key = 0;
+        for (int suit = 0; suit < 4; suit++) {
+            key += SPREAD[(int) (cards >>> (suit * RANK_COUNT)) & RANK_MASK];
+        }
+        return key;
+    }
+
+    // 정수 카드 7장 판정 (카드 인덱스는 Card.getIndex() 참고)
+    public int evaluateValue(int c1, int c2, int c3, int c4, int c5, int c6, int c7) {
+        return evaluateValue((1L << c1) | (1L << c2) | (1L << c3) | (1L << c4)
+                | (1L << c5) | (1L << c6) | (1L << c7));
+    }
+
+    // --- 판정 내부 로직 ---
+
+    // 숫자별 장수 수열(높은 숫자가 상위 자리)의 사전순 순위 = 완전 해시
+    private static int hash(long key, int k) {
+        int sum = 0;
+        for (int r = RANK_COUNT - 1; r >= 0 && k > 0; r--) {
+            int q = (int) (key >>> (3 * r)) & 7;
+            sum += OFFSETS[(q * RANK_COUNT + r) * (MAX_CARDS + 1) + k];
+            k -= q;
+        }
+        return sum;
+    }
+
+    private static int pack(HandRank rank, int k1, int k2, int k3, int k4, int k5) {
+        return rank.getValue() << HandScore.CATEGORY_SHIFT | k1 << 16 | k2 << 12 | k3 << 8 | k4 << 4 | k5;
+    }
+
+    private static void fillRanks(int[] counts, int rank, int remaining, int n) {
+        if (rank == RANK_COUNT) {
+            if (remaining != 0) return;
+            long key = 0;
+            for (int r = 0; r < RANK_COUNT; r++) {
+                key += (long) counts[r] << (3 * r);
+            }
+            RANKS[BASE[n] + hash(key, n)] = scoreCounts(counts);
+            return;
+        }
+        for (int c = 0; c <= 4 && c <= remaining; c++) {
+            counts[rank] = c;
+            fillRanks(counts, rank + 1, remaining - c, n);
+        }
+        counts[rank] = 0;
+    }
+
+    // 숫자별 장수 -> 점수 (플러시 제외, 테이블 생성 시에만 사용)
+    private static int scoreCounts(int[] counts) {
+        int present = 0;
+        int quad = 0, trip = 0, trip2 = 0, pair = 0, pair2 = 0;
+        for (int r = RANK_COUNT - 1; r >= 0; r--) {
+            int c = counts[r];
+            int value = r + 2;
+            if (c > 0) present |= 1 << r;
+            if (c == 4) quad = value;
+            else if (c == 3) {
+                if (trip == 0) trip = value;
+                else if (trip2 == 0) trip2 = value;
+            } else if (c == 2) {
+                if (pair == 0) pair = value;
+                else if (pair2 == 0) pair2 = value;
+            }
+        }
+
+        if (quad != 0) {
+            return withKickers(pack(HandRank.FOUR_OF_A_KIND, quad, 0, 0, 0, 0), without(present, quad), 1, 1);
+        }
+        if (trip != 0 && (trip2 != 0 || pair != 0)) {
+            return pack(HandRank.FULL_HOUSE, trip, Math.max(trip2, pair), 0, 0, 0);
+        }
+        int straight = straightTop(present);
+        if (straight != 0) {
+            return pack(HandRank.STRAIGHT, straight, 0, 0, 0, 0);
+        }
+        if (trip != 0) {
+            return withKickers(pack(HandRank.THREE_OF_A_KIND, trip, 0, 0, 0, 0), without(present, trip), 1, 2);
+        }
+        if (pair2 != 0) {
+            return withKickers(pack(HandRank.TWO_PAIR, pair, pair2, 0, 0, 0), without(without(present, pair), pair2), 2, 1);
+        }
+        if (pair != 0) {
+            return withKickers(pack(HandRank.ONE_PAIR, pair, 0, 0, 0, 0), without(present, pair), 1, 3);
+        }
+        return withKickers(pack(HandRank.HIGH_CARD, 0, 0, 0, 0, 0), present, 0, 5);
+    }
+
+    // 같은 무늬 5장 이상 -> 로얄/스트레이트 플러시/플러시
+    private static int scoreFlush(int suited) {
+        int straight = straightTop(suited);
+        if (straight == 14) return pack(HandRank.ROYAL_FLUSH, 14, 0, 0, 0, 0);
+        if (straight != 0) return pack(HandRank.STRAIGHT_FLUSH, straight, 0, 0, 0, 0);
+        return withKickers(pack(HandRank.FLUSH, 0, 0, 0, 0, 0), suited, 0, 5);
+    }
+
+    // 마스크에서 높은 숫자부터 count 개를 slot 자리부터 키커로 채움
+    private static int withKickers(int value, int mask, int slot, int count) {
+        for (int i = 0; i < count; i++) {
+            int r = 31 - Integer.numberOfLeadingZeros(mask);
+            value |= (r + 2) << (16 - 4 * (slot + i));
+            mask &= ~(1 << r);
+        }
+        return value;
+    }
+
+    private static int without(int mask, int rankValue) {
+        return mask & ~(1 << (rankValue - 2));
+    }
+
+    // 스트레이트 최고 숫자 (A-2-3-4-5 는 5), 없으면 0
+    private static int straightTop(int present) {
+        for (int top = RANK_COUNT - 1; top >= 4; top--) {
+            int run = 0x1F << (top - 4);
+            if ((present & run) == run) return top + 2;
+        }
+        int wheel = 0x100F; // A, 2, 3, 4, 5
+        return (present & wheel) == wheel ? 5 : 0;
+    }
+}
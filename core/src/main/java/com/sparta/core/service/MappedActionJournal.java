@@ -0,0 +1,374 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.ActionType;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32C;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 메모리 매핑 세그먼트 파일에 명령을 이어 쓰는 저널
+ * - 테이블 ID 해시로 샤드를 고르고, 샤드마다 디렉터리 하나 + 고정 크기 세그먼트 파일 (segment-00000000.log ...)
+ * - 레코드는 128바이트 고정 크기 -> append 는 매핑된 버퍼에 128바이트 복사 한 번 (시스템 콜, 할당 없음)
+ * - fsync 는 flusher 스레드가 주기적으로 샤드별 새로 쓴 구간만 force (group commit)
+ *   -> 프로세스가 죽어도 매핑된 페이지는 OS 에 남아 유지, 전원 장애 시에는 마지막 flush 이후 기록이 유실될 수 있음
+ *   -> flushInterval 이 0 이면 append 마다 force (느리지만 전원 장애에도 안전)
+ * - 재생은 샤드별로 병렬, CRC 가 맞지 않거나 순번이 끊긴 레코드(쓰다 만 꼬리)에서 멈추고 그 자리부터 다시 씀
+ *
+ * 레코드 구조 (128 bytes, little-endian)
+ * [crc32c 4][type 1][action+1 1][tableId len 1][playerId len 1][name len 1][reserved 3][generation 4]
+ * [sequence 8][value 8][tableId 32][playerId 32][name 32]
+ * - 문자열 길이 0xFF = null (0 은 빈 문자열)
+ * - crc 는 4번째 바이트부터 끝까지, type 0 = 빈 칸 (기록 끝)
+ * - generation 은 저널을 열 때마다 1씩 증가 -> 이전 실행에서 남은 꼬리 레코드와 새 레코드를 구분
+ */
+public class MappedActionJournal implements ActionJournal {
+
+    static final int RECORD_BYTES = 128;
+    static final int MAX_FIELD_BYTES = 32; // tableId, playerId, name 각각 UTF-8 32바이트까지
+
+    private static final int OFF_CRC = 0;
+    private static final int OFF_TYPE = 4;
+    private static final int OFF_ACTION = 5;
+    private static final int OFF_LENGTHS = 6; // tableId, playerId, name 길이 순서
+    private static final int NULL_LENGTH = 0xFF; // MAX_FIELD_BYTES 보다 큰 값이라 실제 길이와 겹치지 않음
+    private static final int OFF_GENERATION = 12;
+    private static final int OFF_SEQUENCE = 16;
+    private static final int OFF_VALUE = 24;
+    private static final int OFF_FIELDS = 32; // tableId, playerId, name 순서로 32바이트씩
+
+    private static final ActionType[] ACTIONS = ActionType.values();
+
+    private final Shard[] shards;
+    private final ScheduledExecutorService flusher; // 매번 force 하면 null
+
+    /**
+     * @param recordsPerSegment 세그먼트 파일 하나에 들어가는 레코드 수 (파일 크기 = 128 * 레코드 수)
+     * @param flushInterval     group commit 주기 (0 이면 append 마다 force)
+     */
+    public MappedActionJournal(Path directory, int shardCount, int recordsPerSegment, Duration flushInterval) {
+        if (shardCount < 1 || recordsPerSegment < 1 || (long) recordsPerSegment * RECORD_BYTES > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("저널 설정이 올바르지 않습니다.");
+        }
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> existing = Files.list(directory)) {
+                long count = existing.filter(p -> p.getFileName().toString().startsWith("shard-")).count();
+                if (count != 0 && count != shardCount) {
+                    // 샤드 수가 바뀌면 같은 테이블의 기록이 두 샤드에 나뉘어 순서가 깨짐
+                    throw new IllegalStateException("저널 샤드 수가 기존(" + count + ")과 다릅니다: " + shardCount);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("저널 디렉터리를 열 수 없습니다: " + directory, e);
+        }
+
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(directory.resolve(String.format("shard-%03d", i)), recordsPerSegment * RECORD_BYTES);
+        }
+
+        boolean syncEveryAppend = flushInterval.isZero();
+        for (Shard shard : shards) shard.syncEveryAppend = syncEveryAppend;
+        if (syncEveryAppend) {
+            this.flusher = null;
+        } else {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "journal-flusher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long nanos = flushInterval.toNanos();
+            flusher.scheduleWithFixedDelay(this::flush, nanos, nanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean accepts(String value) {
+        return value == null || utf8Length(value) <= MAX_FIELD_BYTES;
+    }
+
+    @Override
+    public long append(JournalRecord.Type type, String tableId, String playerId, String name,
+                       ActionType action, long value) {
+        return shardOf(tableId).append(type, tableId, playerId, name, action, value);
+    }
+
+    @Override
+    public void replay(Consumer<JournalRecord> handler) {
+        IntStream.range(0, shards.length).parallel().forEach(i -> {
+            try {
+                shards[i].recover(handler);
+            } catch (IOException e) {
+                throw new UncheckedIOException("저널을 읽을 수 없습니다: " + shards[i].directory, e);
+            }
+        });
+    }
+
+    @Override
+    public void advanceSequence(String tableId, long sequence) {
+        shardOf(tableId).advanceSequence(sequence);
+    }
+
+    // 새로 쓴 구간만 디스크에 반영 (flusher 스레드, 체크포인트 직전)
+    @Override
+    public void flush() {
+        for (Shard shard : shards) {
+            shard.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(1, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        flush();
+    }
+
+    private Shard shardOf(String tableId) {
+        return shards[Math.floorMod(tableId.hashCode(), shards.length)];
+    }
+
+    private static final class Shard {
+        final Path directory;
+        final int segmentBytes;
+        boolean syncEveryAppend;
+
+        // 쓰기 상태 (synchronized)
+        private final byte[] scratch = new byte[RECORD_BYTES];
+        private final ByteBuffer record = ByteBuffer.wrap(scratch).order(ByteOrder.LITTLE_ENDIAN);
+        private final CRC32C crc = new CRC32C();
+        private MappedByteBuffer segment; // 복구 전에는 null
+        private int segmentIndex;
+        private int position; // 세그먼트 안 다음 쓰기 위치 (바이트)
+        private int flushedPosition; // 디스크 반영이 끝난 위치
+        private final Object flushLock = new Object();
+        private long nextSequence = 1;
+        private int generation;
+
+        Shard(Path directory, int segmentBytes) {
+            this.directory = directory;
+            this.segmentBytes = segmentBytes;
+        }
+
+        synchronized long append(JournalRecord.Type type, String tableId, String playerId, String name,
+                                 ActionType action, long value) {
+            if (segment == null) {
+                throw new IllegalStateException("저널 복구(replay) 전에는 기록할 수 없습니다.");
+            }
+            if (position + RECORD_BYTES > segment.capacity()) {
+                roll();
+            }
+
+            Arrays.fill(scratch, (byte) 0);
+            scratch[OFF_TYPE] = (byte) type.code();
+            scratch[OFF_ACTION] = (byte) (action == null ? 0 : action.ordinal() + 1); // 0 = 없음
+            scratch[OFF_LENGTHS] = (byte) putString(tableId, OFF_FIELDS);
+            scratch[OFF_LENGTHS + 1] = (byte) putString(playerId, OFF_FIELDS + MAX_FIELD_BYTES);
+            scratch[OFF_LENGTHS + 2] = (byte) putString(name, OFF_FIELDS + 2 * MAX_FIELD_BYTES);
+            record.putInt(OFF_GENERATION, generation);
+            record.putLong(OFF_SEQUENCE, nextSequence);
+            record.putLong(OFF_VALUE, value);
+            crc.reset();
+            crc.update(scratch, OFF_TYPE, RECORD_BYTES - OFF_TYPE);
+            record.putInt(OFF_CRC, (int) crc.getValue());
+
+            segment.put(position, scratch);
+            position += RECORD_BYTES;
+            if (syncEveryAppend) {
+                segment.force(position - RECORD_BYTES, RECORD_BYTES);
+                flushedPosition = position;
+            }
+            return nextSequence++;
+        }
+
+        synchronized void advanceSequence(long sequence) {
+            if (sequence >= nextSequence) {
+                nextSequence = sequence + 1;
+            }
+        }
+
+        // force 는 append 락 밖에서 (기록을 막지 않음), 대신 flush 끼리는 flushLock 으로 한 번에 하나씩
+        // -> 다른 flush 가 force 하는 중이면 끝날 때까지 기다렸다가 돌아감 (체크포인트 직전 flush 가 먼저 돌아가지 않게)
+        // flushedPosition 은 force 가 끝난 뒤에만 올림
+        void flush() {
+            synchronized (flushLock) {
+                MappedByteBuffer target;
+                int from, to;
+                synchronized (this) {
+                    target = segment;
+                    from = flushedPosition;
+                    to = position;
+                }
+                if (target == null || to <= from) return;
+                target.force(from, to - from);
+                synchronized (this) {
+                    if (segment == target && to > flushedPosition) { // 그 사이 roll 했으면 새 세그먼트 위치는 건드리지 않음
+                        flushedPosition = to;
+                    }
+                }
+            }
+        }
+
+        // 세그먼트가 꽉 참 -> 끝까지 디스크에 반영하고 다음 파일로
+        private void roll() {
+            segment.force();
+            try {
+                openSegment(segmentIndex + 1, 0);
+            } catch (IOException e) {
+                throw new UncheckedIOException("저널 세그먼트를 만들 수 없습니다: " + directory, e);
+            }
+        }
+
+        private void openSegment(int index, int startPosition) throws IOException {
+            Path file = segmentFile(index);
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                long size = Math.max(channel.size(), segmentBytes);
+                segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, size); // 매핑은 채널을 닫아도 유지됨
+            }
+            segmentIndex = index;
+            position = startPosition;
+            flushedPosition = startPosition;
+        }
+
+        // 기록 재생 후 마지막 유효 레코드 다음 칸부터 쓸 수 있게 준비
+        synchronized void recover(Consumer<JournalRecord> handler) throws IOException {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> list = Files.list(directory)) {
+                files = list.filter(p -> p.getFileName().toString().matches("segment-\\d{8}\\.log")).sorted().toList();
+            }
+
+            JournalRecord decoded = new JournalRecord();
+            long expected = -1; // 다음 순번 (-1: 아직 못 읽음)
+            int lastGeneration = 0;
+            int resumeIndex = 0, resumePosition = 0;
+            boolean stopped = false;
+
+            for (Path file : files) {
+                int index = indexOf(file);
+                if (stopped) {
+                    // 중간에 끊긴 뒤의 세그먼트는 이어 붙일 수 없음 -> 보존만 하고 제외
+                    Files.move(file, file.resolveSibling(file.getFileName() + ".orphan"), StandardCopyOption.REPLACE_EXISTING);
+                    continue;
+                }
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+                    int pos = 0;
+                    for (; pos + RECORD_BYTES <= buffer.capacity(); pos += RECORD_BYTES) {
+                        buffer.get(pos, scratch);
+                        if (!isValid(expected, lastGeneration)) {
+                            stopped = true;
+                            break;
+                        }
+                        decode(decoded);
+                        handler.accept(decoded);
+                        expected = decoded.getSequence() + 1;
+                        lastGeneration = record.getInt(OFF_GENERATION);
+                    }
+                    resumeIndex = stopped ? index : index + 1;
+                    resumePosition = stopped ? pos : 0;
+                }
+            }
+
+            nextSequence = expected < 0 ? 1 : expected;
+            generation = lastGeneration + 1;
+            openSegment(resumeIndex, resumePosition);
+        }
+
+        private boolean isValid(long expected, int lastGeneration) {
+            if (scratch[OFF_TYPE] == 0 || JournalRecord.Type.of(scratch[OFF_TYPE]) == null) return false;
+            crc.reset();
+            crc.update(scratch, OFF_TYPE, RECORD_BYTES - OFF_TYPE);
+            if (record.getInt(OFF_CRC) != (int) crc.getValue()) return false; // 쓰다 만 레코드
+            int recordGeneration = record.getInt(OFF_GENERATION);
+            if (recordGeneration < lastGeneration) return false; // 이전 실행의 꼬리
+            long sequence = record.getLong(OFF_SEQUENCE);
+            // 새 실행의 첫 기록은 순번이 건너뛸 수 있음 (체크포인트 순번 뒤로 advanceSequence)
+            return expected < 0 || sequence == expected || (recordGeneration > lastGeneration && sequence > expected);
+        }
+
+        private void decode(JournalRecord into) {
+            int action = scratch[OFF_ACTION];
+            into.set(record.getLong(OFF_SEQUENCE),
+                    JournalRecord.Type.of(scratch[OFF_TYPE]),
+                    getString(OFF_FIELDS, scratch[OFF_LENGTHS]),
+                    getString(OFF_FIELDS + MAX_FIELD_BYTES, scratch[OFF_LENGTHS + 1]),
+                    getString(OFF_FIELDS + 2 * MAX_FIELD_BYTES, scratch[OFF_LENGTHS + 2]),
+                    action == 0 ? null : ACTIONS[action - 1],
+                    record.getLong(OFF_VALUE));
+        }
+
+        // ASCII 는 문자 단위로 바로 기록 (인코딩 버퍼 할당 없음)
+        private int putString(String value, int offset) {
+            if (value == null) return NULL_LENGTH;
+            int length = value.length();
+            for (int i = 0; i < length; i++) {
+                char c = value.charAt(i);
+                if (c >= 0x80) {
+                    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                    if (bytes.length > MAX_FIELD_BYTES) throw new IllegalArgumentException("저널 필드가 너무 깁니다: " + value);
+                    System.arraycopy(bytes, 0, scratch, offset, bytes.length);
+                    return bytes.length;
+                }
+                if (i >= MAX_FIELD_BYTES) throw new IllegalArgumentException("저널 필드가 너무 깁니다: " + value);
+                scratch[offset + i] = (byte) c;
+            }
+            return length;
+        }
+
+        private String getString(int offset, int length) {
+            int unsigned = length & 0xFF;
+            if (unsigned == NULL_LENGTH) return null;
+            return unsigned == 0 ? "" : new String(scratch, offset, unsigned, StandardCharsets.UTF_8);
+        }
+
+        private Path segmentFile(int index) {
+            return directory.resolve(String.format("segment-%08d.log", index));
+        }
+
+        private static int indexOf(Path file) {
+            String name = file.getFileName().toString();
+            return Integer.parseInt(name.substring("segment-".length(), name.length() - ".log".length()));
+        }
+    }
+
+    private static int utf8Length(String value) {
+        int bytes = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) bytes++;
+            else if (c < 0x800) bytes += 2;
+            else if (Character.isHighSurrogate(c)) {
+                bytes += 4;
+                i++;
+            } else bytes += 3;
+        }
+        return bytes;
+    }
+}
@@ -0,0 +1,25 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.Table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 기존 방식: 호출 스레드가 테이블 모니터 락(synchronized)을 잡고 바로 실행
+ * - 반환되는 future 는 항상 이미 완료된 상태입니다.
+ * - 같은 테이블에 요청이 몰리면 호출 스레드(Tomcat, STOMP inbound)가 락을 기다리며 묶입니다.
+ */
+public class MonitorTableExecutor implements TableExecutor {
+
+    @Override
+    public <T> CompletableFuture<T> submit(Table table, Supplier<T> command) {
+        try {
+            synchronized (table) {
+                return CompletableFuture.completedFuture(command.get());
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.Card;
+import com.sparta.core.domain.CardSet;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 프리플랍 승률표 (169 스타팅 핸드 클래스 기준, 빌드 시 생성한 바이너리 파일을 메모리 매핑해서 사용)
+ * - 클래스 인덱스: 13x13 격자 [행 * 13 + 열] (페어 = 대각선, 수딧 = 행 > 열, 오프수딧 = 행 < 열)
+ * - 헤즈업: 클래스 A vs 클래스 B 의 승리/무승부 확률 (겹치지 않는 모든 콤보 조합 평균)
+ * - 멀티웨이: 클래스 A vs 무작위 손패 (1~8명) 의 equity
+ * - 파일은 FileChannel.map 으로 읽기 전용 매핑 -> 조회는 오프셋 계산 + getFloat 한 번, 힙에 복사하지 않음
+ *
+ * 파일 구조 (little-endian)
+ * [magic 4][version 4][classes 4][maxPlayers 4][samplesPerPair 4][reserved 4]
+ * [헤즈업: classes * classes * (win float, tie float)]
+ * [멀티웨이: classes * (maxPlayers - 1) * equity float]
+ */
+public class PreflopEquityTable {
+
+    public static final int CLASS_COUNT = CardSet.RANK_COUNT * CardSet.RANK_COUNT; // 169
+    public static final int MAX_PLAYERS = 9;
+
+    static final int MAGIC = 0x50464551; // "PFEQ"
+    static final int VERSION = 1;
+    static final int HEADER_BYTES = 24;
+    private static final int HEADS_UP_BYTES = CLASS_COUNT * CLASS_COUNT * 2 * Float.BYTES;
+    static final int FILE_BYTES = HEADER_BYTES + HEADS_UP_BYTES + CLASS_COUNT * (MAX_PLAYERS - 1) * Float.BYTES;
+
+    private static final PreflopEquityTable EMPTY = new PreflopEquityTable(null, 0);
+
+    private final ByteBuffer buffer; // 없으면 null (파일 미설정)
+    private final int samplesPerPair;
+
+    private PreflopEquityTable(ByteBuffer buffer, int samplesPerPair) {
+        this.buffer = buffer;
+        this.samplesPerPair = samplesPerPair;
+    }
+
+    // 승률표 파일이 설정되지 않았을 때 (조회하지 말고 계산기로 넘어가야 함)
+    public static PreflopEquityTable empty() {
+        return EMPTY;
+    }
+
+    public static PreflopEquityTable map(Path path) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            if (channel.size() != FILE_BYTES) {
+                throw new IllegalStateException("프리플랍 승률표 파일 크기가 올바르지 않습니다: " + path);
+            }
+            // 매핑은 채널을 닫아도 유지됨
+            MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_BYTES);
+            mapped.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapped.getInt(0) != MAGIC || mapped.getInt(4) != VERSION
+                    || mapped.getInt(8) != CLASS_COUNT || mapped.getInt(12) != MAX_PLAYERS) {
+                throw new IllegalStateException("프리플랍 승률표 형식이 올바르지 않습니다: " + path);
+            }
+            return new PreflopEquityTable(mapped, mapped.getInt(16));
+        } catch (IOException e) {
+            throw new UncheckedIOException("프리플랍 승률표를 읽을 수 없습니다: " + path, e);
+        }
+    }
+
+    /**
+     * 생성기 결과를 파일로 기록
+     * @param win      [hero * 169 + villain] 단독 승리 확률
+     * @param tie      [hero * 169 + villain] 무승부 확률
+     * @param multiway [hero * 8 + (players - 2)] 무작위 손패 상대 equity
+     */
+    static void write(Path path, float[] win, float[] tie, float[] multiway, int samplesPerPair) throws IOException {
+        ByteBuffer out = ByteBuffer.allocate(FILE_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        out.putInt(MAGIC).putInt(VERSION).putInt(CLASS_COUNT).putInt(MAX_PLAYERS).putInt(samplesPerPair).putInt(0);
+        for (int i = 0; i < CLASS_COUNT * CLASS_COUNT; i++) {
+            out.putFloat(win[i]).putFloat(tie[i]);
+        }
+        for (float equity : multiway) {
+            out.putFloat(equity);
+        }
+        out.flip();
+
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) Files.createDirectories(parent);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (out.hasRemaining()) {
+                channel.write(out);
+            }
+        }
+    }
+
+    public boolean isAvailable() {
+        return buffer != null;
+    }
+
+    public int getSamplesPerPair() {
+        return samplesPerPair;
+    }
+
+    // 손패 2장(CardSet)의 클래스 인덱스
+    public static int classOf(long holeCards) {
+        if (Long.bitCount(holeCards) != 2) {
+            throw new IllegalArgumentException("손패는 2장이어야 합니다.");
+        }
+        int first = Long.numberOfTrailingZeros(holeCards);
+        int second = 63 - Long.numberOfLeadingZeros(holeCards);
+        return classOf(first, second);
+    }
+
+    // 카드 인덱스 두 개의 클래스 인덱스
+    static int classOf(int card1, int card2) {
+        int rank1 = card1 % CardSet.RANK_COUNT, rank2 = card2 % CardSet.RANK_COUNT;
+        int high = Math.max(rank1, rank2), low = Math.min(rank1, rank2);
+        boolean suited = card1 / CardSet.RANK_COUNT == card2 / CardSet.RANK_COUNT;
+        return suited ? high * CardSet.RANK_COUNT + low : low * CardSet.RANK_COUNT + high;
+    }
+
+    // 클래스에 속한 콤보 수 (페어 6, 수딧 4, 오프수딧 12)
+    public static int comboCount(int classIndex) {
+        int row = classIndex / CardSet.RANK_COUNT, col = classIndex % CardSet.RANK_COUNT;
+        return row == col ? 6 : (row > col ? 4 : 12);
+    }
+
+    // hero 클래스가 villain 클래스를 상대로 가진 equity (승리 + 무승부 / 2)
+    public double headsUpEquity(int heroClass, int villainClass) {
+        int offset = headsUpOffset(heroClass, villainClass);
+        return buffer.getFloat(offset) + buffer.getFloat(offset + Float.BYTES) / 2.0;
+    }
+
+    public double headsUpWin(int heroClass, int villainClass) {
+        return buffer.getFloat(headsUpOffset(heroClass, villainClass));
+    }
+
+    public double headsUpTie(int heroClass, int villainClass) {
+        return buffer.getFloat(headsUpOffset(heroClass, villainClass) + Float.BYTES);
+    }
+
+    // hero 클래스가 무작위 손패 (players - 1)명을 상대로 가진 equity (멀티웨이 근사)
+    public double multiwayEquity(int heroClass, int players) {
+        if (players < 2 || players > MAX_PLAYERS) {
+            throw new IllegalArgumentException("인원은 2~" + MAX_PLAYERS + "명이어야 합니다.");
+        }
+        checkAvailable();
+        checkClass(heroClass);
+        return buffer.getFloat(HEADER_BYTES + HEADS_UP_BYTES + (heroClass * (MAX_PLAYERS - 1) + players - 2) * Float.BYTES);
+    }
+
+    private int headsUpOffset(int heroClass, int villainClass) {
+        checkAvailable();
+        checkClass(heroClass);
+        checkClass(villainClass);
+        return HEADER_BYTES + (heroClass * CLASS_COUNT + villainClass) * 2 * Float.BYTES;
+    }
+
+    private void checkAvailable() {
+        if (buffer == null) {
+            throw new IllegalStateException("프리플랍 승률표가 로드되지 않았습니다.");
+        }
+    }
+
+    private static void checkClass(int classIndex) {
+        if (classIndex < 0 || classIndex >= CLASS_COUNT) {
+            throw new IllegalArgumentException("잘못된 클래스 인덱스입니다: " + classIndex);
+        }
+    }
+
+    // 디버깅용 표기 (예: AKs, 72o, QQ)
+    public static String nameOf(int classIndex) {
+        String ranks = "23456789TJQKA";
+        int row = classIndex / CardSet.RANK_COUNT, col = classIndex % CardSet.RANK_COUNT;
+        if (row == col) return "" + ranks.charAt(row) + ranks.charAt(col);
+        int high = Math.max(row, col), low = Math.min(row, col);
+        return "" + ranks.charAt(high) + ranks.charAt(low) + (row > col ? "s" : "o");
+    }
+
+    // 클래스별 콤보 목록 (CardSet), 생성기에서 사용
+    static long[][] combosByClass() {
+        long[][] combos = new long[CLASS_COUNT][];
+        int[] filled = new int[CLASS_COUNT];
+        for (int c = 0; c < CLASS_COUNT; c++) {
+            combos[c] = new long[comboCount(c)];
+        }
+        for (int a = 0; a < Card.DECK_SIZE; a++) {
+            for (int b = a + 1; b < Card.DECK_SIZE; b++) {
+                int c = classOf(a, b);
+                combos[c][filled[c]++] = (1L << a) | (1L << b);
+            }
+        }
+        return combos;
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.Card;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.stream.IntStream;
+
+/**
+ * 프리플랍 승률표 생성기 (빌드 시 실행: ./gradlew :core:generatePreflopTable)
+ * - 클래스 쌍마다 두 클래스의 콤보를 무작위로 뽑고(겹치면 다시 뽑음) 보드 5장을 깔아 판정합니다.
+ *   -> 겹치지 않는 콤보 조합 전체에 대해 균등한 평균이 됩니다.
+ * - 행(hero 클래스) 단위로 병렬 계산하고, 행마다 고정 시드를 써서 같은 인자면 같은 파일이 나옵니다.
+ * - 1326x1326 콤보 단위 표는 쌍이 88만 개라 빌드 시간 안에 쓸 만한 정밀도로 만들 수 없어 생성하지 않습니다.
+ *   (콤보 단위가 필요하면 EquityEnumerator 로 정확히 계산)
+ */
+public class PreflopEquityTableGenerator {
+
+    private static final int BOARD_SIZE = 5;
+    private static final long SEED = 0x5EED_CAFEL;
+
+    private final HandEvaluator handEvaluator;
+    private final long[][] combos = PreflopEquityTable.combosByClass();
+
+    public PreflopEquityTableGenerator(HandEvaluator handEvaluator) {
+        this.handEvaluator = handEvaluator;
+    }
+
+    // usage: <출력 경로> [클래스 쌍당 샘플 수] [멀티웨이 클래스/인원당 샘플 수]
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            throw new IllegalArgumentException("출력 파일 경로가 필요합니다.");
+        }
+        Path output = Path.of(args[0]);
+        int samplesPerPair = args.length > 1 ? Integer.parseInt(args[1]) : 100_000;
+        int multiwaySamples = args.length > 2 ? Integer.parseInt(args[2]) : 200_000;
+
+        long started = System.nanoTime();
+        new PreflopEquityTableGenerator(new LookupHandEvaluator()).generate(output, samplesPerPair, multiwaySamples);
+        System.out.printf("프리플랍 승률표 생성 완료: %s (%d ms)%n", output, (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void generate(Path output, int samplesPerPair, int multiwaySamples) throws IOException {
+        if (samplesPerPair <= 0 || multiwaySamples <= 0) {
+            throw new IllegalArgumentException("샘플 수는 1 이상이어야 합니다.");
+        }
+        int classes = PreflopEquityTable.CLASS_COUNT;
+        float[] win = new float[classes * classes];
+        float[] tie = new float[classes * classes];
+        float[] multiway = new float[classes * (PreflopEquityTable.MAX_PLAYERS - 1)];
+
+        // 각 칸은 min(hero, villain) 행에서만 쓰므로 동기화 불필요
+        IntStream.range(0, classes).parallel().forEach(hero -> {
+            SplittableRandom random = new SplittableRandom(SEED + hero);
+            for (int villain = hero; villain < classes; villain++) {
+                fillHeadsUp(hero, villain, samplesPerPair, random, win, tie);
+            }
+            for (int players = 2; players <= PreflopEquityTable.MAX_PLAYERS; players++) {
+                multiway[hero * (PreflopEquityTable.MAX_PLAYERS - 1) + players - 2] =
+                        (float) sampleMultiway(hero, players, multiwaySamples, random);
+            }
+        });
+
+        PreflopEquityTable.write(output, win, tie, multiway, samplesPerPair);
+    }
+
+    private void fillHeadsUp(int hero, int villain, int samples, SplittableRandom random, float[] win, float[] tie) {
+        long[] heroCombos = combos[hero], villainCombos = combos[villain];
+        long wins = 0, ties = 0;
+        for (int s = 0; s < samples; s++) {
+            long heroCards, villainCards;
+            do {
+                heroCards = heroCombos[random.nextInt(heroCombos.length)];
+                villainCards = villainCombos[random.nextInt(villainCombos.length)];
+            } while ((heroCards & villainCards) != 0);
+
+            long board = dealBoard(heroCards | villainCards, random);
+            int heroValue = handEvaluator.evaluateValue(heroCards | board);
+            int villainValue = handEvaluator.evaluateValue(villainCards | board);
+            if (heroValue > villainValue) wins++;
+            else if (heroValue == villainValue) ties++;
+        }
+
+        int classes = PreflopEquityTable.CLASS_COUNT;
+        float winRate = (float) wins / samples, tieRate = (float) ties / samples;
+        win[hero * classes + villain] = winRate;
+        tie[hero * classes + villain] = tieRate;
+        // 반대편은 villain 기준으로 뒤집기 (같은 클래스끼리면 대칭이라 평균)
+        if (hero == villain) {
+            win[hero * classes + hero] = (1 - tieRate) / 2;
+        } else {
+            win[villain * classes + hero] = 1 - winRate - tieRate;
+            tie[villain * classes + hero] = tieRate;
+        }
+    }
+
+    private double sampleMultiway(int hero, int players, int samples, SplittableRandom random) {
+        long[] heroCombos = combos[hero];
+        double equity = 0;
+        for (int s = 0; s < samples; s++) {
+            long heroCards = heroCombos[random.nextInt(heroCombos.length)];
+            long used = heroCards;
+            long[] opponents = new long[players - 1];
+            for (int p = 0; p < opponents.length; p++) {
+                long hole = dealCard(used, random);
+                hole |= dealCard(used | hole, random);
+                opponents[p] = hole;
+                used |= hole;
+            }
+            long board = dealBoard(used, random);
+
+            int heroValue = handEvaluator.evaluateValue(heroCards | board);
+            int tied = 1;
+            boolean lost = false;
+            for (long opponent : opponents) {
+                int value = handEvaluator.evaluateValue(opponent | board);
+                if (value > heroValue) {
+                    lost = true;
+                    break;
+                }
+                if (value == heroValue) tied++;
+            }
+            if (!lost) equity += 1.0 / tied;
+        }
+        return equity / samples;
+    }
+
+    private static long dealBoard(long used, SplittableRandom random) {
+        long board = 0;
+        for (int i = 0; i < BOARD_SIZE; i++) {
+            board |= dealCard(used | board, random);
+        }
+        return board;
+    }
+
+    // 아직 나오지 않은 카드 한 장 (9인 테이블이어도 빠진 카드가 23장 이하라 재시도는 평균 2회 미만)
+    private static long dealCard(long used, SplittableRandom random) {
+        long card;
+        do {
+            card = 1L << random.nextInt(Card.DECK_SIZE);
+        } while ((used & card) != 0);
+        return card;
+    }
+}
@@ -0,0 +1,44 @@
+package com.sparta.core.service;
+
+import lombok.Getter;
+
+import java.time.Duration;
+
+/**
+ * Monte Carlo 샘플링 예산
+ * - maxSamples 또는 timeBudget 중 먼저 닿는 쪽에서 멈춥니다.
+ * - targetMargin(95% 신뢰구간 반폭)보다 오차가 작아지면 예산이 남아도 조기 종료합니다. (0 이면 조기 종료 안 함)
+ */
+@Getter
+public class SamplingBudget {
+    private final long maxSamples;
+    private final Duration timeBudget;
+    private final double targetMargin;
+
+    public SamplingBudget(long maxSamples, Duration timeBudget, double targetMargin) {
+        if (maxSamples <= 0) {
+            throw new IllegalArgumentException("샘플 수는 1 이상이어야 합니다.");
+        }
+        if (timeBudget.isNegative() || timeBudget.isZero()) {
+            throw new IllegalArgumentException("시간 예산은 0보다 커야 합니다.");
+        }
+        if (targetMargin < 0) {
+            throw new IllegalArgumentException("목표 오차는 0 이상이어야 합니다.");
+        }
+        this.maxSamples = maxSamples;
+        this.timeBudget = timeBudget;
+        this.targetMargin = targetMargin;
+    }
+
+    public static SamplingBudget samples(long maxSamples) {
+        return new SamplingBudget(maxSamples, Duration.ofDays(1), 0);
+    }
+
+    public static SamplingBudget time(Duration timeBudget) {
+        return new SamplingBudget(Long.MAX_VALUE, timeBudget, 0);
+    }
+
+    public SamplingBudget withTargetMargin(double targetMargin) {
+        return new SamplingBudget(maxSamples, timeBudget, targetMargin);
+    }
+}
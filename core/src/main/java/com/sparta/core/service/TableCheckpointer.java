@@ -0,0 +1,162 @@
+package com.sparta.core.service;
+
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * 전체 테이블 체크포인트 (재시작 시 저널을 처음부터 재생하지 않도록)
+ * - 테이블마다 자기 실행 스레드에서 상태를 바이트 배열로 복사 (GameService.checkpointTables)
+ *   -> 모든 테이블을 한꺼번에 멈추지 않고, 저널 fsync 와 파일 쓰기는 체크포인트 스레드에서
+ * - 각 테이블에는 반영된 마지막 저널 순번이 들어 있어서, 복구 시 그 뒤의 기록만 재생
+ *
+ * 파일 구조 (checkpoint-<순번>.bin, big-endian)
+ * [magic 4][format version 4][createdAt millis 8][table count 4] ([length 4][Table.checkpoint() bytes])* [crc32c 4]
+ * - 임시 파일에 다 쓴 뒤 이름을 바꾸므로 쓰다 만 파일이 최신으로 보이지 않음
+ * - 최근 retained 개만 남기고, 최신 파일이 깨졌으면 그 이전 파일을 읽음
+ */
+public class TableCheckpointer implements AutoCloseable {
+
+    private static final int MAGIC = 0x484B4350; // "HKCP"
+    private static final int FORMAT_VERSION = 1;
+    private static final String PREFIX = "checkpoint-";
+    private static final String SUFFIX = ".bin";
+    private static final int HEADER_BYTES = 20;
+
+    private final Path directory;
+    private final int retained;
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+        Thread thread = new Thread(r, "table-checkpointer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public TableCheckpointer(Path directory, int retained) {
+        if (retained < 1) {
+            throw new IllegalArgumentException("보관할 체크포인트 수는 1 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.retained = retained;
+    }
+
+    // interval 마다 전체 테이블 체크포인트 (앞선 체크포인트가 끝난 뒤부터 잰)
+    public void start(GameService gameService, Duration interval) {
+        long millis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                checkpoint(gameService);
+            } catch (RuntimeException | IOException e) {
+                // 다음 주기에 다시 시도 (이전 체크포인트 + 저널로 복구 가능)
+                System.err.println("체크포인트 실패: " + e);
+            }
+        }, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    // 상태 복사 -> 복사본에 담긴 순번까지 저널 fsync -> 파일 기록 (fsync 는 이 스레드에서, 테이블 실행 스레드를 막지 않음)
+    public Path checkpoint(GameService gameService) throws IOException {
+        List<byte[]> tables = gameService.checkpointTables().join();
+        gameService.flushJournal();
+        return write(tables);
+    }
+
+    // 새 체크포인트 파일 기록 후 오래된 파일 정리
+    public Path write(List<byte[]> tables) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> existing = list();
+        long next = existing.isEmpty() ? 1 : indexOf(existing.get(existing.size() - 1)) + 1;
+        Path target = directory.resolve(String.format(PREFIX + "%012d" + SUFFIX, next));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+
+        CRC32C crc = new CRC32C();
+        try (FileOutputStream file = new FileOutputStream(temp.toFile());
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new CheckedOutputStream(file, crc), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeLong(System.currentTimeMillis());
+            out.writeInt(tables.size());
+            for (byte[] table : tables) {
+                out.writeInt(table.length);
+                out.write(table);
+            }
+            out.flush();
+            new DataOutputStream(file).writeInt((int) crc.getValue()); // crc 는 체크섬 범위 밖
+            file.getFD().sync(); // 이름을 바꾸기 전에 내용이 디스크에 있어야 이전 파일을 지울 수 있음
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+
+        existing.add(target);
+        for (int i = 0; i < existing.size() - retained; i++) {
+            Files.deleteIfExists(existing.get(i));
+        }
+        return target;
+    }
+
+    // 읽을 수 있는 가장 최근 체크포인트 (없으면 빈 목록)
+    public List<byte[]> loadLatest() throws IOException {
+        if (!Files.isDirectory(directory)) return List.of();
+        List<Path> files = list();
+        for (int i = files.size() - 1; i >= 0; i--) {
+            List<byte[]> tables = read(files.get(i));
+            if (tables != null) return tables;
+            System.err.println("손상된 체크포인트를 건너뜁니다: " + files.get(i));
+        }
+        return List.of();
+    }
+
+    // 형식이 다르거나 CRC 가 맞지 않으면 null
+    private static List<byte[]> read(Path file) throws IOException {
+        long size = Files.size(file);
+        CRC32C crc = new CRC32C();
+        try (InputStream raw = new BufferedInputStream(Files.newInputStream(file), 1 << 16)) {
+            DataInputStream in = new DataInputStream(new CheckedInputStream(raw, crc));
+            if (size < HEADER_BYTES + 4 || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) return null;
+            in.readLong(); // createdAt
+            int count = in.readInt();
+            long remaining = size - HEADER_BYTES;
+            List<byte[]> tables = new ArrayList<>(Math.max(0, Math.min(count, (int) (remaining / 4))));
+            for (int i = 0; i < count; i++) {
+                int length = in.readInt();
+                remaining -= 4;
+                if (length < 0 || length > remaining - 4) return null;
+                byte[] table = new byte[length];
+                in.readFully(table);
+                remaining -= length;
+                tables.add(table);
+            }
+            int expected = (int) crc.getValue();
+            return remaining == 4 && new DataInputStream(raw).readInt() == expected ? tables : null;
+        } catch (EOFException e) {
+            return null;
+        }
+    }
+
+    private List<Path> list() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return new ArrayList<>(files
+                    .filter(p -> p.getFileName().toString().matches(PREFIX + "\\d{12}" + SUFFIX.replace(".", "\\.")))
+                    .sorted()
+                    .toList());
+        }
+    }
+
+    private static long indexOf(Path file) {
+        String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(PREFIX.length(), name.length() - SUFFIX.length()));
+    }
+
+    @Override
+    public void close() {
+        scheduler.shutdown();
+    }
+}
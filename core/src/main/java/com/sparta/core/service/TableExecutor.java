@@ -0,0 +1,27 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.Table;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * 테이블 상태를 바꾸는 명령(입장, 시작, 액션, 다음 스트리트)의 실행 방식
+ * - 같은 테이블의 명령은 제출 순서대로 하나씩 실행됨을 보장해야 합니다.
+ * - 결과/예외는 CompletableFuture 로 돌려줍니다.
+ */
+public interface TableExecutor extends AutoCloseable {
+
+    <T> CompletableFuture<T> submit(Table table, Supplier<T> command);
+
+    default CompletableFuture<Void> run(Table table, Runnable command) {
+        return submit(table, () -> {
+            command.run();
+            return null;
+        });
+    }
+
+    @Override
+    default void close() {
+    }
+}
@@ -0,0 +1,46 @@
+package com.sparta.core.service;
+
+import com.sparta.core.domain.CardSet;
+import com.sparta.core.domain.Table;
+import com.sparta.core.domain.TableSnapshot;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 승률 계산용으로 테이블 스냅샷에서 복사해 온 손패/바닥 카드
+ * - 마지막으로 커밋된 스냅샷을 읽으므로 락이 필요 없음
+ */
+final class TableHands {
+    final String[] playerIds;
+    final long[] holeCards;
+    final long board;
+
+    private TableHands(String[] playerIds, long[] holeCards, long board) {
+        this.playerIds = playerIds;
+        this.holeCards = holeCards;
+        this.board = board;
+    }
+
+    // 폴드하지 않고 카드를 받은 플레이어만 복사
+    static TableHands capture(Table table) {
+        return capture(table.getSnapshot());
+    }
+
+    static TableHands capture(TableSnapshot snapshot) {
+        List<TableSnapshot.PlayerSnapshot> active = new ArrayList<>();
+        for (TableSnapshot.PlayerSnapshot player : snapshot.getPlayers()) {
+            if (!player.isFolded() && player.getHoleCardSet() != CardSet.EMPTY) {
+                active.add(player);
+            }
+        }
+
+        String[] playerIds = new String[active.size()];
+        long[] holeCards = new long[active.size()];
+        for (int i = 0; i < playerIds.length; i++) {
+            playerIds[i] = active.get(i).getId();
+            holeCards[i] = active.get(i).getHoleCardSet();
+        }
+        return new TableHands(playerIds, holeCards, snapshot.getCommunityCardSet());
+    }
+}